@@ -18,7 +18,6 @@ package org.eclipse.jnosql.communication.column;
 
 
 import static java.util.Arrays.asList;
-import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
 abstract class BaseQueryBuilder {
@@ -29,7 +28,7 @@ abstract class BaseQueryBuilder {
 
     protected boolean and;
 
-    protected ColumnCondition condition;
+    protected final ColumnConditionBuilder conditions = ColumnCondition.builder();
 
     protected <T> void eqImpl(T value) {
         requireNonNull(value, "value is required");
@@ -85,14 +84,10 @@ abstract class BaseQueryBuilder {
 
         ColumnCondition columnCondition = getColumnCondition(newCondition);
 
-        if (nonNull(condition)) {
-            if (and) {
-                this.condition = condition.and(columnCondition);
-            } else {
-                this.condition = condition.or(columnCondition);
-            }
+        if (and) {
+            this.conditions.and(columnCondition);
         } else {
-            this.condition = columnCondition;
+            this.conditions.or(columnCondition);
         }
         this.negate = false;
         this.name = null;
@@ -0,0 +1,110 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+
+import jakarta.data.exceptions.NonUniqueResultException;
+import org.eclipse.jnosql.communication.ParamSlots;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+
+/**
+ * The parameters values of a single execution of a {@link ColumnCompiledStatement}.
+ * The values are kept in an array indexed by the parameter position, this instance is not thread-safe.
+ *
+ * @see ColumnCompiledStatement#bind()
+ */
+public final class ColumnBinding {
+
+    private final ColumnCompiledStatement statement;
+
+    private final ParamSlots slots;
+
+    private final Object[] values;
+
+    ColumnBinding(ColumnCompiledStatement statement, ParamSlots slots) {
+        this.statement = statement;
+        this.slots = slots;
+        this.values = new Object[slots.size()];
+    }
+
+    /**
+     * Binds an argument to all the positions of the parameter name.
+     *
+     * @param name  the parameter name
+     * @param value the parameter value
+     * @return the same binding instance
+     * @throws NullPointerException when there is null parameter
+     */
+    public ColumnBinding bind(String name, Object value) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(value, "value is required");
+        for (int position : slots.positions(name)) {
+            values[position] = value;
+        }
+        return this;
+    }
+
+    /**
+     * Binds an argument to a parameter position.
+     *
+     * @param position the parameter position, starting from zero
+     * @param value    the parameter value
+     * @return the same binding instance
+     * @throws NullPointerException      when value is null
+     * @throws IndexOutOfBoundsException when the position is invalid
+     */
+    public ColumnBinding bind(int position, Object value) {
+        Objects.requireNonNull(value, "value is required");
+        Objects.checkIndex(position, values.length);
+        values[position] = value;
+        return this;
+    }
+
+    /**
+     * Executes a query and return the result as {@link Stream}
+     *
+     * @return The result stream, if delete it will return an empty list
+     * @throws org.eclipse.jnosql.communication.QueryException when there is a parameter without value
+     */
+    public Stream<ColumnEntity> result() {
+        return statement.result(values.clone());
+    }
+
+    /**
+     * Returns the result as a single element otherwise it will return an {@link Optional#empty()}
+     *
+     * @return the single result
+     * @throws NonUniqueResultException when the result has more than one entity
+     */
+    public Optional<ColumnEntity> singleResult() {
+        Stream<ColumnEntity> entities = result();
+        final Iterator<ColumnEntity> iterator = entities.iterator();
+        if (!iterator.hasNext()) {
+            return Optional.empty();
+        }
+        final ColumnEntity next = iterator.next();
+        if (!iterator.hasNext()) {
+            return Optional.of(next);
+        }
+        throw new NonUniqueResultException("The select returns more than one entity, select: " + statement);
+    }
+}
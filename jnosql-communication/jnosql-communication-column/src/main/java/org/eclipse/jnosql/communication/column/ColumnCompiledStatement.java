@@ -0,0 +1,122 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+
+import org.eclipse.jnosql.communication.ParamSlots;
+import org.eclipse.jnosql.communication.column.ColumnPreparedStatement.PreparedStatementType;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+
+/**
+ * An immutable and thread-safe query statement that is parsed and translated once.
+ * Unlike {@link ColumnPreparedStatement}, the parameters values are not kept in the statement,
+ * each execution creates a {@link ColumnBinding} with its own values, so the same compiled statement
+ * might be cached and shared by several threads.
+ *
+ * @see ColumnManager#compile(String)
+ */
+public final class ColumnCompiledStatement {
+
+    private final ColumnEntity entity;
+
+    private final ColumnQuery columnQuery;
+
+    private final ColumnDeleteQuery columnDeleteQuery;
+
+    private final PreparedStatementType type;
+
+    private final ParamSlots slots;
+
+    private final ColumnParamsResolver resolver;
+
+    private final String query;
+
+    private final Duration duration;
+
+    private final ColumnManager manager;
+
+    ColumnCompiledStatement(ColumnEntity entity,
+                              ColumnQuery columnQuery,
+                              ColumnDeleteQuery columnDeleteQuery,
+                              PreparedStatementType type,
+                              ParamSlots slots,
+                              String query,
+                              Duration duration,
+                              ColumnManager manager) {
+        this.entity = entity;
+        this.columnQuery = columnQuery;
+        this.columnDeleteQuery = columnDeleteQuery;
+        this.type = type;
+        this.slots = slots;
+        this.resolver = ColumnParamsResolver.of(slots);
+        this.query = query;
+        this.duration = duration;
+        this.manager = manager;
+    }
+
+    /**
+     * Returns the parameters name, where the index is the parameter position.
+     *
+     * @return the parameters name
+     */
+    public List<String> parameters() {
+        return slots.names();
+    }
+
+    /**
+     * Creates a new binding to execute this statement, the binding is cheap and should not be shared across threads.
+     *
+     * @return a new {@link ColumnBinding} instance
+     */
+    public ColumnBinding bind() {
+        return new ColumnBinding(this, slots);
+    }
+
+    Stream<ColumnEntity> result(Object[] values) {
+        slots.validate(values);
+        switch (type) {
+            case SELECT -> {
+                return manager.select(resolver.resolve(columnQuery, values));
+            }
+            case DELETE -> {
+                manager.delete(resolver.resolve(columnDeleteQuery, values));
+                return Stream.empty();
+            }
+            case UPDATE -> {
+                return Stream.of(manager.update(resolver.resolve(entity, values)));
+            }
+            case INSERT -> {
+                if (Objects.isNull(duration)) {
+                    return Stream.of(manager.insert(resolver.resolve(entity, values)));
+                } else {
+                    return Stream.of(manager.insert(resolver.resolve(entity, values), duration));
+                }
+            }
+            default -> throw new UnsupportedOperationException("there is not support to operation type: " + type);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return query;
+    }
+}
@@ -164,6 +164,16 @@ public final class ColumnCondition {
                 '}';
     }
 
+    /**
+     * Creates a builder that appends conditions as AND or OR without copying the previous conditions
+     * at each append, which is the option to build a condition with many terms.
+     *
+     * @return a new {@link ColumnConditionBuilder} instance
+     */
+    public static ColumnConditionBuilder builder() {
+        return new ColumnConditionBuilder();
+    }
+
     public static ColumnCondition readOnly(ColumnCondition condition) {
         requireNonNull(condition, "condition is required");
         return new ColumnCondition(condition.column(), condition.condition(), true);
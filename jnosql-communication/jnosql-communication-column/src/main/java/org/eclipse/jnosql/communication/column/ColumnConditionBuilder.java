@@ -0,0 +1,127 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.TypeReference;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A mutable builder that appends conditions as {@link Condition#AND} or {@link Condition#OR}, in the same shape
+ * as {@link ColumnCondition#and(ColumnCondition)} and {@link ColumnCondition#or(ColumnCondition)}:
+ * the conditions appended with the same operator are grouped at the same node, and a different operator
+ * wraps the previous conditions as its first element.
+ * Unlike those methods, each append is a single list insertion instead of a copy of the whole node,
+ * and the {@link ColumnCondition} is created once at {@link #build()}.
+ * This class is not thread-safe.
+ *
+ * @see ColumnCondition#builder()
+ */
+public final class ColumnConditionBuilder {
+
+    private ColumnCondition condition;
+
+    private Condition operator;
+
+    private List<ColumnCondition> conditions;
+
+    ColumnConditionBuilder() {
+    }
+
+    /**
+     * Appends the condition using the {@link Condition#AND}
+     *
+     * @param condition the condition to be appended
+     * @return this builder
+     * @throws NullPointerException when the condition is null
+     */
+    public ColumnConditionBuilder and(ColumnCondition condition) {
+        return append(Condition.AND, condition);
+    }
+
+    /**
+     * Appends the condition using the {@link Condition#OR}
+     *
+     * @param condition the condition to be appended
+     * @return this builder
+     * @throws NullPointerException when the condition is null
+     */
+    public ColumnConditionBuilder or(ColumnCondition condition) {
+        return append(Condition.OR, condition);
+    }
+
+    /**
+     * Checks if there is no condition appended
+     *
+     * @return true when there is no condition
+     */
+    public boolean isEmpty() {
+        return condition == null && operator == null;
+    }
+
+    /**
+     * Creates the {@link ColumnCondition} from the appended conditions, where the builder might keep appending
+     * conditions after it.
+     *
+     * @return the condition or {@link Optional#empty()} when there is no condition
+     */
+    public Optional<ColumnCondition> build() {
+        if (operator != null) {
+            this.condition = ColumnCondition.of(Column.of(operator.getNameField(), conditions), operator);
+            this.operator = null;
+            this.conditions = null;
+        }
+        return Optional.ofNullable(condition);
+    }
+
+    private ColumnConditionBuilder append(Condition operator, ColumnCondition condition) {
+        requireNonNull(condition, "condition is required");
+        if (operator.equals(this.operator)) {
+            this.conditions.add(condition);
+            return this;
+        }
+        ColumnCondition previous = build().orElse(null);
+        if (previous == null) {
+            this.condition = condition;
+            return this;
+        }
+        this.conditions = new ArrayList<>();
+        if (operator.equals(previous.condition())) {
+            this.conditions.addAll(previous.column().get(new TypeReference<List<ColumnCondition>>() {
+            }));
+        } else {
+            this.conditions.add(previous);
+        }
+        this.conditions.add(condition);
+        this.operator = operator;
+        this.condition = null;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnConditionBuilder{" + "condition=" + condition +
+                ", operator=" + operator +
+                ", conditions=" + conditions +
+                '}';
+    }
+}
@@ -0,0 +1,378 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.TypeReference;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A rewrite pass over a {@link ColumnCondition} tree that returns an equivalent predicate with fewer terms,
+ * thus the driver receives a smaller and index-friendly condition:
+ * <ul>
+ *     <li>It flattens the nested AND or OR, e.g., {@code a AND (b AND c)} to {@code a AND b AND c}</li>
+ *     <li>It removes the double negation, e.g., {@code NOT(NOT a)} to {@code a}</li>
+ *     <li>It removes the duplicated terms, e.g., {@code a AND a} to {@code a}</li>
+ *     <li>It merges the equals and the in of the same column at OR,
+ *     e.g., {@code a = 1 OR a = 2} to {@code a IN (1, 2)}</li>
+ *     <li>It folds the inclusive ranges of the same column at AND into one BETWEEN,
+ *     e.g., {@code a >= 1 AND a <= 10 AND a >= 5} to {@code a BETWEEN 5 AND 10},
+ *     and it keeps only the narrowest of the duplicated strict ranges</li>
+ *     <li>It drops the tautologies, e.g., {@code a OR NOT a}</li>
+ * </ul>
+ * The ranges are folded only when the values are {@link Comparable} of the same type.
+ * It is optional: either call it with a query or decorate the manager with {@link #decorate(ColumnManager)},
+ * then every query of that manager is rewritten before it reaches the driver.
+ */
+public enum ColumnConditionOptimizer {
+
+    INSTANCE;
+
+    /**
+     * Rewrites the condition.
+     *
+     * @param condition the condition
+     * @return the rewritten condition or {@link Optional#empty()} when the condition is always true
+     * @throws NullPointerException when the condition is null
+     */
+    public Optional<ColumnCondition> optimize(ColumnCondition condition) {
+        requireNonNull(condition, "condition is required");
+        return Optional.ofNullable(rewrite(condition));
+    }
+
+    /**
+     * Creates a query with the rewritten condition.
+     *
+     * @param query the query
+     * @return the query with the rewritten condition or the same query when there is no condition
+     * @throws NullPointerException when the query is null
+     */
+    public ColumnQuery optimize(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        Optional<ColumnCondition> condition = query.condition();
+        if (condition.isEmpty()) {
+            return query;
+        }
+        return new DefaultColumnQuery(query.limit(), query.skip(), query.name(), query.columns(),
+                query.sorts(), condition.flatMap(this::optimize).orElse(null));
+    }
+
+    /**
+     * Creates a delete query with the rewritten condition.
+     *
+     * @param query the query
+     * @return the query with the rewritten condition or the same query when there is no condition
+     * @throws NullPointerException when the query is null
+     */
+    public ColumnDeleteQuery optimize(ColumnDeleteQuery query) {
+        requireNonNull(query, "query is required");
+        Optional<ColumnCondition> condition = query.condition();
+        if (condition.isEmpty()) {
+            return query;
+        }
+        return new DefaultColumnDeleteQuery(query.name(), condition.flatMap(this::optimize).orElse(null),
+                query.columns());
+    }
+
+    /**
+     * Decorates the manager, thus it rewrites the condition of each select, count and delete query
+     * before calling the manager.
+     *
+     * @param manager the manager
+     * @return the decorated manager
+     * @throws NullPointerException when the manager is null
+     */
+    public ColumnManager decorate(ColumnManager manager) {
+        requireNonNull(manager, "manager is required");
+        return new OptimizedColumnManager(manager, this);
+    }
+
+    /**
+     * Returns null when the condition is always true.
+     */
+    private ColumnCondition rewrite(ColumnCondition condition) {
+        return switch (condition.condition()) {
+            case NOT -> not(condition);
+            case AND -> and(condition);
+            case OR -> or(condition);
+            default -> condition;
+        };
+    }
+
+    private ColumnCondition not(ColumnCondition condition) {
+        ColumnCondition negated = rewrite(condition.column().get(ColumnCondition.class));
+        if (negated == null) {
+            return condition;
+        }
+        if (Condition.NOT.equals(negated.condition())) {
+            return negated.column().get(ColumnCondition.class);
+        }
+        return ColumnCondition.of(Column.of(Condition.NOT.getNameField(), negated), Condition.NOT);
+    }
+
+    private ColumnCondition and(ColumnCondition condition) {
+        Set<ColumnCondition> terms = new LinkedHashSet<>();
+        for (ColumnCondition child : children(condition)) {
+            ColumnCondition term = rewrite(child);
+            if (term != null) {
+                append(terms, term, Condition.AND);
+            }
+        }
+        return join(ranges(terms), Condition.AND);
+    }
+
+    private ColumnCondition or(ColumnCondition condition) {
+        Set<ColumnCondition> terms = new LinkedHashSet<>();
+        for (ColumnCondition child : children(condition)) {
+            ColumnCondition term = rewrite(child);
+            if (term == null) {
+                return null;
+            }
+            append(terms, term, Condition.OR);
+        }
+        for (ColumnCondition term : terms) {
+            if (Condition.NOT.equals(term.condition())
+                    && terms.contains(term.column().get(ColumnCondition.class))) {
+                return null;
+            }
+        }
+        return join(in(terms), Condition.OR);
+    }
+
+    private static void append(Set<ColumnCondition> terms, ColumnCondition term, Condition operator) {
+        if (operator.equals(term.condition())) {
+            terms.addAll(children(term));
+        } else {
+            terms.add(term);
+        }
+    }
+
+    private static ColumnCondition join(List<ColumnCondition> terms, Condition operator) {
+        if (terms.isEmpty()) {
+            return null;
+        } else if (terms.size() == 1) {
+            return terms.get(0);
+        }
+        ColumnCondition[] conditions = terms.toArray(ColumnCondition[]::new);
+        return Condition.AND.equals(operator) ? ColumnCondition.and(conditions) : ColumnCondition.or(conditions);
+    }
+
+    /**
+     * Merges the equals and in of the same column into a single in, at the position of the first one.
+     */
+    private static List<ColumnCondition> in(Set<ColumnCondition> terms) {
+        Map<String, Set<Object>> values = new LinkedHashMap<>();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (ColumnCondition term : terms) {
+            if (isIn(term)) {
+                String name = term.column().name();
+                counts.merge(name, 1, Integer::sum);
+                Set<Object> group = values.computeIfAbsent(name, k -> new LinkedHashSet<>());
+                Object value = term.column().get();
+                if (Condition.IN.equals(term.condition())) {
+                    ((Iterable<?>) value).forEach(group::add);
+                } else {
+                    group.add(value);
+                }
+            }
+        }
+        List<ColumnCondition> result = new ArrayList<>();
+        for (ColumnCondition term : terms) {
+            if (!isIn(term) || counts.get(term.column().name()) == 1) {
+                result.add(term);
+                continue;
+            }
+            Set<Object> group = values.remove(term.column().name());
+            if (group != null) {
+                result.add(ColumnCondition.in(Column.of(term.column().name(), new ArrayList<>(group))));
+            }
+        }
+        return result;
+    }
+
+    private static boolean isIn(ColumnCondition term) {
+        return Condition.EQUALS.equals(term.condition())
+                || (Condition.IN.equals(term.condition()) && term.column().get() instanceof Iterable);
+    }
+
+    /**
+     * Folds the ranges of the same column, at the position of the first one.
+     */
+    private static List<ColumnCondition> ranges(Set<ColumnCondition> terms) {
+        Map<String, Range> ranges = new LinkedHashMap<>();
+        for (ColumnCondition term : terms) {
+            Range.bounds(term).ifPresent(bounds -> ranges.computeIfAbsent(term.column().name(), Range::new)
+                    .add(term, bounds));
+        }
+        ranges.values().removeIf(range -> !range.isFoldable());
+        List<ColumnCondition> result = new ArrayList<>();
+        for (ColumnCondition term : terms) {
+            Range range = ranges.get(term.column().name());
+            if (range == null || !range.contains(term)) {
+                result.add(term);
+            } else if (range.isFirst(term)) {
+                result.addAll(range.fold());
+            }
+        }
+        return result;
+    }
+
+    private static List<ColumnCondition> children(ColumnCondition condition) {
+        return condition.column().get(new TypeReference<List<ColumnCondition>>() {
+        });
+    }
+
+    /**
+     * The ranges of a column at the same AND.
+     */
+    private static final class Range {
+
+        private final String name;
+
+        private final List<ColumnCondition> terms = new ArrayList<>();
+
+        private Object lower;
+
+        private Object upper;
+
+        private Object greater;
+
+        private Object lesser;
+
+        private int inclusive;
+
+        private int greaterCount;
+
+        private int lesserCount;
+
+        private boolean comparable = true;
+
+        private Range(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the values of the range as lower, upper, greater than and lesser than.
+         */
+        private static Optional<Object[]> bounds(ColumnCondition term) {
+            Object value = term.column().get();
+            return switch (term.condition()) {
+                case GREATER_EQUALS_THAN -> Optional.of(new Object[]{value, null, null, null});
+                case LESSER_EQUALS_THAN -> Optional.of(new Object[]{null, value, null, null});
+                case GREATER_THAN -> Optional.of(new Object[]{null, null, value, null});
+                case LESSER_THAN -> Optional.of(new Object[]{null, null, null, value});
+                case BETWEEN -> between(value);
+                default -> Optional.empty();
+            };
+        }
+
+        private static Optional<Object[]> between(Object value) {
+            if (!(value instanceof Iterable<?> iterable)) {
+                return Optional.empty();
+            }
+            List<Object> values = new ArrayList<>(2);
+            iterable.forEach(values::add);
+            return values.size() == 2 ? Optional.of(new Object[]{values.get(0), values.get(1), null, null})
+                    : Optional.empty();
+        }
+
+        private void add(ColumnCondition term, Object[] bounds) {
+            terms.add(term);
+            if (bounds[0] != null || bounds[1] != null) {
+                inclusive++;
+            }
+            lower = max(lower, bounds[0]);
+            upper = min(upper, bounds[1]);
+            if (bounds[2] != null) {
+                greaterCount++;
+                greater = max(greater, bounds[2]);
+            }
+            if (bounds[3] != null) {
+                lesserCount++;
+                lesser = min(lesser, bounds[3]);
+            }
+        }
+
+        private boolean isFoldable() {
+            return comparable && (inclusive > 1 || greaterCount > 1 || lesserCount > 1);
+        }
+
+        private boolean contains(ColumnCondition term) {
+            return terms.contains(term);
+        }
+
+        private boolean isFirst(ColumnCondition term) {
+            return terms.get(0).equals(term);
+        }
+
+        private List<ColumnCondition> fold() {
+            List<ColumnCondition> result = new ArrayList<>();
+            if (lower != null && upper != null) {
+                result.add(ColumnCondition.between(Column.of(name, List.of(lower, upper))));
+            } else if (lower != null) {
+                result.add(ColumnCondition.gte(Column.of(name, lower)));
+            } else if (upper != null) {
+                result.add(ColumnCondition.lte(Column.of(name, upper)));
+            }
+            if (greater != null) {
+                result.add(ColumnCondition.gt(Column.of(name, greater)));
+            }
+            if (lesser != null) {
+                result.add(ColumnCondition.lt(Column.of(name, lesser)));
+            }
+            return result;
+        }
+
+        private Object max(Object current, Object value) {
+            if (value == null) {
+                return current;
+            } else if (current == null) {
+                comparable &= value instanceof Comparable;
+                return value;
+            }
+            return compare(current, value) >= 0 ? current : value;
+        }
+
+        private Object min(Object current, Object value) {
+            if (value == null) {
+                return current;
+            } else if (current == null) {
+                comparable &= value instanceof Comparable;
+                return value;
+            }
+            return compare(current, value) <= 0 ? current : value;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private int compare(Object current, Object value) {
+            if (!comparable || !(value instanceof Comparable) || !current.getClass().equals(value.getClass())) {
+                comparable = false;
+                return 0;
+            }
+            return ((Comparable) current).compareTo(value);
+        }
+    }
+}
@@ -18,6 +18,8 @@ package org.eclipse.jnosql.communication.column;
 
 
 import jakarta.data.exceptions.NonUniqueResultException;
+import org.eclipse.jnosql.communication.Aggregation;
+import org.eclipse.jnosql.communication.Value;
 
 import java.time.Duration;
 import java.util.Iterator;
@@ -124,24 +126,55 @@ public interface ColumnManager extends AutoCloseable {
 
     /**
      * Returns the number of items in the column family that match a specified query.
+     * By default, it selects a single column of each entity, the first one either selected or at the condition,
+     * and counts them on the client side, thus the implementations should override it when the database can count
+     * by itself.
      * @param query the query
      * @return the number of documents from query
      * @throws NullPointerException when query is null
      */
     default long count(ColumnQuery query) {
         Objects.requireNonNull(query, "query is required");
-        return this.select(DefaultColumnQuery.countBy(query)).count();
+        try (Stream<ColumnEntity> entities = this.select(DefaultColumnQuery.countBy(query))) {
+            return entities.count();
+        }
     }
 
     /**
      * Returns whether an entity that match a specified query.
+     * By default, it selects a single column of at most one entity, thus the implementations should override it
+     * when the database can check it by itself.
      * @param query the query
      * @return true if an entity with the given query exists, false otherwise.
      * @throws NullPointerException when query it null
      */
     default boolean exists(ColumnQuery query) {
         Objects.requireNonNull(query, "query is required");
-        return this.select(DefaultColumnQuery.existsBy(query)).findAny().isPresent();
+        try (Stream<ColumnEntity> entities = this.select(DefaultColumnQuery.existsBy(query))) {
+            return entities.findAny().isPresent();
+        }
+    }
+
+    /**
+     * Returns the aggregation of a field from the entities that match a specified query, such as the
+     * {@link Aggregation#MIN}, {@link Aggregation#MAX} and {@link Aggregation#SUM}.
+     * By default, it selects only the field and aggregates the values on the client side, thus the implementations
+     * should override it when the database can aggregate by itself, as well as {@link ColumnManager#count(ColumnQuery)}
+     * and {@link ColumnManager#exists(ColumnQuery)}.
+     *
+     * @param query       the query
+     * @param aggregation the aggregation
+     * @param name        the field name
+     * @return the result or {@link Optional#empty()} when there is no value to the field
+     * @throws NullPointerException when there is null parameter
+     */
+    default Optional<Value> aggregate(ColumnQuery query, Aggregation aggregation, String name) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(aggregation, "aggregation is required");
+        Objects.requireNonNull(name, "name is required");
+        try (Stream<ColumnEntity> entities = this.select(DefaultColumnQuery.aggregateBy(query, name))) {
+            return aggregation.apply(entities.map(e -> e.find(name).map(Column::get).orElse(null)));
+        }
     }
 
     /**
@@ -175,6 +208,21 @@ public interface ColumnManager extends AutoCloseable {
         return parser.prepare(query, this, ColumnObserverParser.EMPTY);
     }
 
+    /**
+     * Parses and translates a query once and returns a {@link ColumnCompiledStatement},
+     * unlike {@link ColumnManager#prepare(String)} the result is immutable and might be cached and shared across threads.
+     *
+     * @param query the query as {@link String}
+     * @return a {@link ColumnCompiledStatement} instance
+     * @throws NullPointerException  when there is parameter null
+     * @throws IllegalStateException when there is not {@link ColumnQueryParser}
+     */
+    default ColumnCompiledStatement compile(String query) {
+        Objects.requireNonNull(query, "query is required");
+        ColumnQueryParser parser = new ColumnQueryParser();
+        return parser.compile(query, this, ColumnObserverParser.EMPTY);
+    }
+
     /**
      * Returns a single entity from select
      *
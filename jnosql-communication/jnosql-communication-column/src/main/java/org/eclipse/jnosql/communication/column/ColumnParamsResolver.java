@@ -0,0 +1,145 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.ParamSlots;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * Replaces the parameters of a translated query with the values indexed by the {@link ParamSlots} positions.
+ * The query template is never changed, each call returns a new instance, so the template might be shared across
+ * threads.
+ */
+public final class ColumnParamsResolver {
+
+    private final ParamSlots slots;
+
+    private ColumnParamsResolver(ParamSlots slots) {
+        this.slots = slots;
+    }
+
+    /**
+     * @return the parameters slots
+     */
+    public ParamSlots slots() {
+        return slots;
+    }
+
+    /**
+     * Returns the query with the parameters replaced, when there is no parameter it returns the same instance.
+     *
+     * @param query  the query template
+     * @param values the values indexed by position
+     * @return the query with the values
+     * @throws NullPointerException when there is null parameter
+     */
+    public ColumnQuery resolve(ColumnQuery query, Object[] values) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(values, "values is required");
+        if (slots.isEmpty()) {
+            return query;
+        }
+        ColumnCondition condition = query.condition().map(c -> resolve(c, values)).orElse(null);
+        return new DefaultColumnQuery(query.limit(), query.skip(), query.name(), query.columns(),
+                query.sorts(), condition);
+    }
+
+    /**
+     * Returns the delete query with the parameters replaced, when there is no parameter it returns the same instance.
+     *
+     * @param query  the query template
+     * @param values the values indexed by position
+     * @return the query with the values
+     * @throws NullPointerException when there is null parameter
+     */
+    public ColumnDeleteQuery resolve(ColumnDeleteQuery query, Object[] values) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(values, "values is required");
+        if (slots.isEmpty()) {
+            return query;
+        }
+        ColumnCondition condition = query.condition().map(c -> resolve(c, values)).orElse(null);
+        return new DefaultColumnDeleteQuery(query.name(), condition, query.columns());
+    }
+
+    /**
+     * Returns a new entity with the parameters replaced, it always creates a new instance because
+     * {@link ColumnEntity} is mutable.
+     *
+     * @param entity the entity template
+     * @param values the values indexed by position
+     * @return a new entity with the values
+     * @throws NullPointerException when there is null parameter
+     */
+    public ColumnEntity resolve(ColumnEntity entity, Object[] values) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(values, "values is required");
+        ColumnEntity resolved = ColumnEntity.of(entity.name());
+        for (Column column : entity.columns()) {
+            resolved.add(Column.of(column.name(), slots.resolve(column.value(), values)));
+        }
+        return resolved;
+    }
+
+    /**
+     * Returns the condition with the parameters replaced, including the nested conditions.
+     *
+     * @param condition the condition template
+     * @param values    the values indexed by position
+     * @return the condition with the values
+     * @throws NullPointerException when there is null parameter
+     */
+    public ColumnCondition resolve(ColumnCondition condition, Object[] values) {
+        Objects.requireNonNull(condition, "condition is required");
+        Objects.requireNonNull(values, "values is required");
+        Column column = condition.column();
+        Condition operator = condition.condition();
+        if (Condition.AND.equals(operator) || Condition.OR.equals(operator)) {
+            List<ColumnCondition> conditions = new ArrayList<>();
+            for (Object element : (Iterable<?>) column.get()) {
+                conditions.add(resolve((ColumnCondition) element, values));
+            }
+            return ColumnCondition.of(Column.of(column.name(), conditions), operator);
+        } else if (Condition.NOT.equals(operator)) {
+            ColumnCondition negated = resolve((ColumnCondition) column.get(), values);
+            return ColumnCondition.of(Column.of(column.name(), negated), operator);
+        }
+        Value value = slots.resolve(column.value(), values);
+        if (value == column.value()) {
+            return condition;
+        }
+        return ColumnCondition.of(Column.of(column.name(), value), operator);
+    }
+
+    /**
+     * Creates a resolver to the parameters slots
+     *
+     * @param slots the parameters slots
+     * @return a {@link ColumnParamsResolver} instance
+     * @throws NullPointerException when slots is null
+     */
+    public static ColumnParamsResolver of(ParamSlots slots) {
+        return new ColumnParamsResolver(Objects.requireNonNull(slots, "slots is required"));
+    }
+}
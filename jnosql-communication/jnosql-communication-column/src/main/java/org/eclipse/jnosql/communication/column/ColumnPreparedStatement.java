@@ -135,6 +135,17 @@ public final class ColumnPreparedStatement {
         throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
     }
 
+    /**
+     * Creates an immutable {@link ColumnCompiledStatement} from the query translated by this statement,
+     * the values already bound at this statement are ignored.
+     *
+     * @return a {@link ColumnCompiledStatement} instance
+     */
+    ColumnCompiledStatement compile() {
+        return new ColumnCompiledStatement(entity, columnQuery, columnDeleteQuery, type, params.slots(),
+                query, duration, manager);
+    }
+
     enum PreparedStatementType {
         SELECT, DELETE, UPDATE, INSERT
     }
@@ -82,6 +82,20 @@ public final class ColumnQueryParser {
         };
     }
 
+    /**
+     * Parses and translates a query once and returns a {@link ColumnCompiledStatement}, that is immutable and
+     * might be shared across threads.
+     *
+     * @param query    the query as {@link String}
+     * @param manager  the manager
+     * @param observer the observer
+     * @return a {@link ColumnCompiledStatement} instance
+     * @throws NullPointerException when there is parameter null
+     * @throws QueryException       when there is error in the syntax
+     */
+    public ColumnCompiledStatement compile(String query, ColumnManager manager, ColumnObserverParser observer) {
+        return prepare(query, manager, observer).compile();
+    }
 
     private void validation(String query, ColumnManager manager, ColumnObserverParser observer) {
         Objects.requireNonNull(query, "query is required");
@@ -19,6 +19,7 @@ package org.eclipse.jnosql.communication.column;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.TypeReference;
 
 import java.util.Collections;
 import java.util.List;
@@ -74,12 +75,53 @@ record DefaultColumnQuery(long limit, long skip, String name,
 
 
     static ColumnQuery countBy(ColumnQuery query) {
-        return new DefaultColumnQuery(0, 0, query.name(), query.columns(),
+        return key(query).map(name -> countBy(query, name))
+                .orElseGet(() -> new DefaultColumnQuery(0, 0, query.name(), query.columns(),
+                        Collections.emptyList(), query.condition().orElse(null)));
+    }
+
+    static ColumnQuery countBy(ColumnQuery query, String name) {
+        return new DefaultColumnQuery(0, 0, query.name(), List.of(name),
                 Collections.emptyList(), query.condition().orElse(null));
     }
 
     static ColumnQuery existsBy(ColumnQuery query) {
-        return new DefaultColumnQuery(1, 0, query.name(), query.columns(),
+        return key(query).map(name -> existsBy(query, name))
+                .orElseGet(() -> new DefaultColumnQuery(1, 0, query.name(), query.columns(),
+                        Collections.emptyList(), query.condition().orElse(null)));
+    }
+
+    static ColumnQuery existsBy(ColumnQuery query, String name) {
+        return new DefaultColumnQuery(1, 0, query.name(), List.of(name),
+                Collections.emptyList(), query.condition().orElse(null));
+    }
+
+    static ColumnQuery aggregateBy(ColumnQuery query, String name) {
+        return new DefaultColumnQuery(0, 0, query.name(), List.of(name),
                 Collections.emptyList(), query.condition().orElse(null));
     }
+
+    /**
+     * The projection that count and exists select: a single column, since a projection never filters the
+     * entities, it is the first selected column or the first column at the condition, otherwise,
+     * the whole entity when the query has neither.
+     */
+    private static Optional<String> key(ColumnQuery query) {
+        if (!query.columns().isEmpty()) {
+            return Optional.of(query.columns().get(0));
+        }
+        return query.condition().flatMap(DefaultColumnQuery::key);
+    }
+
+    private static Optional<String> key(ColumnCondition condition) {
+        return switch (condition.condition()) {
+            case NOT -> key(condition.column().get(ColumnCondition.class));
+            case AND, OR -> condition.column().get(new TypeReference<List<ColumnCondition>>() {
+                    }).stream()
+                    .map(DefaultColumnQuery::key)
+                    .flatMap(Optional::stream)
+                    .findFirst();
+            default -> Optional.of(condition.column().name());
+        };
+    }
 }
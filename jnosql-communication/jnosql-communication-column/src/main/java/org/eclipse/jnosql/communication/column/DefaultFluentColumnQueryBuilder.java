@@ -189,7 +189,8 @@ class DefaultFluentColumnQueryBuilder extends BaseQueryBuilder implements
 
     @Override
     public ColumnQuery build() {
-        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition);
+        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts,
+                conditions.build().orElse(null));
     }
 
     @Override
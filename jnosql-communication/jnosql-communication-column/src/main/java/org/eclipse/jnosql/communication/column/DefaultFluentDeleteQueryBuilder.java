@@ -131,7 +131,7 @@ class DefaultFluentDeleteQueryBuilder extends BaseQueryBuilder implements Column
 
     @Override
     public ColumnDeleteQuery build() {
-        return new DefaultColumnDeleteQuery(columnFamily, condition, columns);
+        return new DefaultColumnDeleteQuery(columnFamily, conditions.build().orElse(null), columns);
     }
 
     @Override
@@ -20,7 +20,7 @@ package org.eclipse.jnosql.communication.column;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.query.DeleteQuery;
-import org.eclipse.jnosql.communication.query.DeleteQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryCache;
 
 import java.util.List;
 import java.util.function.BiFunction;
@@ -62,8 +62,7 @@ public final class DeleteQueryParser implements BiFunction<DeleteQuery, ColumnOb
     }
 
     private ColumnDeleteQuery getQuery(String query, Params params, ColumnObserverParser observer) {
-        DeleteQueryConverter converter = new DeleteQueryConverter();
-        DeleteQuery deleteQuery = converter.apply(query);
+        DeleteQuery deleteQuery = QueryCache.DELETE.apply(query);
 
         return getQuery(params, observer, deleteQuery);
     }
@@ -81,8 +80,7 @@ public final class DeleteQueryParser implements BiFunction<DeleteQuery, ColumnOb
 
     private ColumnDeleteQuery getQuery(String query, ColumnObserverParser observer) {
 
-        DeleteQueryConverter converter = new DeleteQueryConverter();
-        DeleteQuery deleteQuery = converter.apply(query);
+        DeleteQuery deleteQuery = QueryCache.DELETE.apply(query);
 
         String columnFamily = observer.fireEntity(deleteQuery.entity());
         List<String> columns = deleteQuery.fields().stream()
@@ -0,0 +1,120 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.Aggregation;
+import org.eclipse.jnosql.communication.Value;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * The {@link ColumnManager} that rewrites the queries with the {@link ColumnConditionOptimizer}
+ * before calling the decorated manager.
+ */
+final class OptimizedColumnManager implements ColumnManager {
+
+    private final ColumnManager manager;
+
+    private final ColumnConditionOptimizer optimizer;
+
+    OptimizedColumnManager(ColumnManager manager, ColumnConditionOptimizer optimizer) {
+        this.manager = manager;
+        this.optimizer = optimizer;
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity) {
+        return manager.insert(entity);
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity, Duration ttl) {
+        return manager.insert(entity, ttl);
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities) {
+        return manager.insert(entities);
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities, Duration ttl) {
+        return manager.insert(entities, ttl);
+    }
+
+    @Override
+    public ColumnEntity update(ColumnEntity entity) {
+        return manager.update(entity);
+    }
+
+    @Override
+    public Iterable<ColumnEntity> update(Iterable<ColumnEntity> entities) {
+        return manager.update(entities);
+    }
+
+    @Override
+    public void delete(ColumnDeleteQuery query) {
+        manager.delete(optimizer.optimize(query));
+    }
+
+    @Override
+    public Stream<ColumnEntity> select(ColumnQuery query) {
+        return manager.select(optimizer.optimize(query));
+    }
+
+    @Override
+    public long count(ColumnQuery query) {
+        return manager.count(optimizer.optimize(query));
+    }
+
+    @Override
+    public boolean exists(ColumnQuery query) {
+        return manager.exists(optimizer.optimize(query));
+    }
+
+    @Override
+    public Optional<Value> aggregate(ColumnQuery query, Aggregation aggregation, String name) {
+        return manager.aggregate(optimizer.optimize(query), aggregation, name);
+    }
+
+    @Override
+    public Optional<ColumnEntity> singleResult(ColumnQuery query) {
+        return manager.singleResult(optimizer.optimize(query));
+    }
+
+    @Override
+    public long count(String columnFamily) {
+        return manager.count(columnFamily);
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    @Override
+    public String toString() {
+        return "OptimizedColumnManager{" + "manager=" + manager + '}';
+    }
+}
@@ -22,7 +22,7 @@ import jakarta.data.Sort;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.query.SelectQuery;
-import org.eclipse.jnosql.communication.query.SelectQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryCache;
 
 import java.util.List;
 import java.util.Objects;
@@ -48,8 +48,7 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, ColumnOb
     ColumnPreparedStatement prepare(String query, ColumnManager manager, ColumnObserverParser observer) {
 
         Params params = Params.newParams();
-        SelectQueryConverter converter = new SelectQueryConverter();
-        SelectQuery selectQuery = converter.apply(query);
+        SelectQuery selectQuery = QueryCache.SELECT.apply(query);
 
         ColumnQuery columnQuery = getColumnQuery(params, selectQuery, observer);
         return ColumnPreparedStatement.select(columnQuery, params, query, manager);
@@ -69,8 +68,7 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, ColumnOb
 
     private ColumnQuery getColumnQuery(String query, ColumnObserverParser observer) {
 
-        SelectQueryConverter converter = new SelectQueryConverter();
-        SelectQuery selectQuery = converter.apply(query);
+        SelectQuery selectQuery = QueryCache.SELECT.apply(query);
         String columnFamily = observer.fireEntity(selectQuery.entity());
         long limit = selectQuery.limit();
         long skip = selectQuery.skip();
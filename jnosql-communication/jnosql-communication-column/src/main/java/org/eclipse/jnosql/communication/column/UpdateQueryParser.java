@@ -22,7 +22,7 @@ import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.query.JSONQueryValue;
 import org.eclipse.jnosql.communication.query.QueryCondition;
 import org.eclipse.jnosql.communication.query.UpdateQuery;
-import org.eclipse.jnosql.communication.query.UpdateQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryCache;
 
 import java.util.List;
 import java.util.Optional;
@@ -34,8 +34,7 @@ final class UpdateQueryParser extends ConditionQueryParser {
 
     Stream<ColumnEntity> query(String query, ColumnManager manager, ColumnObserverParser observer) {
 
-        UpdateQueryConverter converter = new UpdateQueryConverter();
-        UpdateQuery updateQuery = converter.apply(query);
+        UpdateQuery updateQuery = QueryCache.UPDATE.apply(query);
 
         Params params = Params.newParams();
 
@@ -52,8 +51,7 @@ final class UpdateQueryParser extends ConditionQueryParser {
 
         Params params = Params.newParams();
 
-        UpdateQueryConverter converter = new UpdateQueryConverter();
-        UpdateQuery updateQuery = converter.apply(query);
+        UpdateQuery updateQuery = QueryCache.UPDATE.apply(query);
 
         ColumnEntity entity = getEntity(params, updateQuery, observer);
 
@@ -0,0 +1,95 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnConditionBuilderTest {
+
+    private final ColumnCondition name = ColumnCondition.eq("name", "Ada");
+
+    private final ColumnCondition age = ColumnCondition.gt("age", 10);
+
+    private final ColumnCondition city = ColumnCondition.eq("city", "Salvador");
+
+    private final ColumnCondition country = ColumnCondition.eq("country", "Brazil");
+
+    @Test
+    void shouldReturnEmptyWhenThereIsNoCondition() {
+        ColumnConditionBuilder builder = ColumnCondition.builder();
+        assertThat(builder.isEmpty()).isTrue();
+        assertThat(builder.build()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnErrorWhenConditionIsNull() {
+        ColumnConditionBuilder builder = ColumnCondition.builder();
+        assertThatThrownBy(() -> builder.and(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> builder.or(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldReturnTheSingleCondition() {
+        ColumnConditionBuilder builder = ColumnCondition.builder().or(name);
+        assertThat(builder.isEmpty()).isFalse();
+        assertThat(builder.build()).contains(name);
+    }
+
+    @Test
+    void shouldGroupTheSameOperator() {
+        ColumnCondition condition = ColumnCondition.builder().and(name).and(age).and(city).build().orElseThrow();
+
+        assertThat(condition.condition()).isEqualTo(Condition.AND);
+        assertThat(condition.column().get(new TypeReference<List<ColumnCondition>>() {
+        })).containsExactly(name, age, city);
+        assertThat(condition).isEqualTo(name.and(age).and(city));
+    }
+
+    @Test
+    void shouldHaveTheSameShapeAsTheConditionMethods() {
+        ColumnCondition condition = ColumnCondition.builder().and(name).and(age).or(city).or(country).and(name)
+                .build().orElseThrow();
+
+        assertThat(condition).isEqualTo(name.and(age).or(city).or(country).and(name));
+    }
+
+    @Test
+    void shouldFlattenTheFirstCondition() {
+        ColumnCondition condition = ColumnCondition.builder().and(ColumnCondition.and(name, age)).and(city)
+                .build().orElseThrow();
+
+        assertThat(condition).isEqualTo(ColumnCondition.and(name, age).and(city));
+    }
+
+    @Test
+    void shouldKeepAppendingAfterBuild() {
+        ColumnConditionBuilder builder = ColumnCondition.builder().or(name).or(age);
+        ColumnCondition first = builder.build().orElseThrow();
+        ColumnCondition second = builder.or(city).build().orElseThrow();
+
+        assertThat(first).isEqualTo(name.or(age));
+        assertThat(second).isEqualTo(name.or(age).or(city));
+        assertThat(builder.build()).contains(second);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnConditionOptimizerTest {
+
+    private final ColumnConditionOptimizer optimizer = ColumnConditionOptimizer.INSTANCE;
+
+    private final ColumnCondition name = ColumnCondition.eq("name", "Ada");
+
+    private final ColumnCondition city = ColumnCondition.eq("city", "Salvador");
+
+    private final ColumnCondition country = ColumnCondition.eq("country", "Brazil");
+
+    @Test
+    void shouldReturnErrorWhenConditionIsNull() {
+        assertThatThrownBy(() -> optimizer.optimize((ColumnCondition) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldKeepSimpleCondition() {
+        assertThat(optimizer.optimize(name)).contains(name);
+    }
+
+    @Test
+    void shouldFlattenNestedConditions() {
+        ColumnCondition condition = ColumnCondition.and(ColumnCondition.and(name, city),
+                ColumnCondition.and(country, ColumnCondition.and(name, city)));
+        assertThat(optimizer.optimize(condition)).contains(ColumnCondition.and(name, city, country));
+    }
+
+    @Test
+    void shouldNotFlattenDifferentOperator() {
+        ColumnCondition condition = ColumnCondition.and(name, ColumnCondition.or(city, country));
+        assertThat(optimizer.optimize(condition)).contains(condition);
+    }
+
+    @Test
+    void shouldRemoveDoubleNegation() {
+        assertThat(optimizer.optimize(name.negate().negate())).contains(name);
+        ColumnCondition condition = ColumnCondition.of(Column.of(Condition.NOT.getNameField(),
+                ColumnCondition.of(Column.of(Condition.NOT.getNameField(), name), Condition.NOT)), Condition.NOT);
+        assertThat(optimizer.optimize(condition)).contains(name);
+    }
+
+    @Test
+    void shouldRemoveDuplicatedTerms() {
+        assertThat(optimizer.optimize(ColumnCondition.and(name, city, name)))
+                .contains(ColumnCondition.and(name, city));
+        assertThat(optimizer.optimize(ColumnCondition.or(name, name))).contains(name);
+    }
+
+    @Test
+    void shouldMergeEqualsIntoIn() {
+        ColumnCondition condition = ColumnCondition.or(ColumnCondition.eq("age", 1), city,
+                ColumnCondition.eq("age", 2), ColumnCondition.in("age", List.of(2, 3)));
+        assertThat(optimizer.optimize(condition)).contains(ColumnCondition.or(
+                ColumnCondition.in("age", List.of(1, 2, 3)), city));
+    }
+
+    @Test
+    void shouldNotMergeEqualsAtAnd() {
+        ColumnCondition condition = ColumnCondition.and(ColumnCondition.eq("age", 1),
+                ColumnCondition.eq("age", 2));
+        assertThat(optimizer.optimize(condition)).contains(condition);
+    }
+
+    @Test
+    void shouldFoldRangesIntoBetween() {
+        ColumnCondition condition = ColumnCondition.and(ColumnCondition.gte("age", 1), name,
+                ColumnCondition.lte("age", 10), ColumnCondition.gte("age", 5));
+        assertThat(optimizer.optimize(condition)).contains(ColumnCondition.and(
+                ColumnCondition.between("age", List.of(5, 10)), name));
+    }
+
+    @Test
+    void shouldFoldBetweenAndRange() {
+        ColumnCondition condition = ColumnCondition.and(ColumnCondition.between("age", List.of(1, 20)),
+                ColumnCondition.lte("age", 10));
+        assertThat(optimizer.optimize(condition)).contains(ColumnCondition.between("age", List.of(1, 10)));
+    }
+
+    @Test
+    void shouldKeepNarrowestStrictRange() {
+        ColumnCondition condition = ColumnCondition.and(ColumnCondition.gt("age", 1),
+                ColumnCondition.gt("age", 5), ColumnCondition.lt("age", 10));
+        assertThat(optimizer.optimize(condition)).contains(ColumnCondition.and(ColumnCondition.gt("age", 5),
+                ColumnCondition.lt("age", 10)));
+    }
+
+    @Test
+    void shouldNotFoldRangesOfDifferentTypes() {
+        ColumnCondition condition = ColumnCondition.and(ColumnCondition.gte("age", 1),
+                ColumnCondition.lte("age", "10"), ColumnCondition.gte("age", 5L));
+        assertThat(optimizer.optimize(condition)).contains(condition);
+    }
+
+    @Test
+    void shouldDropTautology() {
+        ColumnCondition tautology = ColumnCondition.or(city, city.negate());
+        assertThat(optimizer.optimize(tautology)).isEmpty();
+        assertThat(optimizer.optimize(ColumnCondition.and(name, tautology))).contains(name);
+    }
+
+    @Test
+    void shouldOptimizeQuery() {
+        ColumnQuery query = ColumnQuery.select("name").from("person")
+                .where("name").eq("Ada").or("name").eq("Otavio").build();
+
+        ColumnQuery optimized = optimizer.optimize(query);
+
+        assertThat(optimized.name()).isEqualTo("person");
+        assertThat(optimized.columns()).containsExactly("name");
+        assertThat(optimized.condition()).contains(ColumnCondition.in("name", List.of("Ada", "Otavio")));
+    }
+
+    @Test
+    void shouldOptimizeDeleteQuery() {
+        ColumnDeleteQuery query = ColumnDeleteQuery.delete().from("person")
+                .where("name").eq("Ada").and("name").eq("Ada").build();
+
+        ColumnDeleteQuery optimized = optimizer.optimize(query);
+
+        assertThat(optimized.condition()).contains(ColumnCondition.eq("name", "Ada"));
+    }
+
+    @Test
+    void shouldDecorateManager() {
+        ColumnManager manager = Mockito.mock(ColumnManager.class);
+        ColumnManager decorated = optimizer.decorate(manager);
+        ColumnQuery query = ColumnQuery.select().from("person")
+                .where("age").gte(10).and("age").lte(20).build();
+
+        decorated.select(query);
+        decorated.count(query);
+
+        ColumnQuery expected = optimizer.optimize(query);
+        Mockito.verify(manager).select(expected);
+        Mockito.verify(manager).count(expected);
+        assertThat(expected.condition()).contains(ColumnCondition.between("age", List.of(10, 20)));
+    }
+}
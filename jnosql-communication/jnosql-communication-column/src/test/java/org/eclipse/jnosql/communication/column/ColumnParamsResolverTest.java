@@ -0,0 +1,137 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnParamsResolverTest {
+
+    @Test
+    void shouldReturnErrorWhenThereIsNullParameter() {
+        ColumnParamsResolver resolver = ColumnParamsResolver.of(Params.newParams().slots());
+        ColumnQuery query = ColumnQuery.select().from("person").build();
+        assertThatThrownBy(() -> ColumnParamsResolver.of(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> resolver.resolve((ColumnQuery) null, new Object[0]))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> resolver.resolve(query, null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldReturnSameQueryWhenThereIsNoParameter() {
+        ColumnParamsResolver resolver = ColumnParamsResolver.of(Params.newParams().slots());
+        ColumnQuery query = ColumnQuery.select().from("person").where("name").eq("Ada").build();
+        ColumnDeleteQuery deleteQuery = ColumnDeleteQuery.delete().from("person").where("name").eq("Ada").build();
+
+        assertThat(resolver.resolve(query, new Object[0])).isSameAs(query);
+        assertThat(resolver.resolve(deleteQuery, new Object[0])).isSameAs(deleteQuery);
+    }
+
+    @Test
+    void shouldResolveBySlot() {
+        Params params = Params.newParams();
+        ColumnCondition condition = ColumnCondition.and(
+                ColumnCondition.eq(Column.of("name", params.add("name"))),
+                ColumnCondition.gt(Column.of("age", params.add("age"))));
+        ColumnQuery template = new DefaultColumnQuery(10, 2, "person", List.of(), List.of(), condition);
+        ColumnParamsResolver resolver = ColumnParamsResolver.of(params.slots());
+
+        ColumnQuery query = resolver.resolve(template, new Object[]{"Ada", 20});
+
+        assertThat(query).isNotSameAs(template);
+        assertThat(query.name()).isEqualTo("person");
+        assertThat(query.limit()).isEqualTo(10);
+        assertThat(query.skip()).isEqualTo(2);
+        List<ColumnCondition> conditions = query.condition().orElseThrow().column()
+                .get(new TypeReference<>() {});
+        assertThat(conditions).hasSize(2);
+        assertThat(conditions.get(0).condition()).isEqualTo(Condition.EQUALS);
+        assertThat(conditions.get(0).column().get()).isEqualTo("Ada");
+        assertThat(conditions.get(1).condition()).isEqualTo(Condition.GREATER_THAN);
+        assertThat(conditions.get(1).column().get()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldKeepTemplateAcrossResolutions() {
+        Params params = Params.newParams();
+        Value name = params.add("name");
+        ColumnCondition condition = ColumnCondition.eq(Column.of("name", name));
+        ColumnDeleteQuery template = new DefaultColumnDeleteQuery("person", condition, List.of());
+        ColumnParamsResolver resolver = ColumnParamsResolver.of(params.slots());
+
+        ColumnDeleteQuery ada = resolver.resolve(template, new Object[]{"Ada"});
+        ColumnDeleteQuery diana = resolver.resolve(template, new Object[]{"Diana"});
+
+        assertThat(ada.condition().orElseThrow().column().get()).isEqualTo("Ada");
+        assertThat(diana.condition().orElseThrow().column().get()).isEqualTo("Diana");
+        assertThat(template.condition().orElseThrow().column().value()).isSameAs(name);
+    }
+
+    @Test
+    void shouldResolveIterableParameters() {
+        Params params = Params.newParams();
+        Value first = params.add("age");
+        Value second = params.add("age");
+        ColumnCondition condition = ColumnCondition.in(Column.of("age", List.of(first, second)));
+        ColumnParamsResolver resolver = ColumnParamsResolver.of(params.slots());
+
+        ColumnCondition resolved = resolver.resolve(condition, new Object[]{10, 20});
+
+        assertThat(resolved.condition()).isEqualTo(Condition.IN);
+        List<Value> ages = resolved.column().get(new TypeReference<>() {});
+        assertThat(ages).extracting(Value::get).containsExactly(10, 20);
+    }
+
+    @Test
+    void shouldResolveNotCondition() {
+        Params params = Params.newParams();
+        ColumnCondition condition = ColumnCondition.not(ColumnCondition.eq(Column.of("name",
+                params.add("name"))));
+        ColumnParamsResolver resolver = ColumnParamsResolver.of(params.slots());
+
+        ColumnCondition resolved = resolver.resolve(condition, new Object[]{"Ada"});
+
+        assertThat(resolved.condition()).isEqualTo(Condition.NOT);
+        ColumnCondition negated = resolved.column().get(ColumnCondition.class);
+        assertThat(negated.condition()).isEqualTo(Condition.EQUALS);
+        assertThat(negated.column().get()).isEqualTo("Ada");
+    }
+
+    @Test
+    void shouldCreateNewEntity() {
+        Params params = Params.newParams();
+        ColumnEntity template = ColumnEntity.of("person");
+        template.add(Column.of("name", params.add("name")));
+        template.add(Column.of("age", 10));
+        ColumnParamsResolver resolver = ColumnParamsResolver.of(params.slots());
+
+        ColumnEntity entity = resolver.resolve(template, new Object[]{"Ada"});
+
+        assertThat(entity).isNotSameAs(template);
+        assertThat(entity.name()).isEqualTo("person");
+        assertThat(entity.find("name").orElseThrow().get()).isEqualTo("Ada");
+        assertThat(entity.find("age").orElseThrow().get()).isEqualTo(10);
+    }
+}
@@ -65,6 +65,7 @@ class DefaultColumnQueryTest {
         ColumnQuery countQuery = DefaultColumnQuery.countBy(query);
         Assertions.assertNotNull(countQuery);
         assertEquals("entity", countQuery.name());
+        assertEquals(List.of("name"), countQuery.columns());
         assertEquals(0, countQuery.limit());
         assertEquals(0, countQuery.skip());
         assertTrue(countQuery.sorts().isEmpty());
@@ -72,6 +73,23 @@ class DefaultColumnQueryTest {
        Assertions.assertEquals(Condition.EQUALS, condition.condition());
     }
 
+    @Test
+    void shouldConvertAggregateBy() {
+        ColumnQuery query = ColumnQuery.select().from("entity")
+                .where("name").eq("predicate")
+                .orderBy("name").asc().skip(2).limit(10).build();
+
+        ColumnQuery aggregateQuery = DefaultColumnQuery.aggregateBy(query, "age");
+        Assertions.assertNotNull(aggregateQuery);
+        assertEquals("entity", aggregateQuery.name());
+        assertEquals(0, aggregateQuery.limit());
+        assertEquals(0, aggregateQuery.skip());
+        assertTrue(aggregateQuery.sorts().isEmpty());
+        assertEquals(List.of("age"), aggregateQuery.columns());
+        ColumnCondition condition = aggregateQuery.condition().orElseThrow();
+        Assertions.assertEquals(Condition.EQUALS, condition.condition());
+    }
+
     @Test
     void shouldConvertExistsBy() {
         ColumnQuery query = ColumnQuery.select().from("entity")
@@ -81,6 +99,7 @@ class DefaultColumnQueryTest {
         ColumnQuery countQuery = DefaultColumnQuery.existsBy(query);
         Assertions.assertNotNull(countQuery);
         assertEquals("entity", countQuery.name());
+        assertEquals(List.of("name"), countQuery.columns());
         assertEquals(1, countQuery.limit());
         assertEquals(0, countQuery.skip());
         assertTrue(countQuery.sorts().isEmpty());
@@ -88,6 +107,42 @@ class DefaultColumnQueryTest {
         Assertions.assertEquals(Condition.EQUALS, condition.condition());
     }
 
+    @Test
+    void shouldCountBySelectedColumn() {
+        ColumnQuery query = ColumnQuery.select("age", "name").from("entity")
+                .where("name").eq("predicate").build();
+
+        assertEquals(List.of("age"), DefaultColumnQuery.countBy(query).columns());
+        assertEquals(List.of("age"), DefaultColumnQuery.existsBy(query).columns());
+    }
+
+    @Test
+    void shouldCountByFirstColumnAtNestedCondition() {
+        ColumnQuery query = ColumnQuery.select().from("entity")
+                .where("age").gt(10).or("name").eq("predicate").and("city").not().eq("Salvador").build();
+
+        assertEquals(List.of("age"), DefaultColumnQuery.countBy(query).columns());
+    }
+
+    @Test
+    void shouldCountByWholeEntityWithoutCondition() {
+        ColumnQuery query = ColumnQuery.select().from("entity").build();
+
+        assertTrue(DefaultColumnQuery.countBy(query).columns().isEmpty());
+        assertTrue(DefaultColumnQuery.existsBy(query).columns().isEmpty());
+    }
+
+    @Test
+    void shouldExistsByColumn() {
+        ColumnQuery query = ColumnQuery.select().from("entity")
+                .where("name").eq("predicate").skip(2).build();
+
+        ColumnQuery existsQuery = DefaultColumnQuery.existsBy(query, "_id");
+        assertEquals(List.of("_id"), existsQuery.columns());
+        assertEquals(1, existsQuery.limit());
+        assertEquals(0, existsQuery.skip());
+    }
+
     @Test
     void shouldHasCode(){
         ColumnQuery query = ColumnQuery.select().from("entity")
@@ -0,0 +1,81 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * The aggregate functions over a field that a query might push down to the database instead of returning
+ * the entities, see the {@code aggregate} method of the document and column managers.
+ * The null values are ignored, and there is no result when there is no value.
+ */
+public enum Aggregation {
+
+    /**
+     * The lowest value of the field
+     */
+    MIN {
+        @Override
+        public Optional<Value> apply(Stream<?> values) {
+            Objects.requireNonNull(values, "values is required");
+            return values.filter(Objects::nonNull).reduce((a, b) -> compare(a, b) <= 0 ? a : b).map(Value::of);
+        }
+    },
+    /**
+     * The highest value of the field
+     */
+    MAX {
+        @Override
+        public Optional<Value> apply(Stream<?> values) {
+            Objects.requireNonNull(values, "values is required");
+            return values.filter(Objects::nonNull).reduce((a, b) -> compare(a, b) >= 0 ? a : b).map(Value::of);
+        }
+    },
+    /**
+     * The sum of the field as {@link BigDecimal}
+     */
+    SUM {
+        @Override
+        public Optional<Value> apply(Stream<?> values) {
+            Objects.requireNonNull(values, "values is required");
+            return values.filter(Objects::nonNull)
+                    .map(v -> Value.of(v).get(BigDecimal.class))
+                    .reduce(BigDecimal::add)
+                    .map(Value::of);
+        }
+    };
+
+    /**
+     * Computes the aggregation on the client side, it is the fallback when the database does not support it.
+     *
+     * @param values the values of the field
+     * @return the result or {@link Optional#empty()} when there is no value
+     * @throws NullPointerException when values is null
+     */
+    public abstract Optional<Value> apply(Stream<?> values);
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object a, Object b) {
+        if (a instanceof Number && b instanceof Number) {
+            return Value.of(a).get(BigDecimal.class).compareTo(Value.of(b).get(BigDecimal.class));
+        }
+        return ((Comparable) a).compareTo(b);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An immutable view of the parameters of a compiled query, where each parameter has a position.
+ * Instead of setting the value at the {@link Params}, the values live in an array indexed by the position,
+ * thus the same compiled query might be executed by several threads at the same time.
+ *
+ * @see Params#slots()
+ */
+public final class ParamSlots {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final List<String> names;
+
+    private final Map<Value, Integer> positions;
+
+    private final Map<String, int[]> indexes;
+
+    private ParamSlots(List<String> names, Map<Value, Integer> positions, Map<String, int[]> indexes) {
+        this.names = names;
+        this.positions = positions;
+        this.indexes = indexes;
+    }
+
+    /**
+     * @return the number of parameters
+     */
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * @return if there is no parameter
+     */
+    public boolean isEmpty() {
+        return names.isEmpty();
+    }
+
+    /**
+     * @return the parameters name, where the index is the parameter position
+     */
+    public List<String> names() {
+        return names;
+    }
+
+    /**
+     * Returns the positions of the parameter name, a parameter might appear more than once at the query.
+     *
+     * @param name the parameter name
+     * @return the positions or an empty array when there is no parameter with this name
+     * @throws NullPointerException when name is null
+     */
+    public int[] positions(String name) {
+        Objects.requireNonNull(name, "name is required");
+        return indexes.getOrDefault(name, EMPTY).clone();
+    }
+
+    /**
+     * Checks if all the positions have a value.
+     *
+     * @param values the values indexed by position
+     * @throws QueryException when there is a parameter without value
+     */
+    public void validate(Object[] values) {
+        Objects.requireNonNull(values, "values is required");
+        List<String> left = new ArrayList<>();
+        for (int index = 0; index < names.size(); index++) {
+            if (values[index] == null) {
+                left.add(names.get(index));
+            }
+        }
+        if (!left.isEmpty()) {
+            throw new QueryException("Check all the parameters before execute the query, params left: " + left);
+        }
+    }
+
+    /**
+     * Replaces the parameters at the value with the values indexed by position, it includes parameters inside a list
+     * such as the ones at the <b>in</b> and <b>between</b> conditions, where each parameter becomes a {@link Value}.
+     * When there is no parameter at the value, it returns the same instance.
+     *
+     * @param value  the value
+     * @param values the values indexed by position
+     * @return the value with the parameters replaced
+     */
+    public Value resolve(Value value, Object[] values) {
+        Integer position = positions.get(value);
+        if (position != null) {
+            return Value.of(values[position]);
+        }
+        if (value instanceof ParamValue) {
+            return value;
+        }
+        Object raw = value.get();
+        if (raw instanceof Iterable<?> iterable && hasParam(iterable)) {
+            List<Object> resolved = new ArrayList<>();
+            for (Object element : iterable) {
+                Integer index = positions.get(element);
+                resolved.add(index == null ? element : Value.of(values[index]));
+            }
+            return Value.of(resolved);
+        }
+        return value;
+    }
+
+    private boolean hasParam(Iterable<?> iterable) {
+        for (Object element : iterable) {
+            if (element instanceof ParamValue && positions.containsKey(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return String.join(",", names);
+    }
+
+    static ParamSlots of(List<ParamValue> parameters) {
+        List<String> names = new ArrayList<>(parameters.size());
+        Map<Value, Integer> positions = new IdentityHashMap<>();
+        Map<String, List<Integer>> groups = new HashMap<>();
+        for (int index = 0; index < parameters.size(); index++) {
+            ParamValue parameter = parameters.get(index);
+            names.add(parameter.getName());
+            positions.put(parameter, index);
+            groups.computeIfAbsent(parameter.getName(), k -> new ArrayList<>()).add(index);
+        }
+        Map<String, int[]> indexes = new HashMap<>();
+        groups.forEach((name, group) -> indexes.put(name, group.stream().mapToInt(Integer::intValue).toArray()));
+        return new ParamSlots(Collections.unmodifiableList(names), positions, indexes);
+    }
+}
@@ -82,6 +82,15 @@ public final class Params {
         return parameters.stream().map(ParamValue::getName).collect(toList());
     }
 
+    /**
+     * Creates an immutable view of the current parameters, where each parameter has a position.
+     *
+     * @return the {@link ParamSlots} instance
+     */
+    public ParamSlots slots() {
+        return ParamSlots.of(parameters);
+    }
+
     @Override
     public String toString() {
         return parameters.stream().map(ParamValue::getName).collect(joining(","));
@@ -19,7 +19,10 @@ package org.eclipse.jnosql.communication;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.function.Function;
 
 /**
  * Decorators of all {@link ValueReader} supported by Jakarta NoSQL
@@ -32,6 +35,13 @@ public final class ValueReaderDecorator implements ValueReader {
 
     private final List<ValueReader> readers = new ArrayList<>();
 
+    private final ClassValue<Optional<ValueReader>> resolved = new ClassValue<>() {
+        @Override
+        protected Optional<ValueReader> computeValue(Class<?> type) {
+            return readers.stream().filter(r -> r.test(type)).findFirst();
+        }
+    };
+
     {
         ServiceLoader.load(ValueReader.class).stream()
                 .map(ServiceLoader.Provider::get)
@@ -44,7 +54,7 @@ public final class ValueReaderDecorator implements ValueReader {
 
     @Override
     public boolean test(Class type) {
-        return readers.stream().anyMatch(r -> r.test(type));
+        return resolved.get(type).isPresent();
     }
 
     @Override
@@ -52,9 +62,28 @@ public final class ValueReaderDecorator implements ValueReader {
         if (type.isInstance(value)) {
             return type.cast(value);
         }
-        ValueReader valueReader = readers.stream().filter(r -> r.test(type)).findFirst().orElseThrow(
-                () -> new UnsupportedOperationException("The type " + type + " is not supported yet"));
-        return valueReader.read(type, value);
+        return read(type, value, resolved.get(type));
+    }
+
+    /**
+     * Returns the function that reads the values to the type, the {@link ValueReader} is resolved once,
+     * so the function fits to convert several values to the same type, such as the elements of a collection.
+     *
+     * @param type the type
+     * @param <T>  the type
+     * @return the function that converts a value to the type
+     * @throws NullPointerException when type is null
+     */
+    public <T> Function<Object, T> reader(Class<T> type) {
+        Objects.requireNonNull(type, "type is required");
+        Optional<ValueReader> valueReader = resolved.get(type);
+        return value -> type.isInstance(value) ? type.cast(value) : read(type, value, valueReader);
+    }
+
+    private static <T> T read(Class<T> type, Object value, Optional<ValueReader> valueReader) {
+        return valueReader.orElseThrow(
+                () -> new UnsupportedOperationException("The type " + type + " is not supported yet"))
+                .read(type, value);
     }
 
     @Override
@@ -19,7 +19,6 @@ package org.eclipse.jnosql.communication.reader;
 
 import org.eclipse.jnosql.communication.TypeReferenceReader;
 import org.eclipse.jnosql.communication.TypeSupplier;
-import org.eclipse.jnosql.communication.ValueReader;
 import org.eclipse.jnosql.communication.ValueReaderDecorator;
 
 import java.lang.reflect.ParameterizedType;
@@ -28,6 +27,7 @@ import java.util.Collections;
 import java.util.NavigableSet;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.util.stream.StreamSupport.stream;
@@ -38,7 +38,7 @@ import static java.util.stream.StreamSupport.stream;
 @SuppressWarnings("unchecked")
 public class NavigableSetTypeReferenceReader implements TypeReferenceReader {
 
-    private static final ValueReader SERVICE_PROVIDER = ValueReaderDecorator.getInstance();
+    private static final ValueReaderDecorator SERVICE_PROVIDER = ValueReaderDecorator.getInstance();
 
     @Override
     public boolean test(TypeSupplier<?> typeReference) {
@@ -64,10 +64,11 @@ public class NavigableSetTypeReferenceReader implements TypeReferenceReader {
         Type type = typeReference.get();
         ParameterizedType parameterizedType = (ParameterizedType) type;
         Class<?> classType = (Class<?>) parameterizedType.getActualTypeArguments()[0];
+        Function<Object, ?> reader = SERVICE_PROVIDER.reader(classType);
         if (value instanceof Iterable iterable) {
-            return (T) stream(iterable.spliterator(), false).map(o -> SERVICE_PROVIDER.read(classType, o)).collect(Collectors.toCollection(TreeSet::new));
+            return (T) stream(iterable.spliterator(), false).map(reader).collect(Collectors.toCollection(TreeSet::new));
         }
-        return (T) new TreeSet<>(Collections.singletonList(SERVICE_PROVIDER.read(classType, value)));
+        return (T) new TreeSet<>(Collections.singletonList(reader.apply(value)));
     }
 
 
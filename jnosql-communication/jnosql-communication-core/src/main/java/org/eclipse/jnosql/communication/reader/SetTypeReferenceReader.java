@@ -19,13 +19,13 @@ package org.eclipse.jnosql.communication.reader;
 
 import org.eclipse.jnosql.communication.TypeReferenceReader;
 import org.eclipse.jnosql.communication.TypeSupplier;
-import org.eclipse.jnosql.communication.ValueReader;
 import org.eclipse.jnosql.communication.ValueReaderDecorator;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Function;
 
 import static java.util.Collections.singleton;
 import static java.util.stream.Collectors.toSet;
@@ -37,7 +37,7 @@ import static java.util.stream.StreamSupport.stream;
 @SuppressWarnings("unchecked")
 public class SetTypeReferenceReader implements TypeReferenceReader {
 
-    private static final ValueReader SERVICE_PROVIDER = ValueReaderDecorator.getInstance();
+    private static final ValueReaderDecorator SERVICE_PROVIDER = ValueReaderDecorator.getInstance();
 
     @Override
     public boolean test(TypeSupplier<?> typeReference) {
@@ -54,10 +54,11 @@ public class SetTypeReferenceReader implements TypeReferenceReader {
         Type type = typeReference.get();
         ParameterizedType parameterizedType = (ParameterizedType) type;
         Class<?> classType = (Class<?>) parameterizedType.getActualTypeArguments()[0];
+        Function<Object, ?> reader = SERVICE_PROVIDER.reader(classType);
         if (value instanceof Iterable iterable) {
-            return (T) stream(iterable.spliterator(), false).map(o -> SERVICE_PROVIDER.read(classType, o)).collect(toSet());
+            return (T) stream(iterable.spliterator(), false).map(reader).collect(toSet());
         }
-        return (T) new HashSet<>(singleton(SERVICE_PROVIDER.read(classType, value)));
+        return (T) new HashSet<>(singleton(reader.apply(value)));
     }
 
 
@@ -19,11 +19,11 @@ package org.eclipse.jnosql.communication.reader;
 
 import org.eclipse.jnosql.communication.TypeReferenceReader;
 import org.eclipse.jnosql.communication.TypeSupplier;
-import org.eclipse.jnosql.communication.ValueReader;
 import org.eclipse.jnosql.communication.ValueReaderDecorator;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static java.util.stream.StreamSupport.stream;
@@ -33,7 +33,7 @@ import static java.util.stream.StreamSupport.stream;
  */
 public class StreamTypeReferenceReader implements TypeReferenceReader {
 
-    private static final ValueReader SERVICE_PROVIDER = ValueReaderDecorator.getInstance();
+    private static final ValueReaderDecorator SERVICE_PROVIDER = ValueReaderDecorator.getInstance();
 
     @Override
     public boolean test(TypeSupplier<?> typeReference) {
@@ -50,10 +50,11 @@ public class StreamTypeReferenceReader implements TypeReferenceReader {
         Type type = typeReference.get();
         ParameterizedType parameterizedType = (ParameterizedType) type;
         Class<?> classType = (Class<?>) parameterizedType.getActualTypeArguments()[0];
+        Function<Object, ?> reader = SERVICE_PROVIDER.reader(classType);
         if (value instanceof Iterable iterable) {
-            return (T) stream(iterable.spliterator(), false).map(o -> SERVICE_PROVIDER.read(classType, o));
+            return (T) stream(iterable.spliterator(), false).map(reader);
         }
-        return (T) Stream.of(SERVICE_PROVIDER.read(classType, value));
+        return (T) Stream.of(reader.apply(value));
     }
 
 
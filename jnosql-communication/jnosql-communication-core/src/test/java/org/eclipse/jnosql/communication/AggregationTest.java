@@ -0,0 +1,66 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AggregationTest {
+
+    @Test
+    void shouldReturnErrorWhenValuesIsNull() {
+        assertThatThrownBy(() -> Aggregation.MIN.apply(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> Aggregation.MAX.apply(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> Aggregation.SUM.apply(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldReturnEmptyWhenThereIsNoValue() {
+        assertThat(Aggregation.MIN.apply(Stream.empty())).isEmpty();
+        assertThat(Aggregation.MAX.apply(Stream.of((Object) null))).isEmpty();
+        assertThat(Aggregation.SUM.apply(Stream.empty())).isEmpty();
+    }
+
+    @Test
+    void shouldFindMin() {
+        Value value = Aggregation.MIN.apply(Stream.of(10, null, 2.5, 7L)).orElseThrow();
+        assertThat(value.get()).isEqualTo(2.5);
+    }
+
+    @Test
+    void shouldFindMax() {
+        Value value = Aggregation.MAX.apply(Stream.of(10, null, 2.5, 7L)).orElseThrow();
+        assertThat(value.get()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldFindMinAndMaxOfComparable() {
+        assertThat(Aggregation.MIN.apply(Stream.of("b", "a", "c")).map(Value::get)).contains("a");
+        assertThat(Aggregation.MAX.apply(Stream.of("b", "a", "c")).map(Value::get)).contains("c");
+    }
+
+    @Test
+    void shouldSum() {
+        Value value = Aggregation.SUM.apply(Stream.of(10, null, 2.5, "7")).orElseThrow();
+        assertThat(value.get(BigDecimal.class)).isEqualByComparingTo("19.5");
+    }
+}
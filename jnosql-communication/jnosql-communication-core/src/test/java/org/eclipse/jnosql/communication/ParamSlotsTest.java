@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParamSlotsTest {
+
+    @Test
+    void shouldReturnPositions() {
+        Params params = Params.newParams();
+        params.add("name");
+        params.add("age");
+        params.add("name");
+        ParamSlots slots = params.slots();
+
+        assertThat(slots.size()).isEqualTo(3);
+        assertThat(slots.names()).containsExactly("name", "age", "name");
+        assertThat(slots.positions("name")).containsExactly(0, 2);
+        assertThat(slots.positions("age")).containsExactly(1);
+        assertThat(slots.positions("unknown")).isEmpty();
+    }
+
+    @Test
+    void shouldResolveParam() {
+        Params params = Params.newParams();
+        Value name = params.add("name");
+        ParamSlots slots = params.slots();
+
+        Value value = slots.resolve(name, new Object[]{"Ada"});
+        assertThat(value.get()).isEqualTo("Ada");
+    }
+
+    @Test
+    void shouldResolveParamInsideList() {
+        Params params = Params.newParams();
+        Value first = params.add("first");
+        Value second = params.add("second");
+        ParamSlots slots = params.slots();
+
+        Value value = slots.resolve(Value.of(List.of(first, 10, second)), new Object[]{1, 2});
+        assertThat(value.get()).isEqualTo(List.of(Value.of(1), 10, Value.of(2)));
+    }
+
+    @Test
+    void shouldReturnSameValueWithoutParam() {
+        ParamSlots slots = Params.newParams().slots();
+        Value value = Value.of("Ada");
+        assertThat(slots.resolve(value, new Object[0])).isSameAs(value);
+    }
+
+    @Test
+    void shouldNotChangeParams() {
+        Params params = Params.newParams();
+        Value name = params.add("name");
+        params.slots().resolve(name, new Object[]{"Ada"});
+        assertThatThrownBy(name::get).isInstanceOf(QueryException.class);
+    }
+
+    @Test
+    void shouldValidate() {
+        Params params = Params.newParams();
+        params.add("name");
+        params.add("age");
+        ParamSlots slots = params.slots();
+
+        assertThatThrownBy(() -> slots.validate(new Object[]{"Ada", null}))
+                .isInstanceOf(QueryException.class)
+                .hasMessageContaining("age");
+        slots.validate(new Object[]{"Ada", 10});
+    }
+}
@@ -20,6 +20,8 @@ package org.eclipse.jnosql.communication;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.function.Function;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -63,6 +65,25 @@ class ValueReaderDecoratorTest {
         assertFalse(serviceLoader.test(Bean.class));
     }
 
+    @Test
+    @DisplayName("Should convert several values with the same reader")
+    void shouldConvertWithReader() {
+        Function<Object, Integer> reader = serviceLoader.reader(Integer.class);
+        assertThat(reader.apply("10")).isEqualTo(10);
+        assertThat(reader.apply(20L)).isEqualTo(20);
+        assertThat(reader.apply(30)).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("Should cast with the reader when there is no ValueReader to the type")
+    void shouldCastWithReader() {
+        Function<Object, Bean> reader = serviceLoader.reader(Bean.class);
+        Bean bean = new Bean();
+        assertThat(reader.apply(bean)).isSameAs(bean);
+        assertThatThrownBy(() -> reader.apply("name"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
     static class Bean {
         Bean() {
         }
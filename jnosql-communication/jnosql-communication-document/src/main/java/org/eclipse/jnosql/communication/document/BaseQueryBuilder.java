@@ -18,7 +18,6 @@ package org.eclipse.jnosql.communication.document;
 
 
 import static java.util.Arrays.asList;
-import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
 abstract class BaseQueryBuilder {
@@ -30,7 +29,7 @@ abstract class BaseQueryBuilder {
 
     protected boolean and;
 
-    protected DocumentCondition condition;
+    protected final DocumentConditionBuilder conditions = DocumentCondition.builder();
 
     protected <T> void eqImpl(T value) {
         requireNonNull(value, "value is required");
@@ -85,14 +84,10 @@ abstract class BaseQueryBuilder {
     protected void appendCondition(DocumentCondition newCondition) {
         DocumentCondition documentCondition = getDocumentCondition(newCondition);
 
-        if (nonNull(condition)) {
-            if (and) {
-                this.condition = condition.and(documentCondition);
-            } else {
-                this.condition = condition.or(documentCondition);
-            }
+        if (and) {
+            this.conditions.and(documentCondition);
         } else {
-            this.condition = documentCondition;
+            this.conditions.or(documentCondition);
         }
         this.negate = false;
         this.name = null;
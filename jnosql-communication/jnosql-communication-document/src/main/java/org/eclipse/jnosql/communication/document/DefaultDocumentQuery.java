@@ -18,6 +18,7 @@ package org.eclipse.jnosql.communication.document;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.TypeReference;
 
 import java.util.Collections;
 import java.util.List;
@@ -70,11 +71,53 @@ record DefaultDocumentQuery(long limit, long skip, String name,
 
 
     static DocumentQuery countBy(DocumentQuery query) {
-        return new DefaultDocumentQuery(0, 0, query.name(), query.documents(),
+        return key(query).map(name -> countBy(query, name))
+                .orElseGet(() -> new DefaultDocumentQuery(0, 0, query.name(), query.documents(),
+                        Collections.emptyList(), query.condition().orElse(null)));
+    }
+
+    static DocumentQuery countBy(DocumentQuery query, String name) {
+        return new DefaultDocumentQuery(0, 0, query.name(), List.of(name),
                 Collections.emptyList(), query.condition().orElse(null));
     }
+
     static DocumentQuery existsBy(DocumentQuery query) {
-        return new DefaultDocumentQuery(1, 0, query.name(), query.documents(),
+        return key(query).map(name -> existsBy(query, name))
+                .orElseGet(() -> new DefaultDocumentQuery(1, 0, query.name(), query.documents(),
+                        Collections.emptyList(), query.condition().orElse(null)));
+    }
+
+    static DocumentQuery existsBy(DocumentQuery query, String name) {
+        return new DefaultDocumentQuery(1, 0, query.name(), List.of(name),
                 Collections.emptyList(), query.condition().orElse(null));
     }
+
+    static DocumentQuery aggregateBy(DocumentQuery query, String name) {
+        return new DefaultDocumentQuery(0, 0, query.name(), List.of(name),
+                Collections.emptyList(), query.condition().orElse(null));
+    }
+
+    /**
+     * The projection that count and exists select: a single document, since a projection never filters the
+     * entities, it is the first selected document or the first document at the condition, otherwise,
+     * the whole entity when the query has neither.
+     */
+    private static Optional<String> key(DocumentQuery query) {
+        if (!query.documents().isEmpty()) {
+            return Optional.of(query.documents().get(0));
+        }
+        return query.condition().flatMap(DefaultDocumentQuery::key);
+    }
+
+    private static Optional<String> key(DocumentCondition condition) {
+        return switch (condition.condition()) {
+            case NOT -> key(condition.document().get(DocumentCondition.class));
+            case AND, OR -> condition.document().get(new TypeReference<List<DocumentCondition>>() {
+                    }).stream()
+                    .map(DefaultDocumentQuery::key)
+                    .flatMap(Optional::stream)
+                    .findFirst();
+            default -> Optional.of(condition.document().name());
+        };
+    }
 }
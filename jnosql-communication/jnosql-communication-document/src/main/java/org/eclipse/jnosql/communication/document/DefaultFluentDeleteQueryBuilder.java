@@ -131,7 +131,7 @@ class DefaultFluentDeleteQueryBuilder extends BaseQueryBuilder implements Docume
 
     @Override
     public DocumentDeleteQuery build() {
-        return new DefaultDocumentDeleteQuery(documentCollection, condition, documents);
+        return new DefaultDocumentDeleteQuery(documentCollection, conditions.build().orElse(null), documents);
     }
 
     @Override
@@ -189,7 +189,8 @@ class DefaultFluentDocumentQueryBuilder extends BaseQueryBuilder implements Docu
 
     @Override
     public DocumentQuery build() {
-        return new DefaultDocumentQuery(limit, skip, documentCollection, documents, sorts, condition);
+        return new DefaultDocumentQuery(limit, skip, documentCollection, documents, sorts,
+                conditions.build().orElse(null));
     }
 
     @Override
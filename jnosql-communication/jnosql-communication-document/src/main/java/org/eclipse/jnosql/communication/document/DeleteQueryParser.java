@@ -20,7 +20,7 @@ package org.eclipse.jnosql.communication.document;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.query.DeleteQuery;
-import org.eclipse.jnosql.communication.query.DeleteQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryCache;
 
 import java.util.List;
 import java.util.Objects;
@@ -57,8 +57,7 @@ public final class DeleteQueryParser implements BiFunction<DeleteQuery, Document
     }
 
     private DocumentDeleteQuery getQuery(String query, Params params, DocumentObserverParser observer) {
-        DeleteQueryConverter converter = new DeleteQueryConverter();
-        DeleteQuery deleteQuery = converter.apply(query);
+        DeleteQuery deleteQuery = QueryCache.DELETE.apply(query);
 
         return getQuery(params, observer, deleteQuery);
     }
@@ -76,8 +75,7 @@ public final class DeleteQueryParser implements BiFunction<DeleteQuery, Document
     }
 
     private DocumentDeleteQuery getQuery(String query, DocumentObserverParser observer) {
-        DeleteQueryConverter converter = new DeleteQueryConverter();
-        DeleteQuery deleteQuery = converter.apply(query);
+        DeleteQuery deleteQuery = QueryCache.DELETE.apply(query);
 
         String collection = observer.fireEntity(deleteQuery.entity());
         List<String> documents = deleteQuery.fields().stream()
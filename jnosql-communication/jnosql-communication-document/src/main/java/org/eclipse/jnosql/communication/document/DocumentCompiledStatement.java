@@ -0,0 +1,122 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.document;
+
+
+import org.eclipse.jnosql.communication.ParamSlots;
+import org.eclipse.jnosql.communication.document.DocumentPreparedStatement.PreparedStatementType;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+
+/**
+ * An immutable and thread-safe query statement that is parsed and translated once.
+ * Unlike {@link DocumentPreparedStatement}, the parameters values are not kept in the statement,
+ * each execution creates a {@link DocumentBinding} with its own values, so the same compiled statement
+ * might be cached and shared by several threads.
+ *
+ * @see DocumentManager#compile(String)
+ */
+public final class DocumentCompiledStatement {
+
+    private final DocumentEntity entity;
+
+    private final DocumentQuery documentQuery;
+
+    private final DocumentDeleteQuery documentDeleteQuery;
+
+    private final PreparedStatementType type;
+
+    private final ParamSlots slots;
+
+    private final DocumentParamsResolver resolver;
+
+    private final String query;
+
+    private final Duration duration;
+
+    private final DocumentManager manager;
+
+    DocumentCompiledStatement(DocumentEntity entity,
+                              DocumentQuery documentQuery,
+                              DocumentDeleteQuery documentDeleteQuery,
+                              PreparedStatementType type,
+                              ParamSlots slots,
+                              String query,
+                              Duration duration,
+                              DocumentManager manager) {
+        this.entity = entity;
+        this.documentQuery = documentQuery;
+        this.documentDeleteQuery = documentDeleteQuery;
+        this.type = type;
+        this.slots = slots;
+        this.resolver = DocumentParamsResolver.of(slots);
+        this.query = query;
+        this.duration = duration;
+        this.manager = manager;
+    }
+
+    /**
+     * Returns the parameters name, where the index is the parameter position.
+     *
+     * @return the parameters name
+     */
+    public List<String> parameters() {
+        return slots.names();
+    }
+
+    /**
+     * Creates a new binding to execute this statement, the binding is cheap and should not be shared across threads.
+     *
+     * @return a new {@link DocumentBinding} instance
+     */
+    public DocumentBinding bind() {
+        return new DocumentBinding(this, slots);
+    }
+
+    Stream<DocumentEntity> result(Object[] values) {
+        slots.validate(values);
+        switch (type) {
+            case SELECT -> {
+                return manager.select(resolver.resolve(documentQuery, values));
+            }
+            case DELETE -> {
+                manager.delete(resolver.resolve(documentDeleteQuery, values));
+                return Stream.empty();
+            }
+            case UPDATE -> {
+                return Stream.of(manager.update(resolver.resolve(entity, values)));
+            }
+            case INSERT -> {
+                if (Objects.isNull(duration)) {
+                    return Stream.of(manager.insert(resolver.resolve(entity, values)));
+                } else {
+                    return Stream.of(manager.insert(resolver.resolve(entity, values), duration));
+                }
+            }
+            default -> throw new UnsupportedOperationException("there is not support to operation type: " + type);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return query;
+    }
+}
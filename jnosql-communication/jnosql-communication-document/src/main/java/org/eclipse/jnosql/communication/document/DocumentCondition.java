@@ -164,6 +164,16 @@ public final class DocumentCondition {
                 '}';
     }
 
+    /**
+     * Creates a builder that appends conditions as AND or OR without copying the previous conditions
+     * at each append, which is the option to build a condition with many terms.
+     *
+     * @return a new {@link DocumentConditionBuilder} instance
+     */
+    public static DocumentConditionBuilder builder() {
+        return new DocumentConditionBuilder();
+    }
+
     public static DocumentCondition readOnly(DocumentCondition condition) {
         requireNonNull(condition, "condition is required");
         return new DocumentCondition(condition.document(), condition.condition(), true);
@@ -18,6 +18,8 @@ package org.eclipse.jnosql.communication.document;
 
 
 import jakarta.data.exceptions.NonUniqueResultException;
+import org.eclipse.jnosql.communication.Aggregation;
+import org.eclipse.jnosql.communication.Value;
 
 import java.time.Duration;
 import java.util.Iterator;
@@ -124,24 +126,55 @@ public interface DocumentManager extends AutoCloseable {
 
     /**
      * Returns the number of items in the collection that match a specified query.
+     * By default, it selects a single document of each entity, the first one either selected or at the condition,
+     * and counts them on the client side, thus the implementations should override it when the database can count
+     * by itself.
      * @param query the query
      * @return the number of documents from query
      * @throws NullPointerException when query is null
      */
     default long count(DocumentQuery query) {
         Objects.requireNonNull(query, "query is required");
-        return this.select(DefaultDocumentQuery.countBy(query)).count();
+        try (Stream<DocumentEntity> entities = this.select(DefaultDocumentQuery.countBy(query))) {
+            return entities.count();
+        }
     }
 
     /**
      * Returns whether an entity that match a specified query.
+     * By default, it selects a single document of at most one entity, thus the implementations should override it
+     * when the database can check it by itself.
      * @param query the query
      * @return true if an entity with the given query exists, false otherwise.
      * @throws NullPointerException when query it null
      */
     default boolean exists(DocumentQuery query) {
         Objects.requireNonNull(query, "query is required");
-        return this.select(DefaultDocumentQuery.existsBy(query)).findAny().isPresent();
+        try (Stream<DocumentEntity> entities = this.select(DefaultDocumentQuery.existsBy(query))) {
+            return entities.findAny().isPresent();
+        }
+    }
+
+    /**
+     * Returns the aggregation of a field from the entities that match a specified query, such as the
+     * {@link Aggregation#MIN}, {@link Aggregation#MAX} and {@link Aggregation#SUM}.
+     * By default, it selects only the field and aggregates the values on the client side, thus the implementations
+     * should override it when the database can aggregate by itself, as well as {@link DocumentManager#count(DocumentQuery)}
+     * and {@link DocumentManager#exists(DocumentQuery)}.
+     *
+     * @param query       the query
+     * @param aggregation the aggregation
+     * @param name        the field name
+     * @return the result or {@link Optional#empty()} when there is no value to the field
+     * @throws NullPointerException when there is null parameter
+     */
+    default Optional<Value> aggregate(DocumentQuery query, Aggregation aggregation, String name) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(aggregation, "aggregation is required");
+        Objects.requireNonNull(name, "name is required");
+        try (Stream<DocumentEntity> entities = this.select(DefaultDocumentQuery.aggregateBy(query, name))) {
+            return aggregation.apply(entities.map(e -> e.find(name).map(Document::get).orElse(null)));
+        }
     }
 
     /**
@@ -174,6 +207,21 @@ public interface DocumentManager extends AutoCloseable {
         return parser.prepare(query, this, DocumentObserverParser.EMPTY);
     }
 
+    /**
+     * Parses and translates a query once and returns a {@link DocumentCompiledStatement},
+     * unlike {@link DocumentManager#prepare(String)} the result is immutable and might be cached and shared across threads.
+     *
+     * @param query the query as {@link String}
+     * @return a {@link DocumentCompiledStatement} instance
+     * @throws NullPointerException  when there is parameter null
+     * @throws IllegalStateException when there is not {@link DocumentQueryParser}
+     */
+    default DocumentCompiledStatement compile(String query) {
+        Objects.requireNonNull(query, "query is required");
+        DocumentQueryParser parser = new DocumentQueryParser();
+        return parser.compile(query, this, DocumentObserverParser.EMPTY);
+    }
+
     /**
      * Returns a single entity from select
      *
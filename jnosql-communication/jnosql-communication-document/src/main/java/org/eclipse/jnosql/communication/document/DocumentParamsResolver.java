@@ -0,0 +1,145 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.document;
+
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.ParamSlots;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * Replaces the parameters of a translated query with the values indexed by the {@link ParamSlots} positions.
+ * The query template is never changed, each call returns a new instance, so the template might be shared across
+ * threads.
+ */
+public final class DocumentParamsResolver {
+
+    private final ParamSlots slots;
+
+    private DocumentParamsResolver(ParamSlots slots) {
+        this.slots = slots;
+    }
+
+    /**
+     * @return the parameters slots
+     */
+    public ParamSlots slots() {
+        return slots;
+    }
+
+    /**
+     * Returns the query with the parameters replaced, when there is no parameter it returns the same instance.
+     *
+     * @param query  the query template
+     * @param values the values indexed by position
+     * @return the query with the values
+     * @throws NullPointerException when there is null parameter
+     */
+    public DocumentQuery resolve(DocumentQuery query, Object[] values) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(values, "values is required");
+        if (slots.isEmpty()) {
+            return query;
+        }
+        DocumentCondition condition = query.condition().map(c -> resolve(c, values)).orElse(null);
+        return new DefaultDocumentQuery(query.limit(), query.skip(), query.name(), query.documents(),
+                query.sorts(), condition);
+    }
+
+    /**
+     * Returns the delete query with the parameters replaced, when there is no parameter it returns the same instance.
+     *
+     * @param query  the query template
+     * @param values the values indexed by position
+     * @return the query with the values
+     * @throws NullPointerException when there is null parameter
+     */
+    public DocumentDeleteQuery resolve(DocumentDeleteQuery query, Object[] values) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(values, "values is required");
+        if (slots.isEmpty()) {
+            return query;
+        }
+        DocumentCondition condition = query.condition().map(c -> resolve(c, values)).orElse(null);
+        return new DefaultDocumentDeleteQuery(query.name(), condition, query.documents());
+    }
+
+    /**
+     * Returns a new entity with the parameters replaced, it always creates a new instance because
+     * {@link DocumentEntity} is mutable.
+     *
+     * @param entity the entity template
+     * @param values the values indexed by position
+     * @return a new entity with the values
+     * @throws NullPointerException when there is null parameter
+     */
+    public DocumentEntity resolve(DocumentEntity entity, Object[] values) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(values, "values is required");
+        DocumentEntity resolved = DocumentEntity.of(entity.name());
+        for (Document document : entity.documents()) {
+            resolved.add(Document.of(document.name(), slots.resolve(document.value(), values)));
+        }
+        return resolved;
+    }
+
+    /**
+     * Returns the condition with the parameters replaced, including the nested conditions.
+     *
+     * @param condition the condition template
+     * @param values    the values indexed by position
+     * @return the condition with the values
+     * @throws NullPointerException when there is null parameter
+     */
+    public DocumentCondition resolve(DocumentCondition condition, Object[] values) {
+        Objects.requireNonNull(condition, "condition is required");
+        Objects.requireNonNull(values, "values is required");
+        Document document = condition.document();
+        Condition operator = condition.condition();
+        if (Condition.AND.equals(operator) || Condition.OR.equals(operator)) {
+            List<DocumentCondition> conditions = new ArrayList<>();
+            for (Object element : (Iterable<?>) document.get()) {
+                conditions.add(resolve((DocumentCondition) element, values));
+            }
+            return DocumentCondition.of(Document.of(document.name(), conditions), operator);
+        } else if (Condition.NOT.equals(operator)) {
+            DocumentCondition negated = resolve((DocumentCondition) document.get(), values);
+            return DocumentCondition.of(Document.of(document.name(), negated), operator);
+        }
+        Value value = slots.resolve(document.value(), values);
+        if (value == document.value()) {
+            return condition;
+        }
+        return DocumentCondition.of(Document.of(document.name(), value), operator);
+    }
+
+    /**
+     * Creates a resolver to the parameters slots
+     *
+     * @param slots the parameters slots
+     * @return a {@link DocumentParamsResolver} instance
+     * @throws NullPointerException when slots is null
+     */
+    public static DocumentParamsResolver of(ParamSlots slots) {
+        return new DocumentParamsResolver(Objects.requireNonNull(slots, "slots is required"));
+    }
+}
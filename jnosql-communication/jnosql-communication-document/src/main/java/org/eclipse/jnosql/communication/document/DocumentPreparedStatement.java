@@ -138,6 +138,17 @@ public final class DocumentPreparedStatement {
         throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
     }
 
+    /**
+     * Creates an immutable {@link DocumentCompiledStatement} from the query translated by this statement,
+     * the values already bound at this statement are ignored.
+     *
+     * @return a {@link DocumentCompiledStatement} instance
+     */
+    DocumentCompiledStatement compile() {
+        return new DocumentCompiledStatement(entity, documentQuery, documentDeleteQuery, type, params.slots(),
+                query, duration, manager);
+    }
+
     enum PreparedStatementType {
         SELECT, DELETE, UPDATE, INSERT
     }
@@ -87,6 +87,21 @@ public final class DocumentQueryParser {
         };
     }
 
+    /**
+     * Parses and translates a query once and returns a {@link DocumentCompiledStatement}, that is immutable and
+     * might be shared across threads.
+     *
+     * @param query             the query as {@link String}
+     * @param collectionManager the collection manager
+     * @param observer          the observer
+     * @return a {@link DocumentCompiledStatement} instance
+     * @throws NullPointerException            when there is parameter null
+     * @throws QueryException when there is error in the syntax
+     */
+    public DocumentCompiledStatement compile(String query, DocumentManager collectionManager,
+                                             DocumentObserverParser observer) {
+        return prepare(query, collectionManager, observer).compile();
+    }
 
     private void validation(String query, DocumentManager collectionManager, DocumentObserverParser observer) {
         Objects.requireNonNull(query, "query is required");
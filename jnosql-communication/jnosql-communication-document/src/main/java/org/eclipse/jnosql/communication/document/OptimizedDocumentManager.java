@@ -0,0 +1,120 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.Aggregation;
+import org.eclipse.jnosql.communication.Value;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * The {@link DocumentManager} that rewrites the queries with the {@link DocumentConditionOptimizer}
+ * before calling the decorated manager.
+ */
+final class OptimizedDocumentManager implements DocumentManager {
+
+    private final DocumentManager manager;
+
+    private final DocumentConditionOptimizer optimizer;
+
+    OptimizedDocumentManager(DocumentManager manager, DocumentConditionOptimizer optimizer) {
+        this.manager = manager;
+        this.optimizer = optimizer;
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity) {
+        return manager.insert(entity);
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        return manager.insert(entity, ttl);
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
+        return manager.insert(entities);
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities, Duration ttl) {
+        return manager.insert(entities, ttl);
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity) {
+        return manager.update(entity);
+    }
+
+    @Override
+    public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
+        return manager.update(entities);
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        manager.delete(optimizer.optimize(query));
+    }
+
+    @Override
+    public Stream<DocumentEntity> select(DocumentQuery query) {
+        return manager.select(optimizer.optimize(query));
+    }
+
+    @Override
+    public long count(DocumentQuery query) {
+        return manager.count(optimizer.optimize(query));
+    }
+
+    @Override
+    public boolean exists(DocumentQuery query) {
+        return manager.exists(optimizer.optimize(query));
+    }
+
+    @Override
+    public Optional<Value> aggregate(DocumentQuery query, Aggregation aggregation, String name) {
+        return manager.aggregate(optimizer.optimize(query), aggregation, name);
+    }
+
+    @Override
+    public Optional<DocumentEntity> singleResult(DocumentQuery query) {
+        return manager.singleResult(optimizer.optimize(query));
+    }
+
+    @Override
+    public long count(String documentCollection) {
+        return manager.count(documentCollection);
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    @Override
+    public String toString() {
+        return "OptimizedDocumentManager{" + "manager=" + manager + '}';
+    }
+}
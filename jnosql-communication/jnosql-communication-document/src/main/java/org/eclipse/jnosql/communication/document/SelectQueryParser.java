@@ -22,7 +22,7 @@ import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import jakarta.data.Sort;
 import org.eclipse.jnosql.communication.query.SelectQuery;
-import org.eclipse.jnosql.communication.query.SelectQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryCache;
 
 import java.util.List;
 import java.util.Objects;
@@ -44,8 +44,7 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, Document
 
         Params params = Params.newParams();
 
-        SelectQueryConverter converter = new SelectQueryConverter();
-        SelectQuery selectQuery = converter.apply(query);
+        SelectQuery selectQuery = QueryCache.SELECT.apply(query);
 
         DocumentQuery documentQuery = getDocumentQuery(params, selectQuery, observer);
         return DocumentPreparedStatement.select(documentQuery, params, query, collectionManager);
@@ -63,8 +62,7 @@ public final class SelectQueryParser implements BiFunction<SelectQuery, Document
 
     private DocumentQuery getDocumentQuery(String query, DocumentObserverParser observer) {
 
-        SelectQueryConverter converter = new SelectQueryConverter();
-        SelectQuery selectQuery = converter.apply(query);
+        SelectQuery selectQuery = QueryCache.SELECT.apply(query);
         String collection = observer.fireEntity(selectQuery.entity());
         long limit = selectQuery.limit();
         long skip = selectQuery.skip();
@@ -21,7 +21,7 @@ import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.query.JSONQueryValue;
 import org.eclipse.jnosql.communication.query.QueryCondition;
 import org.eclipse.jnosql.communication.query.UpdateQuery;
-import org.eclipse.jnosql.communication.query.UpdateQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryCache;
 
 import java.util.List;
 import java.util.Optional;
@@ -32,8 +32,7 @@ final class UpdateQueryParser extends ConditionQueryParser {
 
     Stream<DocumentEntity> query(String query, DocumentManager collectionManager, DocumentObserverParser observer) {
 
-        UpdateQueryConverter converter = new UpdateQueryConverter();
-        UpdateQuery updateQuery = converter.apply(query);
+        UpdateQuery updateQuery = QueryCache.UPDATE.apply(query);
 
         Params params = Params.newParams();
 
@@ -50,8 +49,7 @@ final class UpdateQueryParser extends ConditionQueryParser {
 
         Params params = Params.newParams();
 
-        UpdateQueryConverter converter = new UpdateQueryConverter();
-        UpdateQuery updateQuery = converter.apply(query);
+        UpdateQuery updateQuery = QueryCache.UPDATE.apply(query);
 
         DocumentEntity entity = getEntity(params, updateQuery, observer);
         return DocumentPreparedStatement.update(entity, params, query, collectionManager);
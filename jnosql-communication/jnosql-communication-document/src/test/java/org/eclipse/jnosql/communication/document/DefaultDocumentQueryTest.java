@@ -70,6 +70,7 @@ class DefaultDocumentQueryTest {
         DocumentQuery countQuery = DefaultDocumentQuery.countBy(query);
         Assertions.assertNotNull(countQuery);
         assertEquals("entity", countQuery.name());
+        assertEquals(List.of("name"), countQuery.documents());
         assertEquals(0, countQuery.limit());
         assertEquals(0, countQuery.skip());
         assertTrue(countQuery.sorts().isEmpty());
@@ -77,6 +78,23 @@ class DefaultDocumentQueryTest {
         Assertions.assertEquals(Condition.EQUALS, condition.condition());
     }
 
+    @Test
+    void shouldConvertAggregateBy() {
+        DocumentQuery query = DocumentQuery.select().from("entity")
+                .where("name").eq("predicate")
+                .orderBy("name").asc().skip(2).limit(10).build();
+
+        DocumentQuery aggregateQuery = DefaultDocumentQuery.aggregateBy(query, "age");
+        Assertions.assertNotNull(aggregateQuery);
+        assertEquals("entity", aggregateQuery.name());
+        assertEquals(0, aggregateQuery.limit());
+        assertEquals(0, aggregateQuery.skip());
+        assertTrue(aggregateQuery.sorts().isEmpty());
+        assertEquals(List.of("age"), aggregateQuery.documents());
+        DocumentCondition condition = aggregateQuery.condition().orElseThrow();
+        Assertions.assertEquals(Condition.EQUALS, condition.condition());
+    }
+
     @Test
     void shouldConvertExistsBy() {
         DocumentQuery query = DocumentQuery.select().from("entity")
@@ -86,6 +104,7 @@ class DefaultDocumentQueryTest {
         DocumentQuery countQuery = DefaultDocumentQuery.existsBy(query);
         Assertions.assertNotNull(countQuery);
         assertEquals("entity", countQuery.name());
+        assertEquals(List.of("name"), countQuery.documents());
         assertEquals(1, countQuery.limit());
         assertEquals(0, countQuery.skip());
         assertTrue(countQuery.sorts().isEmpty());
@@ -93,6 +112,42 @@ class DefaultDocumentQueryTest {
         Assertions.assertEquals(Condition.EQUALS, condition.condition());
     }
 
+    @Test
+    void shouldCountBySelectedDocument() {
+        DocumentQuery query = DocumentQuery.select("age", "name").from("entity")
+                .where("name").eq("predicate").build();
+
+        assertEquals(List.of("age"), DefaultDocumentQuery.countBy(query).documents());
+        assertEquals(List.of("age"), DefaultDocumentQuery.existsBy(query).documents());
+    }
+
+    @Test
+    void shouldCountByFirstDocumentAtNestedCondition() {
+        DocumentQuery query = DocumentQuery.select().from("entity")
+                .where("age").gt(10).or("name").eq("predicate").and("city").not().eq("Salvador").build();
+
+        assertEquals(List.of("age"), DefaultDocumentQuery.countBy(query).documents());
+    }
+
+    @Test
+    void shouldCountByWholeEntityWithoutCondition() {
+        DocumentQuery query = DocumentQuery.select().from("entity").build();
+
+        assertTrue(DefaultDocumentQuery.countBy(query).documents().isEmpty());
+        assertTrue(DefaultDocumentQuery.existsBy(query).documents().isEmpty());
+    }
+
+    @Test
+    void shouldExistsByDocument() {
+        DocumentQuery query = DocumentQuery.select().from("entity")
+                .where("name").eq("predicate").skip(2).build();
+
+        DocumentQuery existsQuery = DefaultDocumentQuery.existsBy(query, "_id");
+        assertEquals(List.of("_id"), existsQuery.documents());
+        assertEquals(1, existsQuery.limit());
+        assertEquals(0, existsQuery.skip());
+    }
+
     @Test
     void shouldGenerateEquals(){
         DocumentQuery query = DocumentQuery.select().from("entity")
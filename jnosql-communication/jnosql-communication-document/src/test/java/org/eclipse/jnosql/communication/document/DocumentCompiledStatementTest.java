@@ -0,0 +1,143 @@
+/*
+ *
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class DocumentCompiledStatementTest {
+
+    private final DocumentQueryParser parser = new DocumentQueryParser();
+
+    private DocumentManager manager;
+
+    @BeforeEach
+    void setUp() {
+        this.manager = Mockito.mock(DocumentManager.class);
+    }
+
+    @Test
+    void shouldReturnParameters() {
+        DocumentCompiledStatement statement = parser.compile("select * from God where age = @age and name = @name",
+                manager, DocumentObserverParser.EMPTY);
+        assertThat(statement.parameters()).containsExactly("age", "name");
+    }
+
+    @Test
+    void shouldExecuteSelectWithIndependentBindings() {
+        DocumentCompiledStatement statement = parser.compile("select * from God where age = @age",
+                manager, DocumentObserverParser.EMPTY);
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+
+        DocumentBinding first = statement.bind().bind("age", 12);
+        DocumentBinding second = statement.bind().bind(0, 20);
+        second.result();
+        first.result();
+
+        Mockito.verify(manager, Mockito.times(2)).select(captor.capture());
+        List<DocumentQuery> queries = captor.getAllValues();
+        assertThat(queries.get(0).condition().orElseThrow().document().get()).isEqualTo(20);
+        assertThat(queries.get(1).condition().orElseThrow().document().get()).isEqualTo(12);
+    }
+
+    @Test
+    void shouldResolveNestedConditions() {
+        DocumentCompiledStatement statement = parser.compile(
+                "select * from God where age = @age and not name = @name or age in (@first, @second)",
+                manager, DocumentObserverParser.EMPTY);
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+
+        statement.bind().bind("age", 12).bind("name", "Ada")
+                .bind("first", 1).bind("second", 2).result();
+
+        Mockito.verify(manager).select(captor.capture());
+        String condition = captor.getValue().condition().orElseThrow().toString();
+        assertThat(condition).contains("12", "Ada", "value=1", "value=2").doesNotContain("= ?");
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsMissing() {
+        DocumentCompiledStatement statement = parser.compile("select * from God where age = @age",
+                manager, DocumentObserverParser.EMPTY);
+        DocumentBinding binding = statement.bind();
+        assertThatThrownBy(binding::result).isInstanceOf(QueryException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenPositionIsInvalid() {
+        DocumentCompiledStatement statement = parser.compile("select * from God where age = @age",
+                manager, DocumentObserverParser.EMPTY);
+        DocumentBinding binding = statement.bind();
+        assertThatThrownBy(() -> binding.bind(1, 10)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void shouldExecuteDelete() {
+        DocumentCompiledStatement statement = parser.compile("delete from God where age = @age",
+                manager, DocumentObserverParser.EMPTY);
+        ArgumentCaptor<DocumentDeleteQuery> captor = ArgumentCaptor.forClass(DocumentDeleteQuery.class);
+
+        statement.bind().bind("age", 12).result();
+
+        Mockito.verify(manager).delete(captor.capture());
+        DocumentCondition condition = captor.getValue().condition().orElseThrow();
+        assertThat(condition.condition()).isEqualTo(Condition.EQUALS);
+        assertThat(condition.document().get()).isEqualTo(12);
+    }
+
+    @Test
+    void shouldExecuteInsertWithNewEntity() {
+        DocumentCompiledStatement statement = parser.compile("insert God (name = @name) 10 day",
+                manager, DocumentObserverParser.EMPTY);
+        ArgumentCaptor<DocumentEntity> captor = ArgumentCaptor.forClass(DocumentEntity.class);
+        when(manager.insert(any(DocumentEntity.class), any(Duration.class))).thenReturn(DocumentEntity.of("God"));
+
+        statement.bind().bind("name", "Diana").result();
+        statement.bind().bind("name", "Apollo").result();
+
+        Mockito.verify(manager, Mockito.times(2)).insert(captor.capture(), Mockito.eq(Duration.ofDays(10L)));
+        List<DocumentEntity> entities = captor.getAllValues();
+        assertThat(entities.get(0)).isNotSameAs(entities.get(1));
+        assertThat(entities.get(0).find("name").orElseThrow().get()).isEqualTo("Diana");
+        assertThat(entities.get(1).find("name").orElseThrow().get()).isEqualTo("Apollo");
+    }
+
+    @Test
+    void shouldExecuteUpdate() {
+        DocumentCompiledStatement statement = parser.compile("update God (name = @name)",
+                manager, DocumentObserverParser.EMPTY);
+        ArgumentCaptor<DocumentEntity> captor = ArgumentCaptor.forClass(DocumentEntity.class);
+        when(manager.update(any(DocumentEntity.class))).thenReturn(DocumentEntity.of("God"));
+
+        statement.bind().bind("name", "Diana").singleResult();
+
+        Mockito.verify(manager).update(captor.capture());
+        assertThat(captor.getValue().find("name").orElseThrow().get()).isEqualTo("Diana");
+    }
+}
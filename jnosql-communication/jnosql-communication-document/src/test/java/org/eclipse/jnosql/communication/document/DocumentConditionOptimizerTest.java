@@ -0,0 +1,166 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocumentConditionOptimizerTest {
+
+    private final DocumentConditionOptimizer optimizer = DocumentConditionOptimizer.INSTANCE;
+
+    private final DocumentCondition name = DocumentCondition.eq("name", "Ada");
+
+    private final DocumentCondition city = DocumentCondition.eq("city", "Salvador");
+
+    private final DocumentCondition country = DocumentCondition.eq("country", "Brazil");
+
+    @Test
+    void shouldReturnErrorWhenConditionIsNull() {
+        assertThatThrownBy(() -> optimizer.optimize((DocumentCondition) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldKeepSimpleCondition() {
+        assertThat(optimizer.optimize(name)).contains(name);
+    }
+
+    @Test
+    void shouldFlattenNestedConditions() {
+        DocumentCondition condition = DocumentCondition.and(DocumentCondition.and(name, city),
+                DocumentCondition.and(country, DocumentCondition.and(name, city)));
+        assertThat(optimizer.optimize(condition)).contains(DocumentCondition.and(name, city, country));
+    }
+
+    @Test
+    void shouldNotFlattenDifferentOperator() {
+        DocumentCondition condition = DocumentCondition.and(name, DocumentCondition.or(city, country));
+        assertThat(optimizer.optimize(condition)).contains(condition);
+    }
+
+    @Test
+    void shouldRemoveDoubleNegation() {
+        assertThat(optimizer.optimize(name.negate().negate())).contains(name);
+        DocumentCondition condition = DocumentCondition.of(Document.of(Condition.NOT.getNameField(),
+                DocumentCondition.of(Document.of(Condition.NOT.getNameField(), name), Condition.NOT)), Condition.NOT);
+        assertThat(optimizer.optimize(condition)).contains(name);
+    }
+
+    @Test
+    void shouldRemoveDuplicatedTerms() {
+        assertThat(optimizer.optimize(DocumentCondition.and(name, city, name)))
+                .contains(DocumentCondition.and(name, city));
+        assertThat(optimizer.optimize(DocumentCondition.or(name, name))).contains(name);
+    }
+
+    @Test
+    void shouldMergeEqualsIntoIn() {
+        DocumentCondition condition = DocumentCondition.or(DocumentCondition.eq("age", 1), city,
+                DocumentCondition.eq("age", 2), DocumentCondition.in("age", List.of(2, 3)));
+        assertThat(optimizer.optimize(condition)).contains(DocumentCondition.or(
+                DocumentCondition.in("age", List.of(1, 2, 3)), city));
+    }
+
+    @Test
+    void shouldNotMergeEqualsAtAnd() {
+        DocumentCondition condition = DocumentCondition.and(DocumentCondition.eq("age", 1),
+                DocumentCondition.eq("age", 2));
+        assertThat(optimizer.optimize(condition)).contains(condition);
+    }
+
+    @Test
+    void shouldFoldRangesIntoBetween() {
+        DocumentCondition condition = DocumentCondition.and(DocumentCondition.gte("age", 1), name,
+                DocumentCondition.lte("age", 10), DocumentCondition.gte("age", 5));
+        assertThat(optimizer.optimize(condition)).contains(DocumentCondition.and(
+                DocumentCondition.between("age", List.of(5, 10)), name));
+    }
+
+    @Test
+    void shouldFoldBetweenAndRange() {
+        DocumentCondition condition = DocumentCondition.and(DocumentCondition.between("age", List.of(1, 20)),
+                DocumentCondition.lte("age", 10));
+        assertThat(optimizer.optimize(condition)).contains(DocumentCondition.between("age", List.of(1, 10)));
+    }
+
+    @Test
+    void shouldKeepNarrowestStrictRange() {
+        DocumentCondition condition = DocumentCondition.and(DocumentCondition.gt("age", 1),
+                DocumentCondition.gt("age", 5), DocumentCondition.lt("age", 10));
+        assertThat(optimizer.optimize(condition)).contains(DocumentCondition.and(DocumentCondition.gt("age", 5),
+                DocumentCondition.lt("age", 10)));
+    }
+
+    @Test
+    void shouldNotFoldRangesOfDifferentTypes() {
+        DocumentCondition condition = DocumentCondition.and(DocumentCondition.gte("age", 1),
+                DocumentCondition.lte("age", "10"), DocumentCondition.gte("age", 5L));
+        assertThat(optimizer.optimize(condition)).contains(condition);
+    }
+
+    @Test
+    void shouldDropTautology() {
+        DocumentCondition tautology = DocumentCondition.or(city, city.negate());
+        assertThat(optimizer.optimize(tautology)).isEmpty();
+        assertThat(optimizer.optimize(DocumentCondition.and(name, tautology))).contains(name);
+    }
+
+    @Test
+    void shouldOptimizeQuery() {
+        DocumentQuery query = DocumentQuery.select("name").from("person")
+                .where("name").eq("Ada").or("name").eq("Otavio").build();
+
+        DocumentQuery optimized = optimizer.optimize(query);
+
+        assertThat(optimized.name()).isEqualTo("person");
+        assertThat(optimized.documents()).containsExactly("name");
+        assertThat(optimized.condition()).contains(DocumentCondition.in("name", List.of("Ada", "Otavio")));
+    }
+
+    @Test
+    void shouldOptimizeDeleteQuery() {
+        DocumentDeleteQuery query = DocumentDeleteQuery.delete().from("person")
+                .where("name").eq("Ada").and("name").eq("Ada").build();
+
+        DocumentDeleteQuery optimized = optimizer.optimize(query);
+
+        assertThat(optimized.condition()).contains(DocumentCondition.eq("name", "Ada"));
+    }
+
+    @Test
+    void shouldDecorateManager() {
+        DocumentManager manager = Mockito.mock(DocumentManager.class);
+        DocumentManager decorated = optimizer.decorate(manager);
+        DocumentQuery query = DocumentQuery.select().from("person")
+                .where("age").gte(10).and("age").lte(20).build();
+
+        decorated.select(query);
+        decorated.count(query);
+
+        DocumentQuery expected = optimizer.optimize(query);
+        Mockito.verify(manager).select(expected);
+        Mockito.verify(manager).count(expected);
+        assertThat(expected.condition()).contains(DocumentCondition.between("age", List.of(10, 20)));
+    }
+}
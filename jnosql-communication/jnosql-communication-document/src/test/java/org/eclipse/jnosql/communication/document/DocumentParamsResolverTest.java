@@ -0,0 +1,137 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.document;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocumentParamsResolverTest {
+
+    @Test
+    void shouldReturnErrorWhenThereIsNullParameter() {
+        DocumentParamsResolver resolver = DocumentParamsResolver.of(Params.newParams().slots());
+        DocumentQuery query = DocumentQuery.select().from("person").build();
+        assertThatThrownBy(() -> DocumentParamsResolver.of(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> resolver.resolve((DocumentQuery) null, new Object[0]))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> resolver.resolve(query, null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldReturnSameQueryWhenThereIsNoParameter() {
+        DocumentParamsResolver resolver = DocumentParamsResolver.of(Params.newParams().slots());
+        DocumentQuery query = DocumentQuery.select().from("person").where("name").eq("Ada").build();
+        DocumentDeleteQuery deleteQuery = DocumentDeleteQuery.delete().from("person").where("name").eq("Ada").build();
+
+        assertThat(resolver.resolve(query, new Object[0])).isSameAs(query);
+        assertThat(resolver.resolve(deleteQuery, new Object[0])).isSameAs(deleteQuery);
+    }
+
+    @Test
+    void shouldResolveBySlot() {
+        Params params = Params.newParams();
+        DocumentCondition condition = DocumentCondition.and(
+                DocumentCondition.eq(Document.of("name", params.add("name"))),
+                DocumentCondition.gt(Document.of("age", params.add("age"))));
+        DocumentQuery template = new DefaultDocumentQuery(10, 2, "person", List.of(), List.of(), condition);
+        DocumentParamsResolver resolver = DocumentParamsResolver.of(params.slots());
+
+        DocumentQuery query = resolver.resolve(template, new Object[]{"Ada", 20});
+
+        assertThat(query).isNotSameAs(template);
+        assertThat(query.name()).isEqualTo("person");
+        assertThat(query.limit()).isEqualTo(10);
+        assertThat(query.skip()).isEqualTo(2);
+        List<DocumentCondition> conditions = query.condition().orElseThrow().document()
+                .get(new TypeReference<>() {});
+        assertThat(conditions).hasSize(2);
+        assertThat(conditions.get(0).condition()).isEqualTo(Condition.EQUALS);
+        assertThat(conditions.get(0).document().get()).isEqualTo("Ada");
+        assertThat(conditions.get(1).condition()).isEqualTo(Condition.GREATER_THAN);
+        assertThat(conditions.get(1).document().get()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldKeepTemplateAcrossResolutions() {
+        Params params = Params.newParams();
+        Value name = params.add("name");
+        DocumentCondition condition = DocumentCondition.eq(Document.of("name", name));
+        DocumentDeleteQuery template = new DefaultDocumentDeleteQuery("person", condition, List.of());
+        DocumentParamsResolver resolver = DocumentParamsResolver.of(params.slots());
+
+        DocumentDeleteQuery ada = resolver.resolve(template, new Object[]{"Ada"});
+        DocumentDeleteQuery diana = resolver.resolve(template, new Object[]{"Diana"});
+
+        assertThat(ada.condition().orElseThrow().document().get()).isEqualTo("Ada");
+        assertThat(diana.condition().orElseThrow().document().get()).isEqualTo("Diana");
+        assertThat(template.condition().orElseThrow().document().value()).isSameAs(name);
+    }
+
+    @Test
+    void shouldResolveIterableParameters() {
+        Params params = Params.newParams();
+        Value first = params.add("age");
+        Value second = params.add("age");
+        DocumentCondition condition = DocumentCondition.in(Document.of("age", List.of(first, second)));
+        DocumentParamsResolver resolver = DocumentParamsResolver.of(params.slots());
+
+        DocumentCondition resolved = resolver.resolve(condition, new Object[]{10, 20});
+
+        assertThat(resolved.condition()).isEqualTo(Condition.IN);
+        List<Value> ages = resolved.document().get(new TypeReference<>() {});
+        assertThat(ages).extracting(Value::get).containsExactly(10, 20);
+    }
+
+    @Test
+    void shouldResolveNotCondition() {
+        Params params = Params.newParams();
+        DocumentCondition condition = DocumentCondition.not(DocumentCondition.eq(Document.of("name",
+                params.add("name"))));
+        DocumentParamsResolver resolver = DocumentParamsResolver.of(params.slots());
+
+        DocumentCondition resolved = resolver.resolve(condition, new Object[]{"Ada"});
+
+        assertThat(resolved.condition()).isEqualTo(Condition.NOT);
+        DocumentCondition negated = resolved.document().get(DocumentCondition.class);
+        assertThat(negated.condition()).isEqualTo(Condition.EQUALS);
+        assertThat(negated.document().get()).isEqualTo("Ada");
+    }
+
+    @Test
+    void shouldCreateNewEntity() {
+        Params params = Params.newParams();
+        DocumentEntity template = DocumentEntity.of("person");
+        template.add(Document.of("name", params.add("name")));
+        template.add(Document.of("age", 10));
+        DocumentParamsResolver resolver = DocumentParamsResolver.of(params.slots());
+
+        DocumentEntity entity = resolver.resolve(template, new Object[]{"Ada"});
+
+        assertThat(entity).isNotSameAs(template);
+        assertThat(entity.name()).isEqualTo("person");
+        assertThat(entity.find("name").orElseThrow().get()).isEqualTo("Ada");
+        assertThat(entity.find("age").orElseThrow().get()).isEqualTo(10);
+    }
+}
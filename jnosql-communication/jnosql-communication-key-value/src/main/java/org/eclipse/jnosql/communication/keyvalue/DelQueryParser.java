@@ -21,7 +21,7 @@ import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.query.DelQuery;
-import org.eclipse.jnosql.communication.query.DelQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryCache;
 
 import java.util.List;
 import java.util.stream.Stream;
@@ -32,8 +32,7 @@ final class DelQueryParser {
 
     Stream<Value> query(String query, BucketManager manager) {
 
-        DelQueryConverter converter = new DelQueryConverter();
-        DelQuery delQuery = converter.apply(query);
+        DelQuery delQuery = QueryCache.DEL.apply(query);
         Params params = Params.newParams();
         List<Value> values = delQuery.keys().stream().map(k -> Values.getValue(k, params)).toList();
         if (params.isNotEmpty()) {
@@ -47,8 +46,7 @@ final class DelQueryParser {
 
     public KeyValuePreparedStatement prepare(String query, BucketManager manager) {
 
-        DelQueryConverter converter = new DelQueryConverter();
-        DelQuery delQuery = converter.apply(query);
+        DelQuery delQuery = QueryCache.DEL.apply(query);
         Params params = Params.newParams();
         List<Value> values = delQuery.keys().stream().map(k -> Values.getValue(k, params)).collect(toList());
         return DefaultKeyValuePreparedStatement.del(values, manager, params, query);
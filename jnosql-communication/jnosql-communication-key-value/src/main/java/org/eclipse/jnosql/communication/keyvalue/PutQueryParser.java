@@ -21,7 +21,7 @@ import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.query.PutQuery;
-import org.eclipse.jnosql.communication.query.PutQueryConverter;
+import org.eclipse.jnosql.communication.query.QueryCache;
 
 import java.time.Duration;
 import java.util.Optional;
@@ -31,8 +31,7 @@ final class PutQueryParser {
 
     Stream<Value> query(String query, BucketManager manager) {
 
-        PutQueryConverter converter = new PutQueryConverter();
-        PutQuery putQuery = converter.apply(query);
+        PutQuery putQuery = QueryCache.PUT.apply(query);
         Params params = Params.newParams();
         Value key = Values.getValue(putQuery.key(), params);
         Value value = Values.getValue(putQuery.value(), params);
@@ -52,8 +51,7 @@ final class PutQueryParser {
     }
 
     public KeyValuePreparedStatement prepare(String query, BucketManager manager) {
-        PutQueryConverter converter = new PutQueryConverter();
-        PutQuery putQuery = converter.apply(query);
+        PutQuery putQuery = QueryCache.PUT.apply(query);
         Params params = Params.newParams();
         Value key = Values.getValue(putQuery.key(), params);
         Value value = Values.getValue(putQuery.value(), params);
@@ -0,0 +1,190 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A bounded and thread-safe cache of parsed queries, it maps the query text to the {@link Query} model, so a
+ * repeated query does not run the ANTLR lexer, parser and walker again.
+ * The converters are stateful listeners, thus each miss creates a new converter from the supplier.
+ * When the cache reaches the maximum size, it evicts the oldest query first.
+ *
+ * @param <T> the query type
+ */
+public final class QueryCache<T extends Query> implements Function<String, T> {
+
+    /**
+     * The system property to define the maximum size of the shared caches, a value of zero disables them.
+     */
+    public static final String SIZE_PROPERTY = "jnosql.query.cache.size";
+
+    /**
+     * The default maximum size of the shared caches.
+     */
+    public static final int DEFAULT_SIZE = 1_000;
+
+    private static final int SIZE = Integer.getInteger(SIZE_PROPERTY, DEFAULT_SIZE);
+
+    /**
+     * The shared cache to select queries
+     */
+    public static final QueryCache<SelectQuery> SELECT = new QueryCache<>(SelectQueryConverter::new, SIZE);
+
+    /**
+     * The shared cache to delete queries
+     */
+    public static final QueryCache<DeleteQuery> DELETE = new QueryCache<>(DeleteQueryConverter::new, SIZE);
+
+    /**
+     * The shared cache to insert queries
+     */
+    public static final QueryCache<InsertQuery> INSERT = new QueryCache<>(InsertQueryConverter::new, SIZE);
+
+    /**
+     * The shared cache to update queries
+     */
+    public static final QueryCache<UpdateQuery> UPDATE = new QueryCache<>(UpdateQueryConverter::new, SIZE);
+
+    /**
+     * The shared cache to del queries
+     */
+    public static final QueryCache<DelQuery> DEL = new QueryCache<>(DelQueryConverter::new, SIZE);
+
+    /**
+     * The shared cache to get queries
+     */
+    public static final QueryCache<GetQuery> GET = new QueryCache<>(GetQueryConverter::new, SIZE);
+
+    /**
+     * The shared cache to put queries
+     */
+    public static final QueryCache<PutQuery> PUT = new QueryCache<>(PutQueryConverter::new, SIZE);
+
+    private final Supplier<? extends Function<String, ? extends T>> converter;
+
+    private final int maxSize;
+
+    private final Map<String, T> queries = new ConcurrentHashMap<>();
+
+    private final Queue<String> order = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a new cache
+     *
+     * @param converter the converter supplier, it is called on each miss
+     * @param maxSize   the maximum of queries in the cache, zero disables the cache
+     * @throws NullPointerException     when converter is null
+     * @throws IllegalArgumentException when maxSize is negative
+     */
+    public QueryCache(Supplier<? extends Function<String, ? extends T>> converter, int maxSize) {
+        this.converter = Objects.requireNonNull(converter, "converter is required");
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The maxSize cannot be negative: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the parsed query from the cache, otherwise parses and caches it.
+     *
+     * @param query the query as text
+     * @return the parsed query
+     * @throws NullPointerException when query is null
+     * @throws org.eclipse.jnosql.communication.QueryException when there is error in the syntax
+     */
+    @Override
+    public T apply(String query) {
+        Objects.requireNonNull(query, "query is required");
+        T cached = queries.get(query);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        T parsed = converter.get().apply(query);
+        if (maxSize > 0 && queries.putIfAbsent(query, parsed) == null) {
+            order.add(query);
+            evict();
+        }
+        return parsed;
+    }
+
+    /**
+     * @return the number of queries served from the cache
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of queries that were parsed
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of queries in the cache
+     */
+    public int size() {
+        return queries.size();
+    }
+
+    /**
+     * @return the maximum of queries in the cache
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes all the queries and resets the counters
+     */
+    public void clear() {
+        queries.clear();
+        order.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    private void evict() {
+        while (queries.size() > maxSize) {
+            String eldest = order.poll();
+            if (eldest == null) {
+                return;
+            }
+            queries.remove(eldest);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCache{" +
+                "size=" + queries.size() +
+                ", maxSize=" + maxSize +
+                ", hits=" + hits.sum() +
+                ", misses=" + misses.sum() +
+                '}';
+    }
+}
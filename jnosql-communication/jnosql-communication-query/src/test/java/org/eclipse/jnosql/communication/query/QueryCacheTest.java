@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import org.eclipse.jnosql.communication.QueryException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryCacheTest {
+
+    @Test
+    void shouldReturnErrorWhenConverterIsNull() {
+        assertThatThrownBy(() -> new QueryCache<SelectQuery>(null, 10))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenSizeIsNegative() {
+        assertThatThrownBy(() -> new QueryCache<>(SelectQueryConverter::new, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenQueryIsNull() {
+        QueryCache<SelectQuery> cache = new QueryCache<>(SelectQueryConverter::new, 10);
+        assertThatThrownBy(() -> cache.apply(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldReturnSameInstanceOnHit() {
+        QueryCache<SelectQuery> cache = new QueryCache<>(SelectQueryConverter::new, 10);
+        SelectQuery first = cache.apply("select * from God where age = 10");
+        SelectQuery second = cache.apply("select * from God where age = 10");
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.hits()).isEqualTo(1L);
+        assertThat(cache.misses()).isEqualTo(1L);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictTheOldestQuery() {
+        QueryCache<GetQuery> cache = new QueryCache<>(GetQueryConverter::new, 2);
+        GetQuery first = cache.apply("get \"Diana\"");
+        cache.apply("get \"Apollo\"");
+        cache.apply("get \"Artemis\"");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.apply("get \"Diana\"")).isNotSameAs(first).isEqualTo(first);
+        assertThat(cache.misses()).isEqualTo(4L);
+    }
+
+    @Test
+    void shouldNotCacheWhenSizeIsZero() {
+        QueryCache<DelQuery> cache = new QueryCache<>(DelQueryConverter::new, 0);
+        cache.apply("del \"Diana\"");
+        cache.apply("del \"Diana\"");
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.hits()).isZero();
+        assertThat(cache.misses()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldNotCacheInvalidQuery() {
+        QueryCache<SelectQuery> cache = new QueryCache<>(SelectQueryConverter::new, 10);
+        assertThatThrownBy(() -> cache.apply("select * from"))
+                .isInstanceOf(QueryException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldClear() {
+        QueryCache<DeleteQuery> cache = new QueryCache<>(DeleteQueryConverter::new, 10);
+        cache.apply("delete from God");
+        cache.apply("delete from God");
+        cache.clear();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.hits()).isZero();
+        assertThat(cache.misses()).isZero();
+    }
+
+    @Test
+    void shouldProvideSharedCaches() {
+        assertThat(QueryCache.SELECT.maxSize()).isEqualTo(QueryCache.DEFAULT_SIZE);
+        assertThat(QueryCache.UPDATE.apply("update God (name = \"Diana\")")).isNotNull();
+        assertThat(QueryCache.INSERT.apply("insert God (name = \"Diana\")")).isNotNull();
+        assertThat(QueryCache.PUT.apply("put {\"Diana\", \"Hunt\"}")).isNotNull();
+    }
+}
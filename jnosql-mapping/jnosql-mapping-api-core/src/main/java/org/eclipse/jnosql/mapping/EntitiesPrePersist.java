@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * When several entities are either saved or updated at once, it is the first event to fire, instead of one {@link EntityPrePersist} per entity.
+ * It is only fired when the {@code jnosql.events.batch} property is enabled.
+ */
+public final class EntitiesPrePersist implements Supplier<List<Object>> {
+
+    private final List<Object> values;
+
+    EntitiesPrePersist(List<Object> values) {
+        this.values = values;
+    }
+
+    @Override
+    public List<Object> get() {
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EntitiesPrePersist)) {
+            return false;
+        }
+        EntitiesPrePersist that = (EntitiesPrePersist) o;
+        return Objects.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "EntitiesPrePersist{" + "values=" + values +
+                '}';
+    }
+
+    public static EntitiesPrePersist of(Iterable<?> values) {
+        Objects.requireNonNull(values, "values is required");
+        List<Object> entities = new ArrayList<>();
+        values.forEach(entities::add);
+        return new EntitiesPrePersist(Collections.unmodifiableList(entities));
+    }
+}
@@ -16,6 +16,7 @@ package org.eclipse.jnosql.mapping.metadata;
 
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -71,4 +72,22 @@ public interface EntitiesMetadata {
      */
     Optional<EntityMetadata> findByClassName(String name);
 
+    /**
+     * Returns the {@link EntityMetadata} instance from {@link EntityMetadata#name()} in ignore case,
+     * otherwise from {@link Class#getSimpleName()}, otherwise from {@link Class#getName()}.
+     * Unlike {@link #findByName(String)}, it does not throw an exception when there is no entity.
+     *
+     * @param name the entity name, the simple name or the class name
+     * @return the {@link EntityMetadata} from name otherwise {@link Optional#empty()}
+     * @throws NullPointerException when the name is null
+     */
+    default Optional<EntityMetadata> findByAnyName(String name) {
+        Objects.requireNonNull(name, "name is required");
+        try {
+            return Optional.of(findByName(name));
+        } catch (ClassInformationNotFoundException exception) {
+            return findBySimpleName(name).or(() -> findByClassName(name));
+        }
+    }
+
 }
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntitiesPostPersistTest {
+
+    @Test
+    void shouldGet() {
+        Object value = new Object();
+        EntitiesPostPersist entities = EntitiesPostPersist.of(List.of(value));
+        assertEquals(List.of(value), entities.get());
+    }
+
+    @Test
+    void shouldReturnImmutableValues() {
+        EntitiesPostPersist entities = EntitiesPostPersist.of(List.of(new Object()));
+        assertThrows(UnsupportedOperationException.class, () -> entities.get().add(new Object()));
+    }
+
+    @Test
+    void shouldEqualsAndHashCode() {
+        Object value1 = new Object();
+        Object value2 = new Object();
+
+        EntitiesPostPersist entities1 = EntitiesPostPersist.of(List.of(value1));
+        EntitiesPostPersist entities2 = EntitiesPostPersist.of(List.of(value1));
+        EntitiesPostPersist entities3 = EntitiesPostPersist.of(List.of(value2));
+
+        assertEquals(entities1, entities2);
+        assertEquals(entities1.hashCode(), entities2.hashCode());
+        assertNotEquals(entities1, entities3);
+        assertNotEquals(entities1, null);
+    }
+
+    @Test
+    void shouldToString() {
+        Object value = new Object();
+        EntitiesPostPersist entities = EntitiesPostPersist.of(List.of(value));
+        String expected = "EntitiesPostPersist{values=[" + value + "]}";
+        assertEquals(expected, entities.toString());
+    }
+
+    @Test
+    void shouldOfWithNullValue() {
+        assertThrows(NullPointerException.class, () -> EntitiesPostPersist.of(null));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.metadata;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class EntitiesMetadataTest {
+
+    private final EntitiesMetadata entities = mock(EntitiesMetadata.class, CALLS_REAL_METHODS);
+
+    private final EntityMetadata metadata = mock(EntityMetadata.class);
+
+    @Test
+    void shouldReturnErrorWhenNameIsNull() {
+        assertThrows(NullPointerException.class, () -> entities.findByAnyName(null));
+    }
+
+    @Test
+    void shouldFindByName() {
+        doReturn(metadata).when(entities).findByName("person");
+        assertThat(entities.findByAnyName("person")).contains(metadata);
+        verify(entities, never()).findBySimpleName("person");
+    }
+
+    @Test
+    void shouldFindBySimpleName() {
+        doThrow(new ClassInformationNotFoundException("not found")).when(entities).findByName("Person");
+        doReturn(Optional.of(metadata)).when(entities).findBySimpleName("Person");
+        assertThat(entities.findByAnyName("Person")).contains(metadata);
+    }
+
+    @Test
+    void shouldFindByClassName() {
+        doThrow(new ClassInformationNotFoundException("not found")).when(entities).findByName("org.Person");
+        doReturn(Optional.empty()).when(entities).findBySimpleName("org.Person");
+        doReturn(Optional.of(metadata)).when(entities).findByClassName("org.Person");
+        assertThat(entities.findByAnyName("org.Person")).contains(metadata);
+    }
+
+    @Test
+    void shouldReturnEmptyWhenThereIsNoEntity() {
+        doThrow(new ClassInformationNotFoundException("not found")).when(entities).findByName("unknown");
+        doReturn(Optional.empty()).when(entities).findBySimpleName("unknown");
+        doReturn(Optional.empty()).when(entities).findByClassName("unknown");
+        assertThat(entities.findByAnyName("unknown")).isEmpty();
+    }
+}
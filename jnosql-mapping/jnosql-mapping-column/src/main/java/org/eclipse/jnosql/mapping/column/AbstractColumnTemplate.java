@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.column;
 
 
+import jakarta.data.exceptions.MappingException;
 import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.nosql.PreparedStatement;
 import jakarta.nosql.QueryMapper;
@@ -26,6 +27,8 @@ import org.eclipse.jnosql.communication.column.ColumnObserverParser;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
 import org.eclipse.jnosql.communication.column.ColumnQueryParser;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
@@ -33,17 +36,18 @@ import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.core.util.ConverterUtil;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.COLUMN_BATCH_SIZE;
 
 /**
  * The template method to {@link ColumnTemplate}
@@ -99,25 +103,21 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
 
     @Override
     public <T> Iterable<T> update(Iterable<T> entities) {
-        requireNonNull(entities, "entity is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        requireNonNull(entities, "entities is required");
+        return persistAll(entities, e -> getManager().update(e));
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        return persistAll(entities, e -> getManager().insert(e));
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
         requireNonNull(entities, "entities is required");
         requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(e -> insert(e, ttl))
-                .collect(Collectors.toList());
+        return persistAll(entities, e -> getManager().insert(e, ttl));
     }
 
     @Override
@@ -280,6 +280,58 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
                 .orElseThrow();
     }
 
+    /**
+     * Persists the entities in bulk: it fires the pre-persist events of each batch and converts the entities,
+     * then it sends them to the {@link ColumnManager} in batches of {@link #batchSize()} entities,
+     * and finally it merges the result back into the entities in the same order.
+     * The manager must return one entity per entity sent, otherwise, it throws a {@link MappingException}.
+     *
+     * @param entities      the entities
+     * @param persistAction the bulk operation of the {@link ColumnManager}
+     * @param <T>           the entity type
+     * @return the entities persisted
+     */
+    protected <T> Iterable<T> persistAll(Iterable<T> entities, UnaryOperator<Iterable<ColumnEntity>> persistAction) {
+        List<T> values = new ArrayList<>();
+        entities.forEach(values::add);
+        List<T> result = new ArrayList<>(values.size());
+        int batchSize = batchSize();
+        for (int start = 0; start < values.size(); start += batchSize) {
+            List<T> batch = values.subList(start, Math.min(values.size(), start + batchSize));
+            List<ColumnEntity> columns = new ArrayList<>(batch.size());
+            getEventManager().firePreEntities(batch);
+            for (T entity : batch) {
+                columns.add(getConverter().toColumn(entity));
+            }
+            List<ColumnEntity> persisted = new ArrayList<>(batch.size());
+            Optional.ofNullable(persistAction.apply(columns)).ifPresent(e -> e.forEach(persisted::add));
+            if (persisted.size() != batch.size()) {
+                throw new MappingException("The ColumnManager returned " + persisted.size()
+                        + " entities to a batch of " + batch.size() + " entities");
+            }
+            List<T> persistedEntities = new ArrayList<>(batch.size());
+            for (int index = 0; index < batch.size(); index++) {
+                T entity = getConverter().toEntity(batch.get(index), persisted.get(index));
+                persistedEntities.add(entity);
+            }
+            getEventManager().firePostEntities(persistedEntities);
+            result.addAll(persistedEntities);
+        }
+        return result;
+    }
+
+    /**
+     * The number of entities sent at once to the {@link ColumnManager} at {@link #persistAll(Iterable, UnaryOperator)},
+     * it uses the {@link MappingConfigurations#COLUMN_BATCH_SIZE} property, by default, all the entities.
+     *
+     * @return the batch size
+     */
+    protected int batchSize() {
+        return MicroProfileSettings.INSTANCE.get(COLUMN_BATCH_SIZE, Integer.class)
+                .filter(size -> size > 0)
+                .orElse(Integer.MAX_VALUE);
+    }
+
     private <T> UnaryOperator<T> toUnary(Consumer<T> consumer) {
         return t -> {
             consumer.accept(t);
@@ -16,6 +16,7 @@ package org.eclipse.jnosql.mapping.column;
 
 import org.eclipse.jnosql.communication.column.Column;
 import org.eclipse.jnosql.communication.column.ColumnCondition;
+import org.eclipse.jnosql.communication.column.ColumnConditionBuilder;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.core.util.ConverterUtil;
@@ -24,7 +25,6 @@ import java.util.List;
 import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
-import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
@@ -34,7 +34,7 @@ abstract class AbstractMapperQuery {
 
     protected boolean negate;
 
-    protected ColumnCondition condition;
+    protected final ColumnConditionBuilder conditions = ColumnCondition.builder();
 
     protected boolean and;
 
@@ -61,10 +61,10 @@ abstract class AbstractMapperQuery {
     protected void appendCondition(ColumnCondition incomingCondition) {
         ColumnCondition columnCondition = getColumnCondition(incomingCondition);
 
-        if (nonNull(condition)) {
-            this.condition = and ? this.condition.and(columnCondition) : this.condition.or(columnCondition);
+        if (and) {
+            this.conditions.and(columnCondition);
         } else {
-            this.condition = columnCondition;
+            this.conditions.or(columnCondition);
         }
 
         this.negate = false;
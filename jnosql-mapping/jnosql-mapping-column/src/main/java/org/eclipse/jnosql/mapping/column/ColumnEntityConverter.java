@@ -24,18 +24,15 @@ import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
-import org.eclipse.jnosql.mapping.metadata.MappingType;
 import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 
 import static java.util.Objects.requireNonNull;
-import static org.eclipse.jnosql.mapping.metadata.MappingType.EMBEDDED;
 import static org.eclipse.jnosql.mapping.metadata.MappingType.ENTITY;
 
 
@@ -44,6 +41,8 @@ import static org.eclipse.jnosql.mapping.metadata.MappingType.ENTITY;
  */
 public abstract class ColumnEntityConverter {
 
+    private final Map<Class<?>, ColumnReadPlan> plans = new ConcurrentHashMap<>();
+
     protected abstract EntitiesMetadata getEntities();
 
     protected abstract Converters getConverters();
@@ -82,7 +81,7 @@ public abstract class ColumnEntityConverter {
     public <T> T toEntity(Class<T> type, ColumnEntity entity) {
         requireNonNull(entity, "entity is required");
         requireNonNull(type, "type is required");
-        return toEntity(type, entity.columns());
+        return toEntity(type, ColumnSource.of(entity));
     }
 
     /**
@@ -100,10 +99,10 @@ public abstract class ColumnEntityConverter {
         requireNonNull(type, "type is required");
 
         if (type.getClass().isRecord()) {
-            return (T) toEntity(type.getClass(), entity.columns());
+            return (T) toEntity(type.getClass(), ColumnSource.of(entity));
         }
         EntityMetadata mapping = getEntities().get(type.getClass());
-        return convertEntity(entity.columns(), mapping, type);
+        return convertEntity(ColumnSource.of(entity), mapping, type);
     }
 
     /**
@@ -121,13 +120,7 @@ public abstract class ColumnEntityConverter {
         if (mapping.isInheritance()) {
             return mapInheritanceEntity(entity, mapping.type());
         }
-        ConstructorMetadata constructor = mapping.constructor();
-        if (constructor.isDefault()) {
-            T instance = mapping.newInstance();
-            return convertEntity(entity.columns(), mapping, instance);
-        } else {
-            return convertEntityByConstructor(entity.columns(), mapping);
-        }
+        return convertEntity(ColumnSource.of(entity), mapping);
     }
 
     protected ColumnFieldValue to(FieldMetadata field, Object entity) {
@@ -135,6 +128,19 @@ public abstract class ColumnEntityConverter {
         return DefaultColumnFieldValue.of(value, field);
     }
 
+    /**
+     * Converts the column of the field name into the entity field.
+     *
+     * @param entity            the entity instance
+     * @param columns           the columns
+     * @param fieldsGroupByName the fields grouped by column name
+     * @param <T>               the entity type
+     * @return the consumer that receives the column name
+     * @deprecated the conversion reads the fields through the ColumnReadPlan of each entity, which finds the
+     * column by name instead of scanning the columns per field, so this method is no longer called by the
+     * converter and will be removed in a future version.
+     */
+    @Deprecated(since = "1.0.5", forRemoval = true)
     protected <T> Consumer<String> feedObject(T entity, List<Column> columns, Map<String, FieldMetadata> fieldsGroupByName) {
         return (String k) -> {
             Optional<Column> column = columns.stream().filter(c -> c.name().equals(k)).findFirst();
@@ -150,46 +156,44 @@ public abstract class ColumnEntityConverter {
 
 
     protected <T> T toEntity(Class<T> type, List<Column> columns) {
+        return toEntity(type, ColumnSource.of(columns));
+    }
+
+    private <T> T toEntity(Class<T> type, ColumnSource source) {
         EntityMetadata mapping = getEntities().get(type);
         if (mapping.isInheritance()) {
-            return inheritanceToEntity(columns, mapping);
+            return inheritanceToEntity(source, mapping);
         }
+        return convertEntity(source, mapping);
+    }
+
+    private <T> T convertEntity(ColumnSource source, EntityMetadata mapping) {
         ConstructorMetadata constructor = mapping.constructor();
         if (constructor.isDefault()) {
             T instance = mapping.newInstance();
-            return convertEntity(columns, mapping, instance);
+            return convertEntity(source, mapping, instance);
         } else {
-            return convertEntityByConstructor(columns, mapping);
+            return convertEntityByConstructor(source, mapping);
         }
     }
 
-    private <T> T convertEntityByConstructor(List<Column> columns, EntityMetadata mapping) {
+    private <T> T convertEntityByConstructor(ColumnSource source, EntityMetadata mapping) {
         ConstructorBuilder builder = ConstructorBuilder.of(mapping.constructor());
         for (ParameterMetaData parameter : builder.parameters()) {
-            Optional<Column> column = columns.stream()
-                    .filter(c -> c.name().equals(parameter.name()))
-                    .findFirst();
-            column.ifPresentOrElse(c -> {
+            Column column = source.find(parameter.name());
+            if (column == null) {
+                builder.addEmptyParameter();
+            } else {
                 ParameterConverter converter = ParameterConverter.of(parameter, getEntities());
-                converter.convert(this, c, parameter, builder);
-            }, builder::addEmptyParameter);
+                converter.convert(this, column, parameter, builder);
+            }
         }
         return builder.build();
     }
 
-    private <T> T convertEntity(List<Column> columns, EntityMetadata mapping, T instance) {
-        final Map<String, FieldMetadata> fieldsGroupByName = mapping.fieldsGroupByName();
-        final List<String> names = columns.stream().map(Column::name).sorted().toList();
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            MappingType type = fieldsGroupByName.get(k).mappingType();
-            return EMBEDDED.equals(type) || ENTITY.equals(type);
-        };
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, columns, fieldsGroupByName));
-
-        return instance;
+    private <T> T convertEntity(ColumnSource source, EntityMetadata mapping, T instance) {
+        ColumnReadPlan plan = plans.computeIfAbsent(mapping.type(), k -> ColumnReadPlan.of(mapping));
+        return plan.read(instance, source, this);
     }
 
     private <T> T mapInheritanceEntity(ColumnEntity entity, Class<?> type) {
@@ -216,16 +220,10 @@ public abstract class ColumnEntityConverter {
                         " column value " + discriminator));
 
         EntityMetadata mapping = getEntities().get(inheritance.entity());
-        ConstructorMetadata constructor = mapping.constructor();
-        if (constructor.isDefault()) {
-            T instance = mapping.newInstance();
-            return convertEntity(entity.columns(), mapping, instance);
-        } else {
-            return convertEntityByConstructor(entity.columns(), mapping);
-        }
+        return convertEntity(ColumnSource.of(entity), mapping);
     }
 
-    private <T> T inheritanceToEntity(List<Column> columns, EntityMetadata mapping) {
+    private <T> T inheritanceToEntity(ColumnSource source, EntityMetadata mapping) {
         Map<String, InheritanceMetadata> group = getEntities()
                 .findByParentGroupByDiscriminatorValue(mapping.type());
 
@@ -240,9 +238,7 @@ public abstract class ColumnEntityConverter {
                 .map(InheritanceMetadata::discriminatorColumn)
                 .orElseThrow();
 
-        String discriminator = columns.stream()
-                .filter(d -> d.name().equals(column))
-                .findFirst()
+        String discriminator = Optional.ofNullable(source.find(column))
                 .map(d -> d.get(String.class))
                 .orElseThrow(
                         () -> new MappingException("To inheritance there is the discriminator column missing" +
@@ -254,6 +250,6 @@ public abstract class ColumnEntityConverter {
 
         EntityMetadata inheritanceMetadata = getEntities().get(inheritance.entity());
         T instance = inheritanceMetadata.newInstance();
-        return convertEntity(columns, inheritanceMetadata, instance);
+        return convertEntity(source, inheritanceMetadata, instance);
     }
 }
@@ -16,10 +16,7 @@ package org.eclipse.jnosql.mapping.column;
 
 
 import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.enterprise.event.Event;
-import jakarta.inject.Inject;
-import org.eclipse.jnosql.mapping.EntityPostPersist;
-import org.eclipse.jnosql.mapping.EntityPrePersist;
+import org.eclipse.jnosql.mapping.core.AbstractEventPersistManager;
 
 /**
  * This interface represents the manager of events. When an entity be either saved or updated an event will be fired.
@@ -28,35 +25,8 @@ import org.eclipse.jnosql.mapping.EntityPrePersist;
  * 2) firePostColumn
  *
  * @see AbstractColumnTemplate
+ * @see AbstractEventPersistManager
  */
 @ApplicationScoped
-public class ColumnEventPersistManager {
-
-
-    @Inject
-    private Event<EntityPrePersist> entityPrePersistEvent;
-
-    @Inject
-    private Event<EntityPostPersist> entityPostPersistEvent;
-
-    /**
-     * Fire an event once the method is called
-     *
-     * @param entity the entity
-     * @param <T>    the entity type
-     */
-    public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
-    }
-
-    /**
-     * Fire an event after firePostEntity
-     *
-     * @param entity the entity
-     * @param <T>    the entity kind
-     */
-    public <T> void firePostEntity(T entity) {
-        entityPostPersistEvent.fire(EntityPostPersist.of(entity));
-    }
-
+public class ColumnEventPersistManager extends AbstractEventPersistManager {
 }
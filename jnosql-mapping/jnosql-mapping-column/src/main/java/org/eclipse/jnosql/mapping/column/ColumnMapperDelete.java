@@ -113,7 +113,7 @@ final class ColumnMapperDelete extends AbstractMapperQuery implements MapperDele
 
 
     private ColumnDeleteQuery build() {
-        return new MappingColumnDeleteQuery(columnFamily, condition);
+        return new MappingColumnDeleteQuery(columnFamily, conditions.build().orElse(null));
     }
 
     @Override
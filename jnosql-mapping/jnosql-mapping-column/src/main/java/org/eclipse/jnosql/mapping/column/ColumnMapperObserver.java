@@ -15,17 +15,20 @@
 package org.eclipse.jnosql.mapping.column;
 
 import org.eclipse.jnosql.communication.column.ColumnObserverParser;
-import org.eclipse.jnosql.mapping.metadata.ClassInformationNotFoundException;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 final class ColumnMapperObserver implements ColumnObserverParser {
 
 
     private final EntitiesMetadata mappings;
 
+    private final Map<String, Map<String, String>> fields = new ConcurrentHashMap<>();
+
     ColumnMapperObserver(EntitiesMetadata mappings) {
         this.mappings = mappings;
     }
@@ -40,16 +43,12 @@ final class ColumnMapperObserver implements ColumnObserverParser {
     @Override
     public String fireField(String entity, String field) {
         Optional<EntityMetadata> mapping = getEntityMetadata(entity);
-        return mapping.map(c -> c.columnField(field)).orElse(field);
+        return mapping.map(c -> fields.computeIfAbsent(entity, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(field, c::columnField)).orElse(field);
     }
 
     private Optional<EntityMetadata> getEntityMetadata(String entity) {
-        try {
-            return Optional.of(this.mappings.findByName(entity));
-        } catch (ClassInformationNotFoundException e) {
-            return this.mappings.findBySimpleName(entity)
-                    .or(() -> this.mappings.findByClassName(entity));
-        }
+        return this.mappings.findByAnyName(entity);
     }
 
 }
@@ -155,7 +155,7 @@ final class ColumnMapperSelect extends AbstractMapperQuery implements MapperFrom
         return this;
     }
     private ColumnQuery build() {
-        return new MappingColumnQuery(sorts, limit, start, condition, columnFamily);
+        return new MappingColumnQuery(sorts, limit, start, conditions.build().orElse(null), columnFamily);
     }
 
     @Override
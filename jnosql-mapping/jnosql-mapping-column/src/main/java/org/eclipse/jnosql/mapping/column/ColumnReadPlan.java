@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column;
+
+import org.eclipse.jnosql.communication.column.Column;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+
+/**
+ * The fields of an entity with their {@link FieldConverter} resolved once per {@link EntityMetadata},
+ * so the conversion from columns to the entity is a single pass over the fields with a lookup by name each.
+ */
+final class ColumnReadPlan {
+
+    private final FieldMetadata[] fields;
+
+    private final FieldConverter[] converters;
+
+    private ColumnReadPlan(FieldMetadata[] fields, FieldConverter[] converters) {
+        this.fields = fields;
+        this.converters = converters;
+    }
+
+    <T> T read(T instance, ColumnSource source, ColumnEntityConverter converter) {
+        for (int index = 0; index < fields.length; index++) {
+            FieldMetadata field = fields[index];
+            FieldConverter fieldConverter = converters[index];
+            Column column = source.find(field.name());
+            if (FieldConverter.EMBEDDED.equals(fieldConverter)) {
+                fieldConverter.convert(instance, source.columns(), column, field, converter);
+            } else if (column != null) {
+                fieldConverter.convert(instance, column, field, converter);
+            }
+        }
+        return instance;
+    }
+
+    static ColumnReadPlan of(EntityMetadata mapping) {
+        FieldMetadata[] fields = mapping.fieldsGroupByName().values().toArray(FieldMetadata[]::new);
+        FieldConverter[] converters = new FieldConverter[fields.length];
+        for (int index = 0; index < fields.length; index++) {
+            converters[index] = FieldConverter.get(fields[index]);
+        }
+        return new ColumnReadPlan(fields, converters);
+    }
+}
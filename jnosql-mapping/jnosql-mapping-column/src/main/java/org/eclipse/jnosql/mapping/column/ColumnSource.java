@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column;
+
+import org.eclipse.jnosql.communication.column.Column;
+import org.eclipse.jnosql.communication.column.ColumnEntity;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The columns to be converted to an entity, where each column is found by name with a hash lookup.
+ * When it comes from a {@link ColumnEntity}, it uses the entity itself instead of copying the columns.
+ */
+abstract class ColumnSource {
+
+    /**
+     * Finds the column by name
+     *
+     * @param name the column name
+     * @return the column or null when there is no column with this name
+     */
+    abstract Column find(String name);
+
+    /**
+     * @return all the columns
+     */
+    abstract List<Column> columns();
+
+    static ColumnSource of(ColumnEntity entity) {
+        return new EntitySource(entity);
+    }
+
+    static ColumnSource of(List<Column> columns) {
+        return new ListSource(columns);
+    }
+
+    private static final class EntitySource extends ColumnSource {
+
+        private final ColumnEntity entity;
+
+        private List<Column> columns;
+
+        private EntitySource(ColumnEntity entity) {
+            this.entity = entity;
+        }
+
+        @Override
+        Column find(String name) {
+            return entity.find(name).orElse(null);
+        }
+
+        @Override
+        List<Column> columns() {
+            if (columns == null) {
+                columns = entity.columns();
+            }
+            return columns;
+        }
+    }
+
+    private static final class ListSource extends ColumnSource {
+
+        private final List<Column> columns;
+
+        private final Map<String, Column> index;
+
+        private ListSource(List<Column> columns) {
+            this.columns = columns;
+            this.index = new HashMap<>(columns.size() * 2);
+            for (Column column : columns) {
+                index.putIfAbsent(column.name(), column);
+            }
+        }
+
+        @Override
+        Column find(String name) {
+            return index.get(name);
+        }
+
+        @Override
+        List<Column> columns() {
+            return columns;
+        }
+    }
+}
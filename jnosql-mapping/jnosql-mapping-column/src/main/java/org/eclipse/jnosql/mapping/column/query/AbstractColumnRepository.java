@@ -17,7 +17,9 @@ package org.eclipse.jnosql.mapping.column.query;
 import jakarta.data.page.Page;
 import jakarta.data.page.Pageable;
 import jakarta.data.repository.PageableRepository;
+import jakarta.enterprise.inject.spi.CDI;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
+import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
 import org.eclipse.jnosql.mapping.column.JNoSQLColumnTemplate;
 import org.eclipse.jnosql.mapping.column.MappingColumnQuery;
@@ -35,6 +37,15 @@ public abstract class AbstractColumnRepository<T, K> extends AbstractRepository<
 
     protected abstract JNoSQLColumnTemplate template();
 
+    /**
+     * Returns the converters of the entity fields, by default, it looks them up at CDI.
+     *
+     * @return the converters
+     */
+    protected Converters converters() {
+        return CDI.current().select(Converters.class).get();
+    }
+
     @Override
     public long count() {
         return template().count(type());
@@ -49,8 +60,8 @@ public abstract class AbstractColumnRepository<T, K> extends AbstractRepository<
                 pageable.size(), NoSQLPage.skip(pageable)
                 , null ,metadata.name());
 
-        List<T> entities = template().<T>select(query).toList();
-        return NoSQLPage.of(entities, pageable);
+        List<T> entities = template().<T>select(ColumnPageQuery.INSTANCE.apply(query, pageable, metadata, converters())).toList();
+        return NoSQLPage.of(entities, pageable, this::count, NoSQLPage.keyset(metadata, pageable.sorts()));
     }
 
     @Override
@@ -17,10 +17,10 @@ package org.eclipse.jnosql.mapping.column.query;
 
 import jakarta.data.page.Page;
 import jakarta.data.page.Pageable;
-import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
 import org.eclipse.jnosql.communication.column.ColumnDeleteQueryParams;
 import org.eclipse.jnosql.communication.column.ColumnObserverParser;
+import org.eclipse.jnosql.communication.column.ColumnParamsResolver;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
 import org.eclipse.jnosql.communication.column.ColumnQueryParams;
 import org.eclipse.jnosql.communication.column.DeleteQueryParser;
@@ -35,11 +35,16 @@ import org.eclipse.jnosql.mapping.column.JNoSQLColumnTemplate;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepositoryProxy;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.core.repository.DynamicReturn;
+import org.eclipse.jnosql.mapping.core.util.ParamSlotsBinder;
 import org.eclipse.jnosql.mapping.core.util.ParamsBinder;
 
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -82,29 +87,43 @@ public abstract class BaseColumnRepository<T, K> extends AbstractRepositoryProxy
 
     private ParamsBinder paramsBinder;
 
+    private final Map<Method, MethodQuery<ColumnQuery>> selectQueries = new ConcurrentHashMap<>();
+
+    private final Map<Method, MethodQuery<ColumnDeleteQuery>> deleteQueries = new ConcurrentHashMap<>();
+
 
     protected ColumnQuery query(Method method, Object[] args) {
-        SelectMethodProvider provider = SelectMethodProvider.INSTANCE;
-        SelectQuery selectQuery = provider.apply(method, entityMetadata().name());
-        ColumnQueryParams queryParams = SELECT_PARSER.apply(selectQuery, parser());
-        ColumnQuery query = queryParams.query();
-        Params params = queryParams.params();
-        paramsBinder().bind(params, args(args), method);
+        MethodQuery<ColumnQuery> template = selectQueries.computeIfAbsent(method, this::selectQuery);
+        ColumnQuery query = template.resolve(args(args));
         return updateQueryDynamically(args(args), query);
     }
 
-    private static Object[] args(Object[] args) {
-        return args == null ? EMPTY_PARAM : args;
-    }
 
     protected ColumnDeleteQuery deleteQuery(Method method, Object[] args) {
+        MethodQuery<ColumnDeleteQuery> template = deleteQueries.computeIfAbsent(method, this::deleteQuery);
+        return template.resolve(args(args));
+    }
+
+    private MethodQuery<ColumnQuery> selectQuery(Method method) {
+        SelectMethodProvider provider = SelectMethodProvider.INSTANCE;
+        SelectQuery selectQuery = provider.apply(method, entityMetadata().name());
+        ColumnQueryParams queryParams = SELECT_PARSER.apply(selectQuery, parser());
+        ColumnParamsResolver resolver = ColumnParamsResolver.of(queryParams.params().slots());
+        ParamSlotsBinder binder = ParamSlotsBinder.of(resolver.slots(), entityMetadata(), converters(), method);
+        return new MethodQuery<>(queryParams.query(), binder, resolver::resolve);
+    }
+
+    private MethodQuery<ColumnDeleteQuery> deleteQuery(Method method) {
         DeleteMethodProvider deleteMethodFactory = DeleteMethodProvider.INSTANCE;
         DeleteQuery deleteQuery = deleteMethodFactory.apply(method, entityMetadata().name());
         ColumnDeleteQueryParams queryParams = DELETE_PARSER.apply(deleteQuery, parser());
-        ColumnDeleteQuery query = queryParams.query();
-        Params params = queryParams.params();
-        paramsBinder().bind(params, args(args), method);
-        return query;
+        ColumnParamsResolver resolver = ColumnParamsResolver.of(queryParams.params().slots());
+        ParamSlotsBinder binder = ParamSlotsBinder.of(resolver.slots(), entityMetadata(), converters(), method);
+        return new MethodQuery<>(queryParams.query(), binder, resolver::resolve);
+    }
+
+    private static Object[] args(Object[] args) {
+        return args == null ? EMPTY_PARAM : args;
     }
 
     /**
@@ -157,8 +176,10 @@ public abstract class BaseColumnRepository<T, K> extends AbstractRepositoryProxy
 
     protected Function<Pageable, Page<T>> getPage(ColumnQuery query) {
         return p -> {
-            Stream<T> entities = template().select(query);
-            return NoSQLPage.of(entities.toList(), p);
+            ColumnQuery pageQuery = ColumnPageQuery.INSTANCE.apply(query, p, entityMetadata(), converters());
+            List<T> entities = template().<T>select(pageQuery).toList();
+            return NoSQLPage.of(entities, p, () -> template().count(query),
+                    NoSQLPage.keyset(entityMetadata(), query.sorts()));
         };
     }
 
@@ -176,5 +197,14 @@ public abstract class BaseColumnRepository<T, K> extends AbstractRepositoryProxy
         return dynamicQuery.get();
     }
 
+    /**
+     * The translated query of a repository method, it is computed once per method and only binds the arguments
+     * at each invocation.
+     */
+    private record MethodQuery<Q>(Q query, ParamSlotsBinder binder, BiFunction<Q, Object[], Q> resolver) {
 
+        Q resolve(Object[] args) {
+            return resolver.apply(query, binder.bind(args));
+        }
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column.query;
+
+import jakarta.data.Sort;
+import jakarta.data.page.Pageable;
+import org.eclipse.jnosql.communication.column.ColumnCondition;
+import org.eclipse.jnosql.communication.column.ColumnQuery;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.NoSQLPage;
+import org.eclipse.jnosql.mapping.core.util.ConverterUtil;
+import org.eclipse.jnosql.mapping.column.MappingColumnQuery;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Creates the query that reads a page: it fetches one element more than the page size to know if there is a next
+ * page, and on the cursor-based pagination it filters the elements after the keyset instead of skipping them,
+ * thus: {@code (a > ?) or (a = ? and b > ?)} to the sorts {@code a} and {@code b} in ascending order, where each sort
+ * uses the database name of the field and the cursor values are converted to the database format of the fields.
+ */
+enum ColumnPageQuery {
+
+    INSTANCE;
+
+    ColumnQuery apply(ColumnQuery query, Pageable pageable, EntityMetadata mapping, Converters converters) {
+        if (!NoSQLPage.isCursor(pageable)) {
+            return new MappingColumnQuery(query.sorts(), NoSQLPage.limit(pageable), query.skip(),
+                    query.condition().orElse(null), query.name());
+        }
+        List<Sort> sorts = NoSQLPage.sorts(pageable, query.sorts());
+        ColumnCondition keyset = keyset(sorts, pageable.cursor().orElseThrow(), mapping, converters);
+        ColumnCondition condition = query.condition().map(c -> ColumnCondition.and(c, keyset)).orElse(keyset);
+        return new MappingColumnQuery(sorts, NoSQLPage.limit(pageable), 0L, condition, query.name());
+    }
+
+    private ColumnCondition keyset(List<Sort> sorts, Pageable.Cursor cursor, EntityMetadata mapping,
+                                   Converters converters) {
+        if (sorts.isEmpty() || sorts.size() != cursor.size()) {
+            throw new IllegalArgumentException("The keyset cursor " + cursor + " must have one value per sort: "
+                    + sorts);
+        }
+        String[] names = new String[sorts.size()];
+        Object[] values = new Object[sorts.size()];
+        for (int index = 0; index < sorts.size(); index++) {
+            Sort sort = sorts.get(index);
+            Object value = cursor.getKeysetElement(index);
+            if (value == null) {
+                throw new IllegalArgumentException("The keyset cursor " + cursor + " has a null value to the sort: "
+                        + sort);
+            }
+            Optional<FieldMetadata> field = NoSQLPage.field(mapping, sort.property());
+            names[index] = field.map(FieldMetadata::name).orElse(sort.property());
+            values[index] = field.map(f -> ConverterUtil.getValue(value, converters, f)).orElse(value);
+        }
+        List<ColumnCondition> conditions = new ArrayList<>(sorts.size());
+        for (int index = 0; index < sorts.size(); index++) {
+            List<ColumnCondition> and = new ArrayList<>(index + 1);
+            for (int previous = 0; previous < index; previous++) {
+                and.add(ColumnCondition.eq(names[previous], values[previous]));
+            }
+            and.add(sorts.get(index).isAscending() ? ColumnCondition.gt(names[index], values[index])
+                    : ColumnCondition.lt(names[index], values[index]));
+            conditions.add(and.size() == 1 ? and.get(0) : ColumnCondition.and(and.toArray(ColumnCondition[]::new)));
+        }
+        return conditions.size() == 1 ? conditions.get(0)
+                : ColumnCondition.or(conditions.toArray(ColumnCondition[]::new));
+    }
+}
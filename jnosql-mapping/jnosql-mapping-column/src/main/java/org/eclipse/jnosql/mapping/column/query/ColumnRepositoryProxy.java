@@ -50,7 +50,7 @@ public class ColumnRepositoryProxy<T, K> extends AbstractColumnRepositoryProxy<T
         Class<T> typeClass = (Class) ((ParameterizedType) repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0];
         this.entityMetadata = entities.get(typeClass);
-        this.repository = new ColumnRepository<>(template, entityMetadata);
+        this.repository = new ColumnRepository<>(template, entityMetadata, converters);
         this.converters = converters;
         this.repositoryType =  repositoryType;
     }
@@ -93,9 +93,12 @@ public class ColumnRepositoryProxy<T, K> extends AbstractColumnRepositoryProxy<T
 
         private final EntityMetadata entityMetadata;
 
-        ColumnRepository(JNoSQLColumnTemplate template, EntityMetadata entityMetadata) {
+        private final Converters converters;
+
+        ColumnRepository(JNoSQLColumnTemplate template, EntityMetadata entityMetadata, Converters converters) {
             this.template = template;
             this.entityMetadata = entityMetadata;
+            this.converters = converters;
         }
 
         @Override
@@ -108,6 +111,11 @@ public class ColumnRepositoryProxy<T, K> extends AbstractColumnRepositoryProxy<T
             return entityMetadata;
         }
 
+        @Override
+        protected Converters converters() {
+            return converters == null ? super.converters() : converters;
+        }
+
         /**
          * Creates a new instance of ColumnRepository.
          *
@@ -121,7 +129,26 @@ public class ColumnRepositoryProxy<T, K> extends AbstractColumnRepositoryProxy<T
         public static <T, K> ColumnRepository<T, K> of(JNoSQLColumnTemplate template, EntityMetadata metadata) {
             Objects.requireNonNull(template,"template is required");
             Objects.requireNonNull(metadata,"metadata is required");
-            return new ColumnRepository<>(template, metadata);
+            return new ColumnRepository<>(template, metadata, null);
+        }
+
+        /**
+         * Creates a new instance of ColumnRepository that converts the values with the given converters.
+         *
+         * @param <T>        The entity type managed by the repository.
+         * @param <K>        The key type used for column-based operations.
+         * @param template   The JNoSQLColumnTemplate used for column database operations. Must not be {@code null}.
+         * @param metadata   The metadata of the entity. Must not be {@code null}.
+         * @param converters The converters of the entity fields. Must not be {@code null}.
+         * @return A new instance of ColumnRepository.
+         * @throws NullPointerException If there is a {@code null} parameter.
+         */
+        public static <T, K> ColumnRepository<T, K> of(JNoSQLColumnTemplate template, EntityMetadata metadata,
+                                                       Converters converters) {
+            Objects.requireNonNull(template, "template is required");
+            Objects.requireNonNull(metadata, "metadata is required");
+            Objects.requireNonNull(converters, "converters is required");
+            return new ColumnRepository<>(template, metadata, converters);
         }
     }
 }
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column;
+
+import org.eclipse.jnosql.communication.column.Column;
+import org.eclipse.jnosql.communication.column.ColumnEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnSourceTest {
+
+    @Test
+    void shouldFindFromEntity() {
+        ColumnEntity entity = ColumnEntity.of("Person", List.of(Column.of("name", "Ada"),
+                Column.of("age", 10)));
+        ColumnSource source = ColumnSource.of(entity);
+
+        assertThat(source.find("name")).isEqualTo(Column.of("name", "Ada"));
+        assertThat(source.find("phones")).isNull();
+        assertThat(source.columns()).containsExactlyInAnyOrderElementsOf(entity.columns());
+    }
+
+    @Test
+    void shouldFindFromList() {
+        List<Column> columns = List.of(Column.of("name", "Ada"), Column.of("age", 10));
+        ColumnSource source = ColumnSource.of(columns);
+
+        assertThat(source.find("age")).isEqualTo(Column.of("age", 10));
+        assertThat(source.find("phones")).isNull();
+        assertThat(source.columns()).isSameAs(columns);
+    }
+
+    @Test
+    void shouldKeepTheFirstColumnWhenNameIsDuplicated() {
+        ColumnSource source = ColumnSource.of(List.of(Column.of("name", "Ada"),
+                Column.of("name", "Poliana")));
+
+        assertThat(source.find("name")).isEqualTo(Column.of("name", "Ada"));
+    }
+}
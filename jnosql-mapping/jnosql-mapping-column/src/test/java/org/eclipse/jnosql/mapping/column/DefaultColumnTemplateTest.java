@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.mapping.column;
 
+import jakarta.data.exceptions.MappingException;
 import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
@@ -51,6 +52,8 @@ import java.util.stream.Stream;
 import static org.eclipse.jnosql.communication.column.ColumnDeleteQuery.delete;
 import static org.eclipse.jnosql.communication.column.ColumnQuery.select;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.COLUMN_BATCH_SIZE;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -209,11 +212,12 @@ class DefaultColumnTemplateTest {
         Duration duration = Duration.ofHours(2);
 
         Mockito.when(managerMock
-                .insert(any(ColumnEntity.class), Mockito.eq(duration)))
-                .thenReturn(columnEntity);
+                .insert(Mockito.<Iterable<ColumnEntity>>any(), Mockito.eq(duration)))
+                .thenReturn(List.of(columnEntity, columnEntity));
 
         template.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(ColumnEntity.class), any(Duration.class));
+        verify(managerMock).insert(Mockito.<Iterable<ColumnEntity>>any(), any(Duration.class));
+        verify(managerMock, Mockito.never()).insert(any(ColumnEntity.class), any(Duration.class));
     }
 
     @Test
@@ -222,11 +226,57 @@ class DefaultColumnTemplateTest {
         columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .insert(any(ColumnEntity.class)))
-                .thenReturn(columnEntity);
+                .insert(Mockito.<Iterable<ColumnEntity>>any()))
+                .thenReturn(List.of(columnEntity, columnEntity));
+
+        Iterable<Person> result = template.insert(Arrays.asList(person, person));
+        verify(managerMock).insert(Mockito.<Iterable<ColumnEntity>>any());
+        verify(managerMock, Mockito.never()).insert(any(ColumnEntity.class));
+        verify(columnEventPersistManager).firePreEntities(List.of(person, person));
+        verify(columnEventPersistManager).firePostEntities(List.of(person, person));
+        assertThat(result).hasSize(2);
+    }
+
+    @Test
+    void shouldInsertEntitiesInBatches() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+
+        Mockito.when(managerMock
+                .insert(Mockito.<Iterable<ColumnEntity>>any()))
+                .thenReturn(List.of(columnEntity, columnEntity))
+                .thenReturn(List.of(columnEntity));
+
+        System.setProperty(COLUMN_BATCH_SIZE.get(), "2");
+        try {
+            Iterable<Person> result = template.insert(Arrays.asList(person, person, person));
+            verify(managerMock, times(2)).insert(Mockito.<Iterable<ColumnEntity>>any());
+            assertThat(result).hasSize(3);
+        } finally {
+            System.clearProperty(COLUMN_BATCH_SIZE.get());
+        }
+    }
+
+    @Test
+    void shouldReturnErrorWhenManagerReturnsFewerEntities() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+
+        Mockito.when(managerMock
+                .insert(Mockito.<Iterable<ColumnEntity>>any()))
+                .thenReturn(List.of(columnEntity));
+
+        assertThrows(MappingException.class, () -> template.insert(Arrays.asList(person, person)));
+        verify(columnEventPersistManager, Mockito.never()).firePostEntities(Mockito.any());
+    }
+
+    @Test
+    void shouldReturnErrorWhenManagerReturnsNull() {
+        Mockito.when(managerMock
+                .update(Mockito.<Iterable<ColumnEntity>>any()))
+                .thenReturn(null);
 
-        template.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(ColumnEntity.class));
+        assertThrows(MappingException.class, () -> template.update(Arrays.asList(person, person)));
     }
 
     @Test
@@ -235,11 +285,12 @@ class DefaultColumnTemplateTest {
         columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .update(any(ColumnEntity.class)))
-                .thenReturn(columnEntity);
+                .update(Mockito.<Iterable<ColumnEntity>>any()))
+                .thenReturn(List.of(columnEntity, columnEntity));
 
         template.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(ColumnEntity.class));
+        verify(managerMock).update(Mockito.<Iterable<ColumnEntity>>any());
+        verify(managerMock, Mockito.never()).update(any(ColumnEntity.class));
     }
 
     @Test
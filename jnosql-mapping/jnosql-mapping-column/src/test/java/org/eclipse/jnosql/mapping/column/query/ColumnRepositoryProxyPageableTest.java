@@ -32,8 +32,10 @@ import org.eclipse.jnosql.mapping.core.NoSQLPage;
 import org.eclipse.jnosql.mapping.column.ColumnEntityConverter;
 import org.eclipse.jnosql.mapping.column.JNoSQLColumnTemplate;
 import org.eclipse.jnosql.mapping.column.MockProducer;
+import org.eclipse.jnosql.mapping.column.entities.Money;
 import org.eclipse.jnosql.mapping.column.entities.Person;
 import org.eclipse.jnosql.mapping.column.entities.Vendor;
+import org.eclipse.jnosql.mapping.column.entities.Worker;
 import org.eclipse.jnosql.mapping.column.spi.ColumnExtension;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
@@ -48,6 +50,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
@@ -63,6 +66,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.jnosql.communication.Condition.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -237,8 +241,8 @@ public class ColumnRepositoryProxyPageableTest {
         ColumnQuery query = captor.getValue();
         assertFalse(query.condition().isPresent());
         assertEquals("Person", query.name());
-        assertEquals(NoSQLPage.skip(pagination), query.limit());
-        assertEquals(pagination.size(), query.limit());
+        assertEquals(NoSQLPage.skip(pagination), query.skip());
+        assertEquals(pagination.size() + 1, query.limit());
     }
 
 
@@ -451,8 +455,8 @@ public class ColumnRepositoryProxyPageableTest {
         assertEquals("Person", query.name());
         assertEquals(EQUALS, condition.condition());
         assertEquals(Column.of("age", 120), condition.column());
-        assertEquals(NoSQLPage.skip(pagination), query.limit());
-        assertEquals(pagination.size(), query.limit());
+        assertEquals(NoSQLPage.skip(pagination), query.skip());
+        assertEquals(pagination.size() + 1, query.limit());
     }
 
     @Test
@@ -483,6 +487,81 @@ public class ColumnRepositoryProxyPageableTest {
         assertNull(personRepository.findByName("name", pagination));
     }
 
+    @Test
+    void shouldFindPageWithNextPageableAndLazyCount() {
+        when(template.select(any(ColumnQuery.class))).thenReturn(Stream.of(Person.builder().withAge(10).build(),
+                Person.builder().withAge(11).build(), Person.builder().withAge(12).build()));
+        when(template.count(any(ColumnQuery.class))).thenReturn(10L);
+
+        Pageable pagination = Pageable.ofPage(1).size(2);
+        Page<Person> page = personRepository.findByNameOrderByAge("name", pagination);
+
+        assertThat(page.content()).hasSize(2);
+        assertEquals(pagination.next(), page.nextPageable());
+        verify(template, never()).count(any(ColumnQuery.class));
+        assertEquals(10L, page.totalElements());
+        assertEquals(5L, page.totalPages());
+        verify(template).count(any(ColumnQuery.class));
+    }
+
+    @Test
+    void shouldFindPageAfterKeyset() {
+        when(template.select(any(ColumnQuery.class))).thenReturn(Stream.of(Person.builder().withAge(11).build()));
+
+        Pageable pagination = Pageable.ofSize(2).afterKeyset(10);
+        Page<Person> page = personRepository.findByNameOrderByAge("name", pagination);
+
+        assertThat(page.content()).hasSize(1);
+        assertNull(page.nextPageable());
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertEquals(0, query.skip());
+        assertEquals(3, query.limit());
+        ColumnCondition condition = query.condition().orElseThrow();
+        assertEquals(AND, condition.condition());
+        assertThat(condition.toString()).contains("age").contains("10");
+    }
+
+    @Test
+    void shouldConvertKeysetToDatabaseFormat() {
+        Money salary = new Money("USD", BigDecimal.TEN);
+        ColumnRepositoryProxy.ColumnRepository<Worker, String> repository = ColumnRepositoryProxy.ColumnRepository
+                .of(template, entities.get(Worker.class), converters);
+
+        repository.findAll(Pageable.ofSize(2).sortBy(Sort.asc("salary")).afterKeyset(salary));
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnCondition condition = captor.getValue().condition().orElseThrow();
+        assertEquals(GREATER_THAN, condition.condition());
+        assertEquals(Column.of("money", salary.toString()), condition.column());
+    }
+
+    @Test
+    void shouldConvertKeysetToDatabaseFormatWithDatabaseName() {
+        Money salary = new Money("USD", BigDecimal.TEN);
+        ColumnRepositoryProxy.ColumnRepository<Worker, String> repository = ColumnRepositoryProxy.ColumnRepository
+                .of(template, entities.get(Worker.class));
+
+        repository.findAll(Pageable.ofSize(2).sortBy(Sort.desc("money")).afterKeyset(salary));
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnCondition condition = captor.getValue().condition().orElseThrow();
+        assertEquals(LESSER_THAN, condition.condition());
+        assertEquals(Column.of("money", salary.toString()), condition.column());
+    }
+
+    @Test
+    void shouldReturnErrorWhenKeysetHasNullValue() {
+        ColumnRepositoryProxy.ColumnRepository<Worker, String> repository = ColumnRepositoryProxy.ColumnRepository
+                .of(template, entities.get(Worker.class), converters);
+        Pageable pageable = Pageable.ofSize(2).sortBy(Sort.asc("salary")).afterKeyset(new Object[]{null});
+
+        assertThrows(IllegalArgumentException.class, () -> repository.findAll(pageable));
+    }
+
     @Test
     public void shouldFindByNameOrderName2() {
 
@@ -500,8 +579,8 @@ public class ColumnRepositoryProxyPageableTest {
         ColumnCondition condition = query.condition().get();
         assertEquals("Person", query.name());
         assertEquals(EQUALS, condition.condition());
-        assertEquals(NoSQLPage.skip(pagination), query.limit());
-        assertEquals(pagination.size(), query.limit());
+        assertEquals(NoSQLPage.skip(pagination), query.skip());
+        assertEquals(pagination.size() + 1, query.limit());
         assertThat(query.sorts()).hasSize(2)
                 .containsExactly(Sort.asc("age"), Sort.asc("name"));
 
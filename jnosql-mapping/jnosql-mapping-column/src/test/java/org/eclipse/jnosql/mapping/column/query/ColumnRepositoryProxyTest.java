@@ -55,6 +55,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.math.BigDecimal;
 import java.time.Duration;
@@ -67,6 +68,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -863,6 +865,52 @@ class ColumnRepositoryProxyTest {
         });
     }
 
+    @Test
+    void shouldTranslateMethodQueryOnce() throws NoSuchMethodException {
+        AtomicInteger translations = new AtomicInteger();
+        ColumnRepositoryProxy<Person, Long> handler = new ColumnRepositoryProxy<>(template,
+                entities, PersonRepository.class, converters) {
+            @Override
+            protected Converters converters() {
+                translations.incrementAndGet();
+                return super.converters();
+            }
+        };
+        Method method = PersonRepository.class.getMethod("findByNameAndAge", String.class, Integer.class);
+
+        ColumnQuery ada = handler.query(method, new Object[]{"Ada", 20});
+        int calls = translations.get();
+        ColumnQuery poliana = handler.query(method, new Object[]{"Poliana", 30});
+
+        assertThat(calls).isPositive();
+        assertThat(translations).hasValue(calls);
+        assertThat(ada.condition().orElseThrow().toString()).contains("Ada", "20").doesNotContain("Poliana");
+        assertThat(poliana.condition().orElseThrow().toString()).contains("Poliana", "30").doesNotContain("Ada");
+    }
+
+    @Test
+    void shouldTranslateDeleteMethodQueryOnce() throws NoSuchMethodException {
+        AtomicInteger translations = new AtomicInteger();
+        ColumnRepositoryProxy<Person, Long> handler = new ColumnRepositoryProxy<>(template,
+                entities, PersonRepository.class, converters) {
+            @Override
+            protected Converters converters() {
+                translations.incrementAndGet();
+                return super.converters();
+            }
+        };
+        Method method = PersonRepository.class.getMethod("deleteByName", String.class);
+
+        ColumnDeleteQuery ada = handler.deleteQuery(method, new Object[]{"Ada"});
+        int calls = translations.get();
+        ColumnDeleteQuery poliana = handler.deleteQuery(method, new Object[]{"Poliana"});
+
+        assertThat(calls).isPositive();
+        assertThat(translations).hasValue(calls);
+        assertThat(ada.condition().orElseThrow().column()).isEqualTo(Column.of("name", "Ada"));
+        assertThat(poliana.condition().orElseThrow().column()).isEqualTo(Column.of("name", "Poliana"));
+    }
+
     public interface BaseQuery<T> {
 
         List<T> findByNameLessThan(String name);
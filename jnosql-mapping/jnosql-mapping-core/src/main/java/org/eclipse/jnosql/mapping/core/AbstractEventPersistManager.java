@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.EntitiesPostPersist;
+import org.eclipse.jnosql.mapping.EntitiesPrePersist;
+import org.eclipse.jnosql.mapping.EntityPostPersist;
+import org.eclipse.jnosql.mapping.EntityPrePersist;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.EVENTS_BATCH;
+
+/**
+ * The base of the managers of events, when an entity is either saved or updated an event will be fired.
+ * The observers are resolved once at the start, thus, when there is no observer to an event,
+ * the fire methods do nothing instead of creating the event and resolving the observers on each entity.
+ * When the {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#EVENTS_BATCH} property is enabled,
+ * the bulk operations fire {@link EntitiesPrePersist} and {@link EntitiesPostPersist} instead of one event per entity.
+ */
+public abstract class AbstractEventPersistManager {
+
+    private static final Object ENTITY = new Object();
+
+    @Inject
+    private Event<EntityPrePersist> entityPrePersistEvent;
+
+    @Inject
+    private Event<EntityPostPersist> entityPostPersistEvent;
+
+    @Inject
+    private BeanManager beanManager;
+
+    private boolean prePersistObserved = true;
+
+    private boolean postPersistObserved = true;
+
+    private boolean batch;
+
+    private boolean entitiesPrePersistObserved;
+
+    private boolean entitiesPostPersistObserved;
+
+    @PostConstruct
+    void resolveObservers() {
+        if (beanManager == null) {
+            return;
+        }
+        this.prePersistObserved = isObserved(EntityPrePersist.of(ENTITY));
+        this.postPersistObserved = isObserved(EntityPostPersist.of(ENTITY));
+        this.batch = MicroProfileSettings.INSTANCE.get(EVENTS_BATCH, Boolean.class).orElse(false);
+        this.entitiesPrePersistObserved = batch && isObserved(EntitiesPrePersist.of(List.of()));
+        this.entitiesPostPersistObserved = batch && isObserved(EntitiesPostPersist.of(List.of()));
+    }
+
+    /**
+     * Fire an event once the method is called
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     */
+    public <T> void firePreEntity(T entity) {
+        if (prePersistObserved) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
+    }
+
+    /**
+     * Fire an event after convert the database response to Entity.
+     *
+     * @param entity the entity
+     * @param <T>    the entity kind
+     */
+    public <T> void firePostEntity(T entity) {
+        if (postPersistObserved) {
+            entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        }
+    }
+
+    /**
+     * Fire the events of a bulk operation once the method is called, either a single {@link EntitiesPrePersist}
+     * or one {@link EntityPrePersist} per entity.
+     *
+     * @param entities the entities
+     * @param <T>      the entity type
+     * @throws NullPointerException when entities is null
+     */
+    public <T> void firePreEntities(List<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        if (batch) {
+            if (entitiesPrePersistObserved) {
+                beanManager.getEvent().select(EntitiesPrePersist.class).fire(EntitiesPrePersist.of(entities));
+            }
+        } else if (prePersistObserved) {
+            entities.forEach(this::firePreEntity);
+        }
+    }
+
+    /**
+     * Fire the events of a bulk operation after convert the database response to Entity,
+     * either a single {@link EntitiesPostPersist} or one {@link EntityPostPersist} per entity.
+     *
+     * @param entities the entities
+     * @param <T>      the entity type
+     * @throws NullPointerException when entities is null
+     */
+    public <T> void firePostEntities(List<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        if (batch) {
+            if (entitiesPostPersistObserved) {
+                beanManager.getEvent().select(EntitiesPostPersist.class).fire(EntitiesPostPersist.of(entities));
+            }
+        } else if (postPersistObserved) {
+            entities.forEach(this::firePostEntity);
+        }
+    }
+
+    private boolean isObserved(Object event) {
+        return !beanManager.resolveObserverMethods(event).isEmpty();
+    }
+}
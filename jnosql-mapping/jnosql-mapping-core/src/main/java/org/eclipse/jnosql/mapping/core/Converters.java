@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.core;
 
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.inject.spi.Bean;
@@ -24,12 +25,16 @@ import org.eclipse.jnosql.mapping.AttributeConverter;
 import org.eclipse.jnosql.mapping.metadata.FieldParameterMetadata;
 
 import java.util.Iterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 /**
  * The {@link org.eclipse.jnosql.mapping.Convert} collection, this instance will generate/create an instance.
+ * Each converter type is resolved once, the instance is kept until this bean is destroyed,
+ * when the dependent instances created from CDI are released.
  */
 @ApplicationScoped
 public class Converters {
@@ -39,6 +44,8 @@ public class Converters {
     @Inject
     private BeanManager beanManager;
 
+    private final Map<Class<?>, ConverterInstance> converters = new ConcurrentHashMap<>();
+
     /**
      * Returns a converter instance where it might use scope from CDI.
      *
@@ -53,7 +60,14 @@ public class Converters {
         return getInstance(metadata);
     }
 
-
+    /**
+     * Releases the converters instances, the next call will resolve them again.
+     */
+    @PreDestroy
+    void release() {
+        converters.values().forEach(ConverterInstance::release);
+        converters.clear();
+    }
 
     @SuppressWarnings("unchecked")
     private <T> T getInstance(FieldParameterMetadata metadata) {
@@ -61,17 +75,32 @@ public class Converters {
                 .orElseThrow(() -> new NoSuchElementException("There is not converter to the field: "
                         + metadata.name() + " in the Field: " + metadata.type()));
 
+        ConverterInstance converter = converters.get(type);
+        if (converter == null) {
+            ConverterInstance created = create(type, metadata);
+            converter = converters.putIfAbsent(type, created);
+            if (converter == null) {
+                converter = created;
+            } else {
+                created.release();
+            }
+        }
+        return (T) converter.instance();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ConverterInstance create(Class<T> type, FieldParameterMetadata metadata) {
         Iterator<Bean<?>> iterator = beanManager.getBeans(type).iterator();
         if (iterator.hasNext()) {
             Bean<T> bean = (Bean<T>) iterator.next();
             CreationalContext<T> ctx = beanManager.createCreationalContext(bean);
-            return (T) beanManager.getReference(bean, type, ctx);
+            return new ConverterInstance(beanManager.getReference(bean, type, ctx), ctx);
         } else {
             LOGGER.info("The converter type: " + type + " not found on CDI context, creating by constructor");
-            return (T) metadata.newConverter() .orElseThrow(() -> new NoSuchElementException("There is not converter to the field: "
+            Object instance = metadata.newConverter() .orElseThrow(() -> new NoSuchElementException("There is not converter to the field: "
                     + metadata.name() + " in the Field: " + metadata.type()));
+            return new ConverterInstance(instance, null);
         }
-
     }
 
 
@@ -79,6 +108,16 @@ public class Converters {
     public String toString() {
         return "DefaultConverters{" +
                 "beanManager=" + beanManager +
+                ", converters=" + converters.keySet() +
                 '}';
     }
+
+    private record ConverterInstance(Object instance, CreationalContext<?> context) {
+
+        void release() {
+            if (context != null) {
+                context.release();
+            }
+        }
+    }
 }
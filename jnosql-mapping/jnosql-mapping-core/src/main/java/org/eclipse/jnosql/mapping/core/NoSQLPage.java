@@ -15,13 +15,20 @@
 package org.eclipse.jnosql.mapping.core;
 
 
+import jakarta.data.Sort;
 import jakarta.data.page.Page;
 import jakarta.data.page.Pageable;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 /**
  * A JNoSQL implementation of {@link  Page}
@@ -34,19 +41,43 @@ public class NoSQLPage<T> implements Page<T> {
 
     private final Pageable pageable;
 
-    private NoSQLPage(List<T> entities, Pageable pageable) {
+    private final Pageable next;
+
+    private final LongSupplier count;
+
+    private volatile Long totalElements;
+
+    private NoSQLPage(List<T> entities, Pageable pageable, Pageable next, LongSupplier count) {
         this.entities = entities;
         this.pageable = pageable;
+        this.next = next;
+        this.count = count;
     }
 
+    /**
+     * Returns the total of elements, the count query runs once at the first call.
+     *
+     * @return the total of elements
+     * @throws UnsupportedOperationException when the page was created without a count query
+     */
     @Override
     public long totalElements() {
-        throw new UnsupportedOperationException("JNoSQL has no support for this feature yet");
+        if (count == null) {
+            throw new UnsupportedOperationException("JNoSQL has no support for this feature yet");
+        }
+        Long total = this.totalElements;
+        if (total == null) {
+            total = count.getAsLong();
+            this.totalElements = total;
+        }
+        return total;
     }
 
     @Override
     public long totalPages() {
-        throw new UnsupportedOperationException("JNoSQL has no support for this feature yet");
+        long total = totalElements();
+        int size = pageable.size();
+        return (total + size - 1) / size;
     }
 
     @Override
@@ -71,7 +102,7 @@ public class NoSQLPage<T> implements Page<T> {
 
     @Override
     public Pageable nextPageable() {
-        return this.pageable.next();
+        return this.next;
     }
 
     @Override
@@ -114,7 +145,136 @@ public class NoSQLPage<T> implements Page<T> {
     public static <T> Page<T> of(List<T> entities, Pageable pageable) {
         Objects.requireNonNull(entities, "entities is required");
         Objects.requireNonNull(pageable, "pageable is required");
-        return new NoSQLPage<>(entities, pageable);
+        return new NoSQLPage<>(entities, pageable, pageable.next(), null);
+    }
+
+    /**
+     * Creates a {@link Page} from the result of a query that fetched one element more than the page size, see
+     * {@link #limit(Pageable)}, so the extra element tells if there is a next page without counting the elements.
+     * The total of elements comes from the count function, which runs lazily only when either
+     * {@link Page#totalElements()} or {@link Page#totalPages()} is called.
+     * On the cursor-based pagination, the query has the sort in the reverse order when the mode is
+     * {@link Pageable.Mode#CURSOR_PREVIOUS}, and the next {@link Pageable} is after the keyset of the last element.
+     *
+     * @param entities the entities, up to the page size plus one
+     * @param pageable the pageable
+     * @param count    the function that counts the elements of the query without pagination
+     * @param keyset   the function that reads the keyset of an entity at the cursor-based pagination
+     * @param <T>      the entity type
+     * @return a {@link Page} instance
+     * @throws NullPointerException when there is null parameter
+     */
+    public static <T> Page<T> of(List<T> entities, Pageable pageable, LongSupplier count,
+                                 Function<T, Object[]> keyset) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(pageable, "pageable is required");
+        Objects.requireNonNull(count, "count is required");
+        Objects.requireNonNull(keyset, "keyset is required");
+        boolean hasMore = entities.size() > pageable.size();
+        List<T> content = new ArrayList<>(hasMore ? entities.subList(0, pageable.size()) : entities);
+        Pageable next;
+        if (isCursor(pageable)) {
+            if (Pageable.Mode.CURSOR_PREVIOUS.equals(pageable.mode())) {
+                Collections.reverse(content);
+            }
+            boolean hasNext = hasMore || Pageable.Mode.CURSOR_PREVIOUS.equals(pageable.mode());
+            next = hasNext && !content.isEmpty() ?
+                    pageable.afterKeyset(keyset.apply(content.get(content.size() - 1))) : null;
+        } else {
+            next = hasMore ? pageable.next() : null;
+        }
+        return new NoSQLPage<>(content, pageable, next, count);
+    }
+
+    /**
+     * Returns the number of elements to fetch from the database to create a page with
+     * {@link #of(List, Pageable, LongSupplier, Function)}: the page size plus one.
+     *
+     * @param pageable the pageable
+     * @return the limit
+     * @throws NullPointerException when parameter is null
+     */
+    public static long limit(Pageable pageable) {
+        Objects.requireNonNull(pageable, "pageable is required");
+        return pageable.size() + 1L;
+    }
+
+    /**
+     * Checks if the pageable is a cursor-based pagination with a keyset, thus the query must filter the elements
+     * after or before the keyset instead of skip them.
+     *
+     * @param pageable the pageable
+     * @return true when the pageable has a cursor
+     * @throws NullPointerException when parameter is null
+     */
+    public static boolean isCursor(Pageable pageable) {
+        Objects.requireNonNull(pageable, "pageable is required");
+        return !Pageable.Mode.OFFSET.equals(pageable.mode()) && pageable.cursor().isPresent();
+    }
+
+    /**
+     * Returns the sorts to the cursor-based pagination, on {@link Pageable.Mode#CURSOR_PREVIOUS} the direction of
+     * each sort is reversed, so the query reads the elements before the keyset from the closest one.
+     *
+     * @param pageable the pageable
+     * @param sorts    the sorts of the query
+     * @return the sorts
+     * @throws NullPointerException when there is null parameter
+     */
+    public static List<Sort> sorts(Pageable pageable, List<Sort> sorts) {
+        Objects.requireNonNull(pageable, "pageable is required");
+        Objects.requireNonNull(sorts, "sorts is required");
+        if (!Pageable.Mode.CURSOR_PREVIOUS.equals(pageable.mode())) {
+            return sorts;
+        }
+        List<Sort> reversed = new ArrayList<>(sorts.size());
+        for (Sort sort : sorts) {
+            reversed.add(sort.isAscending() ? Sort.desc(sort.property()) : Sort.asc(sort.property()));
+        }
+        return reversed;
+    }
+
+    /**
+     * Creates the function that reads the keyset of an entity, where each element is the value of a sort property.
+     * The property is either the database name or the Java field name, and it is resolved only when the function
+     * runs, which happens at the cursor-based pagination.
+     *
+     * @param metadata the entity metadata
+     * @param sorts    the sorts that define the keyset
+     * @param <T>      the entity type
+     * @return the keyset function
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when a sort property is not a field of the entity
+     */
+    public static <T> Function<T, Object[]> keyset(EntityMetadata metadata, List<Sort> sorts) {
+        Objects.requireNonNull(metadata, "metadata is required");
+        Objects.requireNonNull(sorts, "sorts is required");
+        return entity -> {
+            Object[] values = new Object[sorts.size()];
+            for (int index = 0; index < values.length; index++) {
+                String property = sorts.get(index).property();
+                FieldMetadata field = field(metadata, property)
+                        .orElseThrow(() -> new IllegalArgumentException("The keyset property " + property
+                                + " is not a field of the entity " + metadata.type()));
+                values[index] = field.read(entity);
+            }
+            return values;
+        };
+    }
+
+    /**
+     * Finds the field of a sort property, where the property is either the database name or the Java field name.
+     *
+     * @param metadata the entity metadata
+     * @param property the sort property
+     * @return the field or {@link Optional#empty()} when the property is not a field of the entity
+     * @throws NullPointerException when there is null parameter
+     */
+    public static Optional<FieldMetadata> field(EntityMetadata metadata, String property) {
+        Objects.requireNonNull(metadata, "metadata is required");
+        Objects.requireNonNull(property, "property is required");
+        return Optional.ofNullable(metadata.fieldsGroupByName().get(property))
+                .or(() -> metadata.fieldMapping(property));
     }
 
     /**
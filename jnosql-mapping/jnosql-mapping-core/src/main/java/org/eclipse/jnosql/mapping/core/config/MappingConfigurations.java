@@ -29,6 +29,11 @@ public enum MappingConfigurations implements Supplier<String> {
      *Define the key-value database name.
      */
     KEY_VALUE_DATABASE("jnosql.keyvalue.database"),
+    /**
+     * Define the number of keys sent at once to the BucketManager when the template gets several keys.
+     * By default, all the keys are sent in a single call.
+     */
+    KEY_VALUE_BATCH_SIZE("jnosql.keyvalue.batch.size"),
     /**
      * Define the DocumentConfiguration that creates a DocumentManager instance.
      * It is necessary when there is more than one implementation; otherwise,  it will find automatically.
@@ -38,6 +43,11 @@ public enum MappingConfigurations implements Supplier<String> {
      *Define the document database name.
      */
     DOCUMENT_DATABASE("jnosql.document.database"),
+    /**
+     * Define the number of entities sent at once to the DocumentManager on the bulk insert and update operations.
+     * By default, all the entities are sent in a single call.
+     */
+    DOCUMENT_BATCH_SIZE("jnosql.document.batch.size"),
     /**
      * Define the ColumnConfiguration that creates a ColumnManager instance.
      * It is necessary when there is more than one implementation; otherwise,  it will find automatically.
@@ -47,6 +57,11 @@ public enum MappingConfigurations implements Supplier<String> {
      *Define the column database name.
      */
     COLUMN_DATABASE("jnosql.column.database"),
+    /**
+     * Define the number of entities sent at once to the ColumnManager on the bulk insert and update operations.
+     * By default, all the entities are sent in a single call.
+     */
+    COLUMN_BATCH_SIZE("jnosql.column.batch.size"),
     /**
      * Define the GraphConfiguration that creates a GraphConfiguration instance.
      * It is necessary when there is more than one implementation; otherwise,  it will find automatically.
@@ -55,7 +70,22 @@ public enum MappingConfigurations implements Supplier<String> {
     /**
      * Activate the automatic transaction at Graph database. By default it is true.
      */
-    GRAPH_TRANSACTION_AUTOMATIC("jnosql.graph.transaction.automatic");
+    GRAPH_TRANSACTION_AUTOMATIC("jnosql.graph.transaction.automatic"),
+    /**
+     * Define the number of vertices committed at once on the bulk insert and update operations when the automatic
+     * transaction is enabled. By default, all the vertices are committed in a single transaction.
+     */
+    GRAPH_TRANSACTION_BATCH_SIZE("jnosql.graph.transaction.batch.size"),
+    /**
+     * Define the maximum number of parsed Gremlin queries kept in the cache, a value of zero disables it.
+     * By default, it keeps 1000 queries.
+     */
+    GRAPH_GREMLIN_CACHE_SIZE("jnosql.graph.gremlin.cache.size"),
+    /**
+     * Fire a single event with all the entities on the bulk operations, such as the
+     * {@link org.eclipse.jnosql.mapping.EntitiesPrePersist}, instead of one event per entity. By default it is false.
+     */
+    EVENTS_BATCH("jnosql.events.batch");
 
 
     private final String value;
@@ -15,13 +15,20 @@
 package org.eclipse.jnosql.mapping.core.query;
 
 import jakarta.data.exceptions.MappingException;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.CDI;
 import org.eclipse.jnosql.mapping.core.repository.ThrowingSupplier;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.eclipse.jnosql.mapping.core.query.AnnotationOperation.DELETE;
 import static org.eclipse.jnosql.mapping.core.query.AnnotationOperation.INSERT;
@@ -31,12 +38,16 @@ import static org.eclipse.jnosql.mapping.core.query.AnnotationOperation.UPDATE;
 /**
  * Abstract class that serves as a proxy for repository interfaces.
  * It implements the InvocationHandler interface to handle method invocations.
+ * The operation of each method of the repository interface is resolved once, at the first invocation of the method,
+ * thus the next invocations do not inspect the method annotations nor look up the CDI container.
  *
  * @param <T> The type of the entity managed by the repository.
  * @param <K> The type of the entity's ID.
  */
 public abstract class AbstractRepositoryProxy<T, K> implements InvocationHandler {
 
+    private static final Object[] EMPTY_PARAMS = new Object[0];
+
     /**
      * Retrieves the underlying repository associated with this proxy.
      *
@@ -129,66 +140,92 @@ public abstract class AbstractRepositoryProxy<T, K> implements InvocationHandler
      */
     protected abstract Object executeParameterBased(Object instance, Method method, Object[] params);
 
+    private final Map<Method, MethodHandler> handlers = new ConcurrentHashMap<>();
+
     @Override
     public Object invoke(Object instance, Method method, Object[] params) throws Throwable {
+        MethodHandler handler = handlers.get(method);
+        if (handler == null) {
+            handler = handlers.computeIfAbsent(method, this::handler);
+        }
+        return handler.invoke(instance, params);
+    }
 
+    private MethodHandler handler(Method method) {
         RepositoryType type = RepositoryType.of(method, repositoryType());
-
         switch (type) {
             case DEFAULT -> {
-                return unwrapInvocationTargetException(() -> method.invoke(repository(), params));
+                return repositoryMethod(method);
             }
             case FIND_BY -> {
-                return unwrapInvocationTargetException(() ->   executeFindByQuery(instance, method, params));
+                return (instance, params) -> executeFindByQuery(instance, method, params);
             }
             case COUNT_BY -> {
-                return unwrapInvocationTargetException(() ->   executeCountByQuery(instance, method, params));
+                return (instance, params) -> executeCountByQuery(instance, method, params);
             }
             case EXISTS_BY -> {
-                return unwrapInvocationTargetException(() ->   executeExistByQuery(instance, method, params));
+                return (instance, params) -> executeExistByQuery(instance, method, params);
             }
             case FIND_ALL -> {
-                return unwrapInvocationTargetException(() ->   executeFindAll(instance, method, params));
+                return (instance, params) -> executeFindAll(instance, method, params);
             }
             case DELETE_BY -> {
-                return unwrapInvocationTargetException(() ->   executeDeleteByAll(instance, method, params));
+                return (instance, params) -> executeDeleteByAll(instance, method, params);
             }
             case OBJECT_METHOD -> {
-                return unwrapInvocationTargetException(() ->  unwrapInvocationTargetException(() -> method.invoke(this, params)));
+                return (instance, params) -> unwrapInvocationTargetException(() -> method.invoke(this, params));
             }
             case DEFAULT_METHOD -> {
-                return unwrapInvocationTargetException(() -> InvocationHandler.invokeDefault(instance, method, params));
+                return (instance, params) -> unwrapInvocationTargetException(() ->
+                        InvocationHandler.invokeDefault(instance, method, params));
             }
-            case ORDER_BY ->
+            case ORDER_BY -> {
+                return (instance, params) -> {
                     throw new MappingException("Eclipse JNoSQL has not support for method that has OrderBy annotation");
+                };
+            }
             case QUERY -> {
-                return unwrapInvocationTargetException(() ->  executeQuery(instance, method, params));
+                return (instance, params) -> executeQuery(instance, method, params);
             }
             case PARAMETER_BASED -> {
-                return unwrapInvocationTargetException(() -> executeParameterBased(instance, method, params));
+                return (instance, params) -> executeParameterBased(instance, method, params);
             }
             case CUSTOM_REPOSITORY -> {
-                Object customRepository = CDI.current().select(method.getDeclaringClass()).get();
-                return unwrapInvocationTargetException(() -> method.invoke(customRepository, params));
+                CustomRepository customRepository = new CustomRepository(method.getDeclaringClass());
+                return (instance, params) -> unwrapInvocationTargetException(() ->
+                        method.invoke(customRepository.get(), params));
             }
             case SAVE -> {
-                return unwrapInvocationTargetException(() -> SAVE.invoke(new AnnotationOperation.Operation(method, params, repository())));
+                return (instance, params) -> SAVE.invoke(new AnnotationOperation.Operation(method, params, repository()));
             }
             case INSERT -> {
-                return unwrapInvocationTargetException(() -> INSERT.invoke(new AnnotationOperation.Operation(method, params, repository())));
+                return (instance, params) -> INSERT.invoke(new AnnotationOperation.Operation(method, params, repository()));
             }
             case DELETE -> {
-                return unwrapInvocationTargetException(() -> DELETE.invoke(new AnnotationOperation.Operation(method, params, repository())));
+                return (instance, params) -> DELETE.invoke(new AnnotationOperation.Operation(method, params, repository()));
             }
             case UPDATE -> {
-                return unwrapInvocationTargetException(() -> UPDATE.invoke(new AnnotationOperation.Operation(method, params, repository())));
+                return (instance, params) -> UPDATE.invoke(new AnnotationOperation.Operation(method, params, repository()));
             }
             default -> {
-                return Void.class;
+                return (instance, params) -> Void.class;
             }
         }
     }
 
+    private MethodHandler repositoryMethod(Method method) {
+        Object repository = repository();
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(method)
+                    .bindTo(repository)
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            return (instance, params) -> handle.invokeExact(params == null ? EMPTY_PARAMS : params);
+        } catch (IllegalAccessException | RuntimeException exception) {
+            return (instance, params) -> unwrapInvocationTargetException(() -> method.invoke(repository, params));
+        }
+    }
+
     /**
      * Unwraps the InvocationTargetException and throws the original cause.
      *
@@ -203,4 +240,49 @@ public abstract class AbstractRepositoryProxy<T, K> implements InvocationHandler
             throw ex.getCause();
         }
     }
+
+    /**
+     * The custom repository of a method, it is resolved from CDI at the first invocation of the method, thus a bean
+     * that is either unsatisfied or ambiguous fails only the methods that need it. A normal-scoped bean is a client
+     * proxy, so it is kept, whereas a dependent bean is created at every invocation.
+     */
+    private static final class CustomRepository {
+
+        private final Class<?> type;
+
+        private volatile Instance<?> instance;
+
+        private volatile Object reference;
+
+        private CustomRepository(Class<?> type) {
+            this.type = type;
+        }
+
+        Object get() {
+            Object current = this.reference;
+            if (current != null) {
+                return current;
+            }
+            Instance<?> beans = this.instance;
+            if (beans == null) {
+                beans = CDI.current().select(type);
+                this.instance = beans;
+            }
+            Instance.Handle<?> handle = beans.getHandle();
+            current = handle.get();
+            if (!Dependent.class.equals(handle.getBean().getScope())) {
+                this.reference = current;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * The operation of a repository method, it is resolved once per method.
+     */
+    @FunctionalInterface
+    private interface MethodHandler {
+
+        Object invoke(Object instance, Object[] params) throws Throwable;
+    }
 }
\ No newline at end of file
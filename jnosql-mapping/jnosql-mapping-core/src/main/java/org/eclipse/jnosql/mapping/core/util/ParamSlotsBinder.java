@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.util;
+
+import org.eclipse.jnosql.communication.ParamSlots;
+import org.eclipse.jnosql.mapping.DynamicQueryException;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The immutable version of {@link ParamsBinder}, it resolves once the field of each parameter position of a
+ * method query, so each invocation only converts the arguments into an array indexed by the parameter position.
+ *
+ * @see ParamSlots
+ */
+public final class ParamSlotsBinder {
+
+    private final ParamSlots slots;
+
+    private final FieldMetadata[] fields;
+
+    private final Converters converters;
+
+    private final Method method;
+
+    private ParamSlotsBinder(ParamSlots slots, FieldMetadata[] fields, Converters converters, Method method) {
+        this.slots = slots;
+        this.fields = fields;
+        this.converters = converters;
+        this.method = method;
+    }
+
+    /**
+     * @return the parameters slots
+     */
+    public ParamSlots slots() {
+        return slots;
+    }
+
+    /**
+     * Converts the method arguments into the values indexed by the parameter position.
+     *
+     * @param args the method arguments
+     * @return the values
+     * @throws NullPointerException   when args is null
+     * @throws DynamicQueryException when the query has more parameters than the method
+     */
+    public Object[] bind(Object[] args) {
+        Objects.requireNonNull(args, "args is required");
+        if (fields.length > args.length) {
+            throw new DynamicQueryException("The number of parameters in a query is bigger than the number of " +
+                    "parameters in the method: " + method);
+        }
+        Object[] values = new Object[fields.length];
+        for (int index = 0; index < fields.length; index++) {
+            values[index] = getValue(args[index], fields[index]);
+        }
+        return values;
+    }
+
+    private Object getValue(Object value, FieldMetadata field) {
+        if (field != null) {
+            if (value instanceof Iterable) {
+                List<Object> values = new ArrayList<>();
+                for (Object item : Iterable.class.cast(value)) {
+                    values.add(ConverterUtil.getValue(item, converters, field));
+                }
+                return values;
+            }
+            return ConverterUtil.getValue(value, converters, field);
+        } else {
+            return value;
+        }
+    }
+
+    /**
+     * Creates a binder to the method query, the parameter name is either the entity attribute or the column name.
+     *
+     * @param slots      the parameters slots of the query
+     * @param mapping    the mapping of the used class
+     * @param converters the converters
+     * @param method     the repository method
+     * @return a {@link ParamSlotsBinder} instance
+     * @throws NullPointerException when there is null parameter
+     */
+    public static ParamSlotsBinder of(ParamSlots slots, EntityMetadata mapping, Converters converters, Method method) {
+        Objects.requireNonNull(slots, "slots is required");
+        Objects.requireNonNull(mapping, "mapping is required");
+        Objects.requireNonNull(converters, "converters is required");
+        Objects.requireNonNull(method, "method is required");
+        List<String> names = slots.names();
+        FieldMetadata[] fields = new FieldMetadata[names.size()];
+        for (int index = 0; index < names.size(); index++) {
+            String name = names.get(index);
+            int lastIndex = name.lastIndexOf('_') == -1 ? name.length() : name.lastIndexOf('_');
+            String fieldName = name.substring(0, lastIndex);
+            fields[index] = mapping.fieldMapping(fieldName).orElseGet(() -> mapping.fields().stream()
+                    .filter(f -> f.name().equals(fieldName)).findFirst().orElse(null));
+        }
+        return new ParamSlotsBinder(slots, fields, converters, method);
+    }
+}
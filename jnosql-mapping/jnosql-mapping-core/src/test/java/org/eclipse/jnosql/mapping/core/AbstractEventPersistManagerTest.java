@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import org.eclipse.jnosql.mapping.EntitiesPostPersist;
+import org.eclipse.jnosql.mapping.EntitiesPrePersist;
+import org.eclipse.jnosql.mapping.EntityPostPersist;
+import org.eclipse.jnosql.mapping.EntityPrePersist;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.EVENTS_BATCH;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AbstractEventPersistManagerTest {
+
+    @InjectMocks
+    private EventPersistManager subject;
+
+    @Mock
+    private Event<EntityPrePersist> entityPrePersistEvent;
+
+    @Mock
+    private Event<EntityPostPersist> entityPostPersistEvent;
+
+    @Mock
+    private BeanManager beanManager;
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(EVENTS_BATCH.get());
+    }
+
+    @Test
+    void shouldFireWhenObserversAreNotResolved() {
+        subject.firePreEntity("entity");
+        subject.firePostEntity("entity");
+        verify(entityPrePersistEvent).fire(EntityPrePersist.of("entity"));
+        verify(entityPostPersistEvent).fire(EntityPostPersist.of("entity"));
+    }
+
+    @Test
+    void shouldNotFireWhenThereIsNoObserver() {
+        doReturn(Set.of()).when(beanManager).resolveObserverMethods(any());
+        subject.resolveObservers();
+
+        subject.firePreEntity("entity");
+        subject.firePostEntity("entity");
+        subject.firePreEntities(List.of("entity"));
+        subject.firePostEntities(List.of("entity"));
+
+        verify(entityPrePersistEvent, never()).fire(any());
+        verify(entityPostPersistEvent, never()).fire(any());
+    }
+
+    @Test
+    void shouldFireWhenThereIsObserver() {
+        doReturn(Set.of(mock(ObserverMethod.class))).when(beanManager).resolveObserverMethods(any());
+        subject.resolveObservers();
+
+        subject.firePreEntity("entity");
+        subject.firePostEntity("entity");
+
+        verify(entityPrePersistEvent).fire(EntityPrePersist.of("entity"));
+        verify(entityPostPersistEvent).fire(EntityPostPersist.of("entity"));
+    }
+
+    @Test
+    void shouldFireOneEventPerEntityWhenBatchIsDisabled() {
+        doReturn(Set.of(mock(ObserverMethod.class))).when(beanManager).resolveObserverMethods(any());
+        subject.resolveObservers();
+
+        subject.firePreEntities(List.of("Ada", "Poliana"));
+        subject.firePostEntities(List.of("Ada", "Poliana"));
+
+        verify(entityPrePersistEvent, times(2)).fire(any());
+        verify(entityPostPersistEvent, times(2)).fire(any());
+        verify(beanManager, never()).getEvent();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFireBatchEventWhenBatchIsEnabled() {
+        System.setProperty(EVENTS_BATCH.get(), "true");
+        doReturn(Set.of(mock(ObserverMethod.class))).when(beanManager).resolveObserverMethods(any());
+        Event<Object> event = mock(Event.class);
+        Event<EntitiesPrePersist> preEvent = mock(Event.class);
+        Event<EntitiesPostPersist> postEvent = mock(Event.class);
+        when(beanManager.getEvent()).thenReturn(event);
+        when(event.select(EntitiesPrePersist.class)).thenReturn(preEvent);
+        when(event.select(EntitiesPostPersist.class)).thenReturn(postEvent);
+        subject.resolveObservers();
+
+        subject.firePreEntities(List.of("Ada", "Poliana"));
+        subject.firePostEntities(List.of("Ada", "Poliana"));
+
+        verify(preEvent).fire(eq(EntitiesPrePersist.of(List.of("Ada", "Poliana"))));
+        verify(postEvent).fire(eq(EntitiesPostPersist.of(List.of("Ada", "Poliana"))));
+        verify(entityPrePersistEvent, never()).fire(any());
+        verify(entityPostPersistEvent, never()).fire(any());
+    }
+
+    static class EventPersistManager extends AbstractEventPersistManager {
+    }
+}
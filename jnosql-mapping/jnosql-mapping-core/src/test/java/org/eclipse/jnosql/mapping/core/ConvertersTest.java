@@ -78,6 +78,42 @@ class ConvertersTest {
         Assertions.assertEquals("Text", text);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldResolveConverterOnce() {
+        FieldMetadata fieldMetadata = Mockito.mock(FieldMetadata.class);
+        Optional<?> converter = Optional.of(VetedConverter.class);
+
+        Mockito.when(fieldMetadata.converter())
+                .thenReturn((Optional<Class<AttributeConverter<Object, Object>>>) converter);
+        Mockito.when(fieldMetadata.newConverter())
+                .thenAnswer(i -> Optional.of(new VetedConverter()));
+
+        AttributeConverter<String, String> first = converters.get(fieldMetadata);
+        AttributeConverter<String, String> second = converters.get(fieldMetadata);
+
+        assertThat(first).isSameAs(second);
+        Mockito.verify(fieldMetadata, Mockito.times(1)).newConverter();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldResolveConverterAgainAfterRelease() {
+        FieldMetadata fieldMetadata = Mockito.mock(FieldMetadata.class);
+        Optional<?> converter = Optional.of(VetedConverter.class);
+
+        Mockito.when(fieldMetadata.converter())
+                .thenReturn((Optional<Class<AttributeConverter<Object, Object>>>) converter);
+        Mockito.when(fieldMetadata.newConverter())
+                .thenAnswer(i -> Optional.of(new VetedConverter()));
+
+        AttributeConverter<String, String> first = converters.get(fieldMetadata);
+        converters.release();
+        AttributeConverter<String, String> second = converters.get(fieldMetadata);
+
+        assertThat(first).isNotSameAs(second);
+    }
+
     @Test
     void shouldGetToString(){
         assertThat(this.converters.toString()).isNotNull().isNotBlank().isNotEmpty();
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.mapping.core;
 
+import jakarta.data.Sort;
 import jakarta.data.page.Page;
 import jakarta.data.page.Pageable;
 import org.eclipse.jnosql.mapping.core.entities.Person;
@@ -21,6 +22,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -94,6 +97,71 @@ class NoSQLPageTest {
         assertEquals(Pageable.ofPage(3), pageable);
     }
 
+    @Test
+    void shouldReturnNextPageableWhenThereIsMoreElements() {
+        Pageable pageable = Pageable.ofPage(1).size(2);
+        Page<String> page = NoSQLPage.of(List.of("a", "b", "c"), pageable, () -> 3L, e -> new Object[]{e});
+
+        assertThat(page.content()).containsExactly("a", "b");
+        assertEquals(Pageable.ofPage(2).size(2), page.nextPageable());
+    }
+
+    @Test
+    void shouldReturnNullNextPageableAtTheLastPage() {
+        Page<String> page = NoSQLPage.of(List.of("a", "b"), Pageable.ofPage(1).size(2), () -> 2L,
+                e -> new Object[]{e});
+
+        assertThat(page.content()).containsExactly("a", "b");
+        Assertions.assertNull(page.nextPageable());
+    }
+
+    @Test
+    void shouldCountOnce() {
+        AtomicInteger counter = new AtomicInteger();
+        Page<String> page = NoSQLPage.of(List.of("a", "b", "c"), Pageable.ofPage(1).size(2), () -> {
+            counter.incrementAndGet();
+            return 5L;
+        }, e -> new Object[]{e});
+
+        assertEquals(0, counter.get());
+        assertEquals(5L, page.totalElements());
+        assertEquals(3L, page.totalPages());
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    void shouldReturnNextPageableAfterKeyset() {
+        Pageable pageable = Pageable.ofSize(2).afterKeyset("a");
+        Page<String> page = NoSQLPage.of(List.of("b", "c", "d"), pageable, () -> 4L, e -> new Object[]{e});
+
+        assertThat(page.content()).containsExactly("b", "c");
+        assertEquals(Pageable.ofSize(2).afterKeyset("c"), page.nextPageable());
+    }
+
+    @Test
+    void shouldReverseBeforeKeyset() {
+        Pageable pageable = Pageable.ofSize(2).beforeKeyset("d");
+        Page<String> page = NoSQLPage.of(List.of("c", "b", "a"), pageable, () -> 4L, e -> new Object[]{e});
+
+        assertThat(page.content()).containsExactly("b", "c");
+        assertEquals(Pageable.ofSize(2).afterKeyset("c"), page.nextPageable());
+    }
+
+    @Test
+    void shouldReverseSortsBeforeKeyset() {
+        List<Sort> sorts = List.of(Sort.asc("name"), Sort.desc("age"));
+
+        assertThat(NoSQLPage.sorts(Pageable.ofSize(2).afterKeyset("a", 1), sorts)).isEqualTo(sorts);
+        assertThat(NoSQLPage.sorts(Pageable.ofSize(2).beforeKeyset("a", 1), sorts))
+                .containsExactly(Sort.desc("name"), Sort.asc("age"));
+    }
+
+    @Test
+    void shouldCheckCursor() {
+        Assertions.assertFalse(NoSQLPage.isCursor(Pageable.ofPage(2)));
+        Assertions.assertTrue(NoSQLPage.isCursor(Pageable.ofSize(2).afterKeyset("a")));
+    }
+
     @Test
     void shouldThrowNullPointerExceptionWhenPageableIsNull() {
         assertThrows(NullPointerException.class, () -> NoSQLPage.skip(null));
@@ -69,4 +69,16 @@ class MappingConfigurationsTest {
         String expectedValue = "jnosql.graph.transaction.automatic";
         assertEquals(expectedValue, MappingConfigurations.GRAPH_TRANSACTION_AUTOMATIC.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnValueForGraphTransactionBatchSize() {
+        String expectedValue = "jnosql.graph.transaction.batch.size";
+        assertEquals(expectedValue, MappingConfigurations.GRAPH_TRANSACTION_BATCH_SIZE.get());
+    }
+
+    @Test
+    void shouldReturnValueForGraphGremlinCacheSize() {
+        String expectedValue = "jnosql.graph.gremlin.cache.size";
+        assertEquals(expectedValue, MappingConfigurations.GRAPH_GREMLIN_CACHE_SIZE.get());
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.query;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.data.repository.CrudRepository;
+import jakarta.data.repository.OrderBy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.UnsatisfiedResolutionException;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.CDI;
+import org.eclipse.jnosql.mapping.core.entities.Person;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AbstractRepositoryProxyTest {
+
+    private AbstractRepository<Person, Long> repository;
+
+    private PersonRepositoryProxy handler;
+
+    private PersonRepository personRepository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        this.repository = Mockito.mock(AbstractRepository.class);
+        this.handler = new PersonRepositoryProxy();
+        this.personRepository = (PersonRepository) Proxy.newProxyInstance(PersonRepository.class.getClassLoader(),
+                new Class[]{PersonRepository.class}, handler);
+    }
+
+    @Test
+    void shouldInvokeRepositoryMethod() {
+        Person person = Person.builder().withId(1L).withName("Ada").build();
+        Mockito.when(repository.insert(person)).thenReturn(person);
+
+        assertThat(personRepository.insert(person)).isEqualTo(person);
+        assertThat(personRepository.insert(person)).isEqualTo(person);
+        Mockito.verify(repository, Mockito.times(2)).insert(person);
+    }
+
+    @Test
+    void shouldInvokeRepositoryMethodWithoutParameters() {
+        Mockito.when(repository.count()).thenReturn(10L);
+        assertThat(personRepository.count()).isEqualTo(10L);
+    }
+
+    @Test
+    void shouldThrowOriginalExceptionFromRepositoryMethod() {
+        Mockito.when(repository.findById(1L)).thenThrow(new IllegalStateException("error"));
+        assertThatThrownBy(() -> personRepository.findById(1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("error");
+    }
+
+    @Test
+    void shouldExecuteFindByQuery() {
+        personRepository.findByName("Ada");
+        personRepository.findByName("Poliana");
+
+        assertThat(handler.calls).containsExactly("findByName", "findByName");
+    }
+
+    @Test
+    void shouldExecuteParameterBased() {
+        personRepository.name("Ada");
+        assertThat(handler.calls).containsExactly("name");
+    }
+
+    @Test
+    void shouldInvokeDefaultMethod() {
+        assertThat(personRepository.defaultName()).isEqualTo("default");
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsOrderBy() {
+        assertThatThrownBy(() -> personRepository.findByAge(10))
+                .isInstanceOf(MappingException.class);
+        assertThatThrownBy(() -> personRepository.findByAge(10))
+                .isInstanceOf(MappingException.class);
+    }
+
+    @Test
+    void shouldInvokeObjectMethod() {
+        assertThat(personRepository.toString()).isEqualTo(handler.toString());
+        assertThat(personRepository.hashCode()).isEqualTo(handler.hashCode());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldResolveCustomRepositoryOnce() {
+        try (MockedStatic<CDI> cdi = Mockito.mockStatic(CDI.class)) {
+            Instance<Calculate> instance = customRepository(cdi, ApplicationScoped.class);
+
+            assertThat(personRepository.sum(1, 2)).isEqualTo(3);
+            assertThat(personRepository.sum(2, 2)).isEqualTo(4);
+            Mockito.verify(instance, Mockito.times(1)).getHandle();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCreateDependentCustomRepositoryPerInvocation() {
+        try (MockedStatic<CDI> cdi = Mockito.mockStatic(CDI.class)) {
+            Instance<Calculate> instance = customRepository(cdi, Dependent.class);
+
+            assertThat(personRepository.sum(1, 2)).isEqualTo(3);
+            assertThat(personRepository.sum(2, 2)).isEqualTo(4);
+            Mockito.verify(instance, Mockito.times(2)).getHandle();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldKeepCustomRepositoryErrorAtTheMethod() {
+        try (MockedStatic<CDI> cdi = Mockito.mockStatic(CDI.class)) {
+            CDI<Object> current = Mockito.mock(CDI.class);
+            Instance<Calculate> instance = Mockito.mock(Instance.class);
+            Mockito.when(instance.isResolvable()).thenReturn(true);
+            Mockito.when(instance.getHandle()).thenThrow(new UnsatisfiedResolutionException("error"));
+            cdi.when(CDI::current).thenReturn(current);
+            Mockito.when(current.select(Calculate.class)).thenReturn(instance);
+
+            assertThatThrownBy(() -> personRepository.sum(1, 2))
+                    .isInstanceOf(UnsatisfiedResolutionException.class);
+            assertThat(personRepository.toString()).isEqualTo(handler.toString());
+            personRepository.findByName("Ada");
+            assertThat(handler.calls).containsExactly("findByName");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Instance<Calculate> customRepository(MockedStatic<CDI> cdi, Class<?> scope) {
+        CDI<Object> current = Mockito.mock(CDI.class);
+        Instance<Calculate> instance = Mockito.mock(Instance.class);
+        Instance.Handle<Calculate> handle = Mockito.mock(Instance.Handle.class);
+        Bean<Calculate> bean = Mockito.mock(Bean.class);
+        Mockito.when(instance.isResolvable()).thenReturn(true);
+        Mockito.when(instance.getHandle()).thenReturn(handle);
+        Mockito.when(handle.get()).thenReturn(Integer::sum);
+        Mockito.when(handle.getBean()).thenReturn(bean);
+        Mockito.when(bean.getScope()).thenReturn((Class) scope);
+        cdi.when(CDI::current).thenReturn(current);
+        Mockito.when(current.select(Calculate.class)).thenReturn(instance);
+        return instance;
+    }
+
+    interface Calculate {
+
+        int sum(int a, int b);
+    }
+
+    interface PersonRepository extends CrudRepository<Person, Long>, Calculate {
+
+        List<Person> findByName(String name);
+
+        @OrderBy("name")
+        List<Person> findByAge(Integer age);
+
+        Optional<Person> name(String name);
+
+        default String defaultName() {
+            return "default";
+        }
+    }
+
+    class PersonRepositoryProxy extends AbstractRepositoryProxy<Person, Long> {
+
+        private final List<String> calls = new ArrayList<>();
+
+        @Override
+        protected AbstractRepository<Person, Long> repository() {
+            return repository;
+        }
+
+        @Override
+        protected Class<?> repositoryType() {
+            return PersonRepository.class;
+        }
+
+        @Override
+        protected EntityMetadata entityMetadata() {
+            return null;
+        }
+
+        @Override
+        protected Object executeQuery(Object instance, Method method, Object[] params) {
+            return call(method);
+        }
+
+        @Override
+        protected Object executeDeleteByAll(Object instance, Method method, Object[] params) {
+            return call(method);
+        }
+
+        @Override
+        protected Object executeFindAll(Object instance, Method method, Object[] params) {
+            return call(method);
+        }
+
+        @Override
+        protected Object executeExistByQuery(Object instance, Method method, Object[] params) {
+            return call(method);
+        }
+
+        @Override
+        protected Object executeCountByQuery(Object instance, Method method, Object[] params) {
+            return call(method);
+        }
+
+        @Override
+        protected Object executeFindByQuery(Object instance, Method method, Object[] params) {
+            call(method);
+            return List.of();
+        }
+
+        @Override
+        protected Object executeParameterBased(Object instance, Method method, Object[] params) {
+            call(method);
+            return Optional.empty();
+        }
+
+        private Object call(Method method) {
+            calls.add(method.getName());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.util;
+
+import jakarta.data.repository.CrudRepository;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.ParamSlots;
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.mapping.DynamicQueryException;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.VetedConverter;
+import org.eclipse.jnosql.mapping.core.entities.Money;
+import org.eclipse.jnosql.mapping.core.entities.Person;
+import org.eclipse.jnosql.mapping.core.entities.Worker;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+@EnableAutoWeld
+@AddPackages(value = Converters.class)
+@AddPackages(value = VetedConverter.class)
+@AddPackages(value = Reflections.class)
+@AddExtensions(EntityMetadataExtension.class)
+class ParamSlotsBinderTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    @Test
+    void shouldReturnNPEWhenThereIsNullParameter() throws NoSuchMethodException {
+        Method method = PersonRepository.class.getMethod("findByName", String.class);
+        ParamSlots slots = Params.newParams().slots();
+        Assertions.assertThrows(NullPointerException.class, () ->
+                ParamSlotsBinder.of(null, entities.get(Person.class), converters, method));
+        Assertions.assertThrows(NullPointerException.class, () ->
+                ParamSlotsBinder.of(slots, null, converters, method));
+        Assertions.assertThrows(NullPointerException.class, () ->
+                ParamSlotsBinder.of(slots, entities.get(Person.class), null, method));
+        Assertions.assertThrows(NullPointerException.class, () ->
+                ParamSlotsBinder.of(slots, entities.get(Person.class), converters, null));
+        ParamSlotsBinder binder = ParamSlotsBinder.of(slots, entities.get(Person.class), converters, method);
+        Assertions.assertThrows(NullPointerException.class, () -> binder.bind(null));
+    }
+
+    @Test
+    void shouldReturnErrorWhenParamsIsBiggerThanArgs() throws NoSuchMethodException {
+        Method method = PersonRepository.class.getMethod("findByName", String.class);
+        Params params = Params.newParams();
+        params.add("name");
+        params.add("age");
+        ParamSlotsBinder binder = ParamSlotsBinder.of(params.slots(), entities.get(Person.class), converters, method);
+        Assertions.assertThrows(DynamicQueryException.class, () -> binder.bind(new Object[]{"otavio"}));
+    }
+
+    @Test
+    void shouldBindBySlot() throws NoSuchMethodException {
+        Method method = PersonRepository.class.getMethod("findByNameAndAge", String.class, Long.class);
+        Params params = Params.newParams();
+        params.add("name_1212");
+        params.add("age");
+        ParamSlotsBinder binder = ParamSlotsBinder.of(params.slots(), entities.get(Person.class), converters, method);
+
+        Object[] values = binder.bind(new Object[]{"otavio", 10L});
+        Assertions.assertArrayEquals(new Object[]{"otavio", 10}, values);
+    }
+
+    @Test
+    void shouldBindEachInvocationInANewArray() throws NoSuchMethodException {
+        Method method = PersonRepository.class.getMethod("findByName", String.class);
+        Params params = Params.newParams();
+        params.add("name");
+        ParamSlotsBinder binder = ParamSlotsBinder.of(params.slots(), entities.get(Person.class), converters, method);
+
+        Object[] otavio = binder.bind(new Object[]{"otavio"});
+        Object[] poliana = binder.bind(new Object[]{"poliana"});
+        Assertions.assertArrayEquals(new Object[]{"otavio"}, otavio);
+        Assertions.assertArrayEquals(new Object[]{"poliana"}, poliana);
+    }
+
+    @Test
+    void shouldKeepValueWhenThereIsNoField() throws NoSuchMethodException {
+        Method method = PersonRepository.class.getMethod("findByName", String.class);
+        Params params = Params.newParams();
+        params.add("nickname");
+        ParamSlotsBinder binder = ParamSlotsBinder.of(params.slots(), entities.get(Person.class), converters, method);
+
+        Object[] values = binder.bind(new Object[]{10L});
+        Assertions.assertArrayEquals(new Object[]{10L}, values);
+    }
+
+    @Test
+    void shouldConvertIterable() throws NoSuchMethodException {
+        Method method = PersonRepository.class.getMethod("findByAgeIn", Iterable.class);
+        Params params = Params.newParams();
+        params.add("age");
+        ParamSlotsBinder binder = ParamSlotsBinder.of(params.slots(), entities.get(Person.class), converters, method);
+
+        Object[] values = binder.bind(new Object[]{Arrays.asList(1L, 2L)});
+        Assertions.assertEquals(Arrays.asList(1, 2), values[0]);
+    }
+
+    @Test
+    void shouldUseAttributeConverter() throws NoSuchMethodException {
+        Method method = WorkerRepository.class.getMethod("findBySalary", Money.class);
+        Params params = Params.newParams();
+        params.add("salary");
+        ParamSlotsBinder binder = ParamSlotsBinder.of(params.slots(), entities.get(Worker.class), converters, method);
+
+        Object[] values = binder.bind(new Object[]{new Money("USD", BigDecimal.TEN)});
+        Assertions.assertArrayEquals(new Object[]{"USD 10"}, values);
+    }
+
+    @Test
+    void shouldUseAttributeConverterOnIterable() throws NoSuchMethodException {
+        Method method = WorkerRepository.class.getMethod("findBySalaryIn", List.class);
+        Params params = Params.newParams();
+        params.add("salary");
+        ParamSlotsBinder binder = ParamSlotsBinder.of(params.slots(), entities.get(Worker.class), converters, method);
+
+        Object[] values = binder.bind(new Object[]{List.of(new Money("USD", BigDecimal.TEN),
+                new Money("BRL", BigDecimal.ONE))});
+        Assertions.assertEquals(List.of("USD 10", "BRL 1"), values[0]);
+    }
+
+    interface PersonRepository extends CrudRepository<Person, Long> {
+
+        List<Person> findByName(String name);
+
+        List<Person> findByNameAndAge(String name, Long age);
+
+        List<Person> findByAgeIn(Iterable<Long> age);
+    }
+
+    interface WorkerRepository extends CrudRepository<Worker, String> {
+
+        List<Worker> findBySalary(Money salary);
+
+        List<Worker> findBySalaryIn(List<Money> salaries);
+    }
+
+}
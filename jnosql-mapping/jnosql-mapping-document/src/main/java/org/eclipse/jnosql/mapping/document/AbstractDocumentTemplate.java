@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.document;
 
 
+import jakarta.data.exceptions.MappingException;
 import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.nosql.PreparedStatement;
 import jakarta.nosql.QueryMapper;
@@ -25,6 +26,8 @@ import org.eclipse.jnosql.communication.document.DocumentObserverParser;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
 import org.eclipse.jnosql.communication.document.DocumentQueryParser;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
@@ -32,17 +35,18 @@ import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.core.util.ConverterUtil;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.DOCUMENT_BATCH_SIZE;
 
 /**
  * This class provides a skeletal implementation of the {@link JNoSQLDocumentTemplate} interface,
@@ -91,18 +95,15 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
-        requireNonNull(entities, "entity is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        requireNonNull(entities, "entities is required");
+        return persistAll(entities, e -> getManager().insert(e));
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
         requireNonNull(entities, "entities is required");
         requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(e -> insert(e, ttl))
-                .collect(Collectors.toList());
+        return persistAll(entities, e -> getManager().insert(e, ttl));
     }
 
     @Override
@@ -113,9 +114,8 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
 
     @Override
     public <T> Iterable<T> update(Iterable<T> entities) {
-        requireNonNull(entities, "entity is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        requireNonNull(entities, "entities is required");
+        return persistAll(entities, e -> getManager().update(e));
     }
 
     @Override
@@ -272,6 +272,58 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
                 .orElseThrow();
     }
 
+    /**
+     * Persists the entities in bulk: it fires the pre-persist events of each batch and converts the entities,
+     * then it sends them to the {@link DocumentManager} in batches of {@link #batchSize()} entities,
+     * and finally it merges the result back into the entities in the same order.
+     * The manager must return one entity per entity sent, otherwise, it throws a {@link MappingException}.
+     *
+     * @param entities      the entities
+     * @param persistAction the bulk operation of the {@link DocumentManager}
+     * @param <T>           the entity type
+     * @return the entities persisted
+     */
+    protected <T> Iterable<T> persistAll(Iterable<T> entities, UnaryOperator<Iterable<DocumentEntity>> persistAction) {
+        List<T> values = new ArrayList<>();
+        entities.forEach(values::add);
+        List<T> result = new ArrayList<>(values.size());
+        int batchSize = batchSize();
+        for (int start = 0; start < values.size(); start += batchSize) {
+            List<T> batch = values.subList(start, Math.min(values.size(), start + batchSize));
+            List<DocumentEntity> documents = new ArrayList<>(batch.size());
+            getEventManager().firePreEntities(batch);
+            for (T entity : batch) {
+                documents.add(getConverter().toDocument(entity));
+            }
+            List<DocumentEntity> persisted = new ArrayList<>(batch.size());
+            Optional.ofNullable(persistAction.apply(documents)).ifPresent(e -> e.forEach(persisted::add));
+            if (persisted.size() != batch.size()) {
+                throw new MappingException("The DocumentManager returned " + persisted.size()
+                        + " entities to a batch of " + batch.size() + " entities");
+            }
+            List<T> persistedEntities = new ArrayList<>(batch.size());
+            for (int index = 0; index < batch.size(); index++) {
+                T entity = getConverter().toEntity(batch.get(index), persisted.get(index));
+                persistedEntities.add(entity);
+            }
+            getEventManager().firePostEntities(persistedEntities);
+            result.addAll(persistedEntities);
+        }
+        return result;
+    }
+
+    /**
+     * The number of entities sent at once to the {@link DocumentManager} at {@link #persistAll(Iterable, UnaryOperator)},
+     * it uses the {@link MappingConfigurations#DOCUMENT_BATCH_SIZE} property, by default, all the entities.
+     *
+     * @return the batch size
+     */
+    protected int batchSize() {
+        return MicroProfileSettings.INSTANCE.get(DOCUMENT_BATCH_SIZE, Integer.class)
+                .filter(size -> size > 0)
+                .orElse(Integer.MAX_VALUE);
+    }
+
     private <T> UnaryOperator<T> toUnary(Consumer<T> consumer) {
         return t -> {
             consumer.accept(t);
@@ -16,6 +16,7 @@ package org.eclipse.jnosql.mapping.document;
 
 import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentCondition;
+import org.eclipse.jnosql.communication.document.DocumentConditionBuilder;
 
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
@@ -25,7 +26,6 @@ import java.util.List;
 import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
-import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
@@ -35,7 +35,7 @@ abstract class AbstractMapperQuery {
 
     protected boolean negate;
 
-    protected DocumentCondition condition;
+    protected final DocumentConditionBuilder conditions = DocumentCondition.builder();
 
     protected boolean and;
 
@@ -62,10 +62,10 @@ abstract class AbstractMapperQuery {
     protected void appendCondition(DocumentCondition incomingCondition) {
         DocumentCondition documentCondition = getDocumentCondition(incomingCondition);
 
-        if (nonNull(condition)) {
-            this.condition = and ? condition.and(documentCondition) : condition.or(documentCondition);
+        if (and) {
+            this.conditions.and(documentCondition);
         } else {
-            this.condition = documentCondition;
+            this.conditions.or(documentCondition);
         }
 
         this.negate = false;
@@ -24,18 +24,15 @@ import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
-import org.eclipse.jnosql.mapping.metadata.MappingType;
 import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 
 import static java.util.Objects.requireNonNull;
-import static org.eclipse.jnosql.mapping.metadata.MappingType.EMBEDDED;
 import static org.eclipse.jnosql.mapping.metadata.MappingType.ENTITY;
 
 /**
@@ -43,6 +40,8 @@ import static org.eclipse.jnosql.mapping.metadata.MappingType.ENTITY;
  */
 public abstract class DocumentEntityConverter {
 
+    private final Map<Class<?>, DocumentReadPlan> plans = new ConcurrentHashMap<>();
+
     protected abstract EntitiesMetadata getEntities();
 
     protected abstract Converters getConverters();
@@ -81,7 +80,7 @@ public abstract class DocumentEntityConverter {
     public <T> T toEntity(Class<T> type, DocumentEntity entity) {
         requireNonNull(entity, "entity is required");
         requireNonNull(type, "type is required");
-        return toEntity(type, entity.documents());
+        return toEntity(type, DocumentSource.of(entity));
 
     }
 
@@ -100,10 +99,10 @@ public abstract class DocumentEntityConverter {
         requireNonNull(type, "type is required");
 
         if (type.getClass().isRecord()) {
-            return (T) toEntity(type.getClass(), entity.documents());
+            return (T) toEntity(type.getClass(), DocumentSource.of(entity));
         }
         EntityMetadata mapping = getEntities().get(type.getClass());
-        return convertEntity(entity.documents(), mapping, type);
+        return convertEntity(DocumentSource.of(entity), mapping, type);
     }
 
     /**
@@ -121,31 +120,35 @@ public abstract class DocumentEntityConverter {
         if (mapping.isInheritance()) {
             return mapInheritanceEntity(entity, mapping.type());
         }
-        ConstructorMetadata constructor = mapping.constructor();
-        if (constructor.isDefault()) {
-            T instance = mapping.newInstance();
-            return convertEntity(entity.documents(), mapping, instance);
-        } else {
-            return convertEntityByConstructor(entity.documents(), mapping);
-        }
+        return convertEntity(DocumentSource.of(entity), mapping);
     }
 
     protected <T> T toEntity(Class<T> type, List<Document> documents) {
+        return toEntity(type, DocumentSource.of(documents));
+    }
+
+    private <T> T toEntity(Class<T> type, DocumentSource source) {
         EntityMetadata mapping = getEntities().get(type);
         if (mapping.isInheritance()) {
-            return inheritanceToEntity(documents, mapping);
-
-        }
-        ConstructorMetadata constructor = mapping.constructor();
-        if (constructor.isDefault()) {
-            T instance = mapping.newInstance();
-            return convertEntity(documents, mapping, instance);
-        } else {
-            return convertEntityByConstructor(documents, mapping);
+            return inheritanceToEntity(source, mapping);
         }
+        return convertEntity(source, mapping);
     }
 
 
+    /**
+     * Converts the document of the field name into the entity field.
+     *
+     * @param entity            the entity instance
+     * @param documents         the documents
+     * @param fieldsGroupByName the fields grouped by document name
+     * @param <T>               the entity type
+     * @return the consumer that receives the document name
+     * @deprecated the conversion reads the fields through the DocumentReadPlan of each entity, which finds the
+     * document by name instead of scanning the documents per field, so this method is no longer called by the
+     * converter and will be removed in a future version.
+     */
+    @Deprecated(since = "1.0.5", forRemoval = true)
     protected <T> Consumer<String> feedObject(T entity, List<Document> documents, Map<String, FieldMetadata> fieldsGroupByName) {
         return k -> {
             Optional<Document> document = documents.stream().filter(c -> c.name().equals(k)).findFirst();
@@ -160,16 +163,26 @@ public abstract class DocumentEntityConverter {
         };
     }
 
-    private <T> T convertEntityByConstructor(List<Document> documents, EntityMetadata mapping) {
+    private <T> T convertEntity(DocumentSource source, EntityMetadata mapping) {
+        ConstructorMetadata constructor = mapping.constructor();
+        if (constructor.isDefault()) {
+            T instance = mapping.newInstance();
+            return convertEntity(source, mapping, instance);
+        } else {
+            return convertEntityByConstructor(source, mapping);
+        }
+    }
+
+    private <T> T convertEntityByConstructor(DocumentSource source, EntityMetadata mapping) {
         ConstructorBuilder builder = ConstructorBuilder.of(mapping.constructor());
         for (ParameterMetaData parameter : builder.parameters()) {
-            Optional<Document> document = documents.stream()
-                    .filter(c -> c.name().equals(parameter.name()))
-                    .findFirst();
-            document.ifPresentOrElse(c -> {
+            Document document = source.find(parameter.name());
+            if (document == null) {
+                builder.addEmptyParameter();
+            } else {
                 ParameterConverter converter = ParameterConverter.of(parameter, getEntities());
-                converter.convert(this, c, parameter, builder);
-            }, builder::addEmptyParameter);
+                converter.convert(this, document, parameter, builder);
+            }
         }
         return builder.build();
     }
@@ -198,32 +211,15 @@ public abstract class DocumentEntityConverter {
                         " column value " + discriminator));
 
         EntityMetadata mapping = getEntities().get(inheritance.entity());
-        ConstructorMetadata constructor = mapping.constructor();
-        if (constructor.isDefault()) {
-            T instance = mapping.newInstance();
-            return convertEntity(entity.documents(), mapping, instance);
-        } else {
-            return convertEntityByConstructor(entity.documents(), mapping);
-        }
+        return convertEntity(DocumentSource.of(entity), mapping);
     }
 
-    private <T> T convertEntity(List<Document> documents, EntityMetadata mapping, T instance) {
-        final Map<String, FieldMetadata> fieldsGroupByName = mapping.fieldsGroupByName();
-        final List<String> names = documents.stream().map(Document::name).sorted().toList();
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            MappingType type = fieldsGroupByName.get(k).mappingType();
-            return EMBEDDED.equals(type) || ENTITY.equals(type);
-        };
-
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, documents, fieldsGroupByName));
-
-        return instance;
+    private <T> T convertEntity(DocumentSource source, EntityMetadata mapping, T instance) {
+        DocumentReadPlan plan = plans.computeIfAbsent(mapping.type(), k -> DocumentReadPlan.of(mapping));
+        return plan.read(instance, source, this);
     }
 
-    private <T> T inheritanceToEntity(List<Document> documents, EntityMetadata mapping) {
+    private <T> T inheritanceToEntity(DocumentSource source, EntityMetadata mapping) {
         Map<String, InheritanceMetadata> group = getEntities()
                 .findByParentGroupByDiscriminatorValue(mapping.type());
 
@@ -238,9 +234,7 @@ public abstract class DocumentEntityConverter {
                 .map(InheritanceMetadata::discriminatorColumn)
                 .orElseThrow();
 
-        String discriminator = documents.stream()
-                .filter(d -> d.name().equals(column))
-                .findFirst()
+        String discriminator = Optional.ofNullable(source.find(column))
                 .map(d -> d.get(String.class))
                 .orElseThrow(
                         () -> new MappingException("To inheritance there is the discriminator column missing" +
@@ -252,7 +246,7 @@ public abstract class DocumentEntityConverter {
 
         EntityMetadata inheritanceMetadata = getEntities().get(inheritance.entity());
         T instance = inheritanceMetadata.newInstance();
-        return convertEntity(documents, inheritanceMetadata, instance);
+        return convertEntity(source, inheritanceMetadata, instance);
     }
 
     private DocumentFieldValue to(FieldMetadata field, Object entityInstance) {
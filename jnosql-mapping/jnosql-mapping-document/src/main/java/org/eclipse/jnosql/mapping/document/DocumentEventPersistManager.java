@@ -16,45 +16,13 @@ package org.eclipse.jnosql.mapping.document;
 
 
 import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.enterprise.event.Event;
-import jakarta.inject.Inject;
-import org.eclipse.jnosql.communication.document.DocumentEntity;
-import org.eclipse.jnosql.mapping.EntityPostPersist;
-import org.eclipse.jnosql.mapping.EntityPrePersist;
+import org.eclipse.jnosql.mapping.core.AbstractEventPersistManager;
 
 /**
- * The default implementation of {@link DocumentEventPersistManager}
+ * The manager of events of the {@link AbstractDocumentTemplate}.
+ *
+ * @see AbstractEventPersistManager
  */
 @ApplicationScoped
-public class DocumentEventPersistManager {
-
-    @Inject
-    private Event<EntityPrePersist> entityPrePersistEvent;
-
-    @Inject
-    private Event<EntityPostPersist> entityPostPersistEvent;
-
-
-    /**
-     * Fire an event after convert the {@link DocumentEntity},
-     * from database response, to Entity.
-     *
-     * @param entity the entity
-     * @param <T>    the entity kind
-     */
-    public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
-    }
-
-    /**
-     * Fire an event after convert the {@link DocumentEntity},
-     * from database response, to Entity.
-     *
-     * @param entity the entity
-     * @param <T>    the entity kind
-     */
-    public <T> void firePostEntity(T entity) {
-        entityPostPersistEvent.fire(EntityPostPersist.of(entity));
-    }
-
+public class DocumentEventPersistManager extends AbstractEventPersistManager {
 }
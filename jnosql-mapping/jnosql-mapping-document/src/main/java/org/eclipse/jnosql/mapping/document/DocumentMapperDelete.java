@@ -113,7 +113,7 @@ final class DocumentMapperDelete extends AbstractMapperQuery implements MapperDe
 
 
     private DocumentDeleteQuery build() {
-        return new MappingDocumentDeleteQuery(documentCollection, condition);
+        return new MappingDocumentDeleteQuery(documentCollection, conditions.build().orElse(null));
     }
 
 
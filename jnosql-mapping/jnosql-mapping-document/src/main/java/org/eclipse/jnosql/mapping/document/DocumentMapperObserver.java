@@ -15,17 +15,20 @@
 package org.eclipse.jnosql.mapping.document;
 
 import org.eclipse.jnosql.communication.document.DocumentObserverParser;
-import org.eclipse.jnosql.mapping.metadata.ClassInformationNotFoundException;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 final class DocumentMapperObserver  implements DocumentObserverParser {
 
 
     private final EntitiesMetadata mappings;
 
+    private final Map<String, Map<String, String>> fields = new ConcurrentHashMap<>();
+
     DocumentMapperObserver(EntitiesMetadata mappings) {
         this.mappings = mappings;
     }
@@ -40,16 +43,12 @@ final class DocumentMapperObserver  implements DocumentObserverParser {
     @Override
     public String fireField(String entity, String field) {
         Optional<EntityMetadata> mapping = getEntityMetadata(entity);
-        return mapping.map(c -> c.columnField(field)).orElse(field);
+        return mapping.map(c -> fields.computeIfAbsent(entity, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(field, c::columnField)).orElse(field);
     }
 
     private Optional<EntityMetadata> getEntityMetadata(String entity) {
-        try {
-            return Optional.of(this.mappings.findByName(entity));
-        } catch (ClassInformationNotFoundException e) {
-            return this.mappings.findBySimpleName(entity)
-                    .or(() -> this.mappings.findByClassName(entity));
-        }
+        return this.mappings.findByAnyName(entity);
     }
 
 }
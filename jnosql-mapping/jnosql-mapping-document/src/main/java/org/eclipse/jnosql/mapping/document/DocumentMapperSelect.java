@@ -158,7 +158,7 @@ final class DocumentMapperSelect extends AbstractMapperQuery implements MapperFr
     }
 
     private DocumentQuery build() {
-        return new MappingDocumentQuery(sorts, limit, start, condition, documentCollection);
+        return new MappingDocumentQuery(sorts, limit, start, conditions.build().orElse(null), documentCollection);
     }
 
     @Override
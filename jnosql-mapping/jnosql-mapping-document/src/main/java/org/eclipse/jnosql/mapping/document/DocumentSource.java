@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.document;
+
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The documents to be converted to an entity, where each document is found by name with a hash lookup.
+ * When it comes from a {@link DocumentEntity}, it uses the entity itself instead of copying the documents.
+ */
+abstract class DocumentSource {
+
+    /**
+     * Finds the document by name
+     *
+     * @param name the document name
+     * @return the document or null when there is no document with this name
+     */
+    abstract Document find(String name);
+
+    /**
+     * @return all the documents
+     */
+    abstract List<Document> documents();
+
+    static DocumentSource of(DocumentEntity entity) {
+        return new EntitySource(entity);
+    }
+
+    static DocumentSource of(List<Document> documents) {
+        return new ListSource(documents);
+    }
+
+    private static final class EntitySource extends DocumentSource {
+
+        private final DocumentEntity entity;
+
+        private List<Document> documents;
+
+        private EntitySource(DocumentEntity entity) {
+            this.entity = entity;
+        }
+
+        @Override
+        Document find(String name) {
+            return entity.find(name).orElse(null);
+        }
+
+        @Override
+        List<Document> documents() {
+            if (documents == null) {
+                documents = entity.documents();
+            }
+            return documents;
+        }
+    }
+
+    private static final class ListSource extends DocumentSource {
+
+        private final List<Document> documents;
+
+        private final Map<String, Document> index;
+
+        private ListSource(List<Document> documents) {
+            this.documents = documents;
+            this.index = new HashMap<>(documents.size() * 2);
+            for (Document document : documents) {
+                index.putIfAbsent(document.name(), document);
+            }
+        }
+
+        @Override
+        Document find(String name) {
+            return index.get(name);
+        }
+
+        @Override
+        List<Document> documents() {
+            return documents;
+        }
+    }
+}
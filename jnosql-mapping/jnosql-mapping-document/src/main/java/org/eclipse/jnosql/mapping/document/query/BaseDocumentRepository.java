@@ -18,11 +18,11 @@ import jakarta.data.Limit;
 import jakarta.data.page.Page;
 import jakarta.data.page.Pageable;
 import jakarta.data.Sort;
-import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.document.DeleteQueryParser;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQueryParams;
 import org.eclipse.jnosql.communication.document.DocumentObserverParser;
+import org.eclipse.jnosql.communication.document.DocumentParamsResolver;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
 import org.eclipse.jnosql.communication.document.DocumentQueryParams;
 import org.eclipse.jnosql.communication.document.SelectQueryParser;
@@ -38,13 +38,17 @@ import org.eclipse.jnosql.mapping.document.MappingDocumentQuery;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.core.repository.DynamicReturn;
 import org.eclipse.jnosql.mapping.core.repository.SpecialParameters;
+import org.eclipse.jnosql.mapping.core.util.ParamSlotsBinder;
 import org.eclipse.jnosql.mapping.core.util.ParamsBinder;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -66,26 +70,39 @@ public abstract class BaseDocumentRepository<T, K> extends AbstractRepositoryPro
 
     private ParamsBinder paramsBinder;
 
+    private final Map<Method, MethodQuery<DocumentQuery>> selectQueries = new ConcurrentHashMap<>();
+
+    private final Map<Method, MethodQuery<DocumentDeleteQuery>> deleteQueries = new ConcurrentHashMap<>();
+
 
     protected DocumentQuery query(Method method, Object[] args) {
-        SelectMethodProvider provider = SelectMethodProvider.INSTANCE;
-        SelectQuery selectQuery = provider.apply(method, entityMetadata().name());
-        DocumentQueryParams queryParams = SELECT_PARSER.apply(selectQuery, parser());
-        DocumentQuery query = queryParams.query();
-        Params params = queryParams.params();
-        paramsBinder().bind(params, args(args), method);
+        MethodQuery<DocumentQuery> template = selectQueries.computeIfAbsent(method, this::selectQuery);
+        DocumentQuery query = template.resolve(args(args));
         return updateQueryDynamically(args(args), query);
     }
 
 
     protected DocumentDeleteQuery deleteQuery(Method method, Object[] args) {
+        MethodQuery<DocumentDeleteQuery> template = deleteQueries.computeIfAbsent(method, this::deleteQuery);
+        return template.resolve(args(args));
+    }
+
+    private MethodQuery<DocumentQuery> selectQuery(Method method) {
+        SelectMethodProvider provider = SelectMethodProvider.INSTANCE;
+        SelectQuery selectQuery = provider.apply(method, entityMetadata().name());
+        DocumentQueryParams queryParams = SELECT_PARSER.apply(selectQuery, parser());
+        DocumentParamsResolver resolver = DocumentParamsResolver.of(queryParams.params().slots());
+        ParamSlotsBinder binder = ParamSlotsBinder.of(resolver.slots(), entityMetadata(), converters(), method);
+        return new MethodQuery<>(queryParams.query(), binder, resolver::resolve);
+    }
+
+    private MethodQuery<DocumentDeleteQuery> deleteQuery(Method method) {
         DeleteMethodProvider deleteMethodFactory = DeleteMethodProvider.INSTANCE;
         DeleteQuery deleteQuery = deleteMethodFactory.apply(method, entityMetadata().name());
         DocumentDeleteQueryParams queryParams = DELETE_PARSER.apply(deleteQuery, parser());
-        DocumentDeleteQuery query = queryParams.query();
-        Params params = queryParams.params();
-        paramsBinder().bind(params, args(args), method);
-        return query;
+        DocumentParamsResolver resolver = DocumentParamsResolver.of(queryParams.params().slots());
+        ParamSlotsBinder binder = ParamSlotsBinder.of(resolver.slots(), entityMetadata(), converters(), method);
+        return new MethodQuery<>(queryParams.query(), binder, resolver::resolve);
     }
 
     private static Object[] args(Object[] args) {
@@ -174,8 +191,10 @@ public abstract class BaseDocumentRepository<T, K> extends AbstractRepositoryPro
 
     protected Function<Pageable, Page<T>> page(DocumentQuery query) {
         return p -> {
-            Stream<T> entities = template().select(query);
-            return NoSQLPage.of(entities.toList(), p);
+            DocumentQuery pageQuery = DocumentPageQuery.INSTANCE.apply(query, p, entityMetadata(), converters());
+            List<T> entities = template().<T>select(pageQuery).toList();
+            return NoSQLPage.of(entities, p, () -> template().count(query),
+                    NoSQLPage.keyset(entityMetadata(), query.sorts()));
         };
     }
 
@@ -187,4 +206,14 @@ public abstract class BaseDocumentRepository<T, K> extends AbstractRepositoryPro
         return p -> template().select(query);
     }
 
+    /**
+     * The translated query of a repository method, it is computed once per method and only binds the arguments
+     * at each invocation.
+     */
+    private record MethodQuery<Q>(Q query, ParamSlotsBinder binder, BiFunction<Q, Object[], Q> resolver) {
+
+        Q resolve(Object[] args) {
+            return resolver.apply(query, binder.bind(args));
+        }
+    }
 }
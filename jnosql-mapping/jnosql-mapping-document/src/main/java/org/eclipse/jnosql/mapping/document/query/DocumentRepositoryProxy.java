@@ -51,7 +51,7 @@ public class DocumentRepositoryProxy<T, K> extends AbstractDocumentRepositoryPro
         Class<T> typeClass = (Class<T>) ((ParameterizedType) repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0];
         this.entityMetadata = entities.get(typeClass);
-        this.repository = new DocumentRepository<>(template, entityMetadata);
+        this.repository = new DocumentRepository<>(template, entityMetadata, converters);
         this.converters = converters;
         this.repositoryType = repositoryType;
     }
@@ -94,9 +94,12 @@ public class DocumentRepositoryProxy<T, K> extends AbstractDocumentRepositoryPro
 
         private final EntityMetadata entityMetadata;
 
-        DocumentRepository(JNoSQLDocumentTemplate template, EntityMetadata entityMetadata) {
+        private final Converters converters;
+
+        DocumentRepository(JNoSQLDocumentTemplate template, EntityMetadata entityMetadata, Converters converters) {
             this.template = template;
             this.entityMetadata = entityMetadata;
+            this.converters = converters;
         }
 
         @Override
@@ -109,6 +112,11 @@ public class DocumentRepositoryProxy<T, K> extends AbstractDocumentRepositoryPro
             return entityMetadata;
         }
 
+        @Override
+        protected Converters converters() {
+            return converters == null ? super.converters() : converters;
+        }
+
         /**
          * Creates a new instance of DocumentRepository with the provided JNoSQLDocumentTemplate and EntityMetadata.
          *
@@ -122,7 +130,26 @@ public class DocumentRepositoryProxy<T, K> extends AbstractDocumentRepositoryPro
         public static <T, K> DocumentRepository<T, K> of(JNoSQLDocumentTemplate template, EntityMetadata metadata) {
             Objects.requireNonNull(template,"template is required");
             Objects.requireNonNull(metadata,"metadata is required");
-            return new DocumentRepository<>(template, metadata);
+            return new DocumentRepository<>(template, metadata, null);
+        }
+
+        /**
+         * Creates a new instance of DocumentRepository that converts the values with the given converters.
+         *
+         * @param <T>        The entity type managed by the repository.
+         * @param <K>        The key type used for document-based operations.
+         * @param template   The JNoSQLDocumentTemplate used for document database operations. Must not be {@code null}.
+         * @param metadata   The metadata of the entity. Must not be {@code null}.
+         * @param converters The converters of the entity fields. Must not be {@code null}.
+         * @return A new instance of DocumentRepository.
+         * @throws NullPointerException If there is a {@code null} parameter.
+         */
+        public static <T, K> DocumentRepository<T, K> of(JNoSQLDocumentTemplate template, EntityMetadata metadata,
+                                                         Converters converters) {
+            Objects.requireNonNull(template, "template is required");
+            Objects.requireNonNull(metadata, "metadata is required");
+            Objects.requireNonNull(converters, "converters is required");
+            return new DocumentRepository<>(template, metadata, converters);
         }
 
     }
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.mapping.document;
 
+import jakarta.data.exceptions.MappingException;
 import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
@@ -51,6 +52,8 @@ import java.util.stream.Stream;
 import static org.eclipse.jnosql.communication.document.DocumentDeleteQuery.delete;
 import static org.eclipse.jnosql.communication.document.DocumentQuery.select;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.DOCUMENT_BATCH_SIZE;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -211,11 +214,12 @@ class DefaultDocumentTemplateTest {
         Duration duration = Duration.ofHours(2);
 
         Mockito.when(managerMock
-                .insert(any(DocumentEntity.class), Mockito.eq(duration)))
-                .thenReturn(documentEntity);
+                .insert(Mockito.<Iterable<DocumentEntity>>any(), Mockito.eq(duration)))
+                .thenReturn(List.of(documentEntity, documentEntity));
 
         template.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(DocumentEntity.class), any(Duration.class));
+        verify(managerMock).insert(Mockito.<Iterable<DocumentEntity>>any(), any(Duration.class));
+        verify(managerMock, Mockito.never()).insert(any(DocumentEntity.class), any(Duration.class));
     }
 
     @Test
@@ -224,11 +228,57 @@ class DefaultDocumentTemplateTest {
         documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .insert(any(DocumentEntity.class)))
-                .thenReturn(documentEntity);
+                .insert(Mockito.<Iterable<DocumentEntity>>any()))
+                .thenReturn(List.of(documentEntity, documentEntity));
+
+        Iterable<Person> result = template.insert(Arrays.asList(person, person));
+        verify(managerMock).insert(Mockito.<Iterable<DocumentEntity>>any());
+        verify(managerMock, Mockito.never()).insert(any(DocumentEntity.class));
+        verify(documentEventPersistManager).firePreEntities(List.of(person, person));
+        verify(documentEventPersistManager).firePostEntities(List.of(person, person));
+        assertThat(result).hasSize(2);
+    }
+
+    @Test
+    void shouldInsertEntitiesInBatches() {
+        DocumentEntity documentEntity = DocumentEntity.of("Person");
+        documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
 
-        template.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(DocumentEntity.class));
+        Mockito.when(managerMock
+                .insert(Mockito.<Iterable<DocumentEntity>>any()))
+                .thenReturn(List.of(documentEntity, documentEntity))
+                .thenReturn(List.of(documentEntity));
+
+        System.setProperty(DOCUMENT_BATCH_SIZE.get(), "2");
+        try {
+            Iterable<Person> result = template.insert(Arrays.asList(person, person, person));
+            verify(managerMock, times(2)).insert(Mockito.<Iterable<DocumentEntity>>any());
+            assertThat(result).hasSize(3);
+        } finally {
+            System.clearProperty(DOCUMENT_BATCH_SIZE.get());
+        }
+    }
+
+    @Test
+    void shouldReturnErrorWhenManagerReturnsFewerEntities() {
+        DocumentEntity documentEntity = DocumentEntity.of("Person");
+        documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
+
+        Mockito.when(managerMock
+                .insert(Mockito.<Iterable<DocumentEntity>>any()))
+                .thenReturn(List.of(documentEntity));
+
+        assertThrows(MappingException.class, () -> template.insert(Arrays.asList(person, person)));
+        verify(documentEventPersistManager, Mockito.never()).firePostEntities(Mockito.any());
+    }
+
+    @Test
+    void shouldReturnErrorWhenManagerReturnsNull() {
+        Mockito.when(managerMock
+                .update(Mockito.<Iterable<DocumentEntity>>any()))
+                .thenReturn(null);
+
+        assertThrows(MappingException.class, () -> template.update(Arrays.asList(person, person)));
     }
 
     @Test
@@ -237,11 +287,12 @@ class DefaultDocumentTemplateTest {
         documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .update(any(DocumentEntity.class)))
-                .thenReturn(documentEntity);
+                .update(Mockito.<Iterable<DocumentEntity>>any()))
+                .thenReturn(List.of(documentEntity, documentEntity));
 
         template.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(DocumentEntity.class));
+        verify(managerMock).update(Mockito.<Iterable<DocumentEntity>>any());
+        verify(managerMock, Mockito.never()).update(any(DocumentEntity.class));
     }
 
 
@@ -90,4 +90,18 @@ class DocumentMapperObserverTest {
         var field = parser.fireField(Vendor.class.getSimpleName(), "name");
         Assertions.assertEquals("_id", field);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldFireFieldFromCache(){
+        Assertions.assertEquals("money", parser.fireField("Worker", "salary"));
+        Assertions.assertEquals("money", parser.fireField("Worker", "salary"));
+        Assertions.assertEquals("unknown", parser.fireField("Worker", "unknown"));
+    }
+
+    @Test
+    void shouldKeepFieldWhenThereIsNoEntity(){
+        Assertions.assertEquals("salary", parser.fireField("Unknown", "salary"));
+        Assertions.assertEquals("Unknown", parser.fireEntity("Unknown"));
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.document;
+
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentSourceTest {
+
+    @Test
+    void shouldFindFromEntity() {
+        DocumentEntity entity = DocumentEntity.of("Person", List.of(Document.of("name", "Ada"),
+                Document.of("age", 10)));
+        DocumentSource source = DocumentSource.of(entity);
+
+        assertThat(source.find("name")).isEqualTo(Document.of("name", "Ada"));
+        assertThat(source.find("phones")).isNull();
+        assertThat(source.documents()).containsExactlyInAnyOrderElementsOf(entity.documents());
+    }
+
+    @Test
+    void shouldFindFromList() {
+        List<Document> documents = List.of(Document.of("name", "Ada"), Document.of("age", 10));
+        DocumentSource source = DocumentSource.of(documents);
+
+        assertThat(source.find("age")).isEqualTo(Document.of("age", 10));
+        assertThat(source.find("phones")).isNull();
+        assertThat(source.documents()).isSameAs(documents);
+    }
+
+    @Test
+    void shouldKeepTheFirstDocumentWhenNameIsDuplicated() {
+        DocumentSource source = DocumentSource.of(List.of(Document.of("name", "Ada"),
+                Document.of("name", "Poliana")));
+
+        assertThat(source.find("name")).isEqualTo(Document.of("name", "Ada"));
+    }
+}
@@ -32,8 +32,10 @@ import org.eclipse.jnosql.mapping.core.NoSQLPage;
 import org.eclipse.jnosql.mapping.document.DocumentEntityConverter;
 import org.eclipse.jnosql.mapping.document.JNoSQLDocumentTemplate;
 import org.eclipse.jnosql.mapping.document.MockProducer;
+import org.eclipse.jnosql.mapping.document.entities.Money;
 import org.eclipse.jnosql.mapping.document.entities.Person;
 import org.eclipse.jnosql.mapping.document.entities.Vendor;
+import org.eclipse.jnosql.mapping.document.entities.Worker;
 import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
@@ -48,6 +50,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
@@ -62,6 +65,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.jnosql.communication.Condition.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -238,8 +242,8 @@ class DocumentRepositoryProxyPageableTest {
         DocumentQuery query = captor.getValue();
         assertFalse(query.condition().isPresent());
         assertEquals("Person", query.name());
-        assertEquals(NoSQLPage.skip(pagination), query.limit());
-        assertEquals(pagination.size(), query.limit());
+        assertEquals(NoSQLPage.skip(pagination), query.skip());
+        assertEquals(pagination.size() + 1, query.limit());
     }
 
 
@@ -454,8 +458,8 @@ class DocumentRepositoryProxyPageableTest {
         assertEquals("Person", query.name());
         assertEquals(EQUALS, condition.condition());
         assertEquals(Document.of("age", 120), condition.document());
-         assertEquals(NoSQLPage.skip(pagination), query.limit());
-        assertEquals(pagination.size(), query.limit());
+         assertEquals(NoSQLPage.skip(pagination), query.skip());
+        assertEquals(pagination.size() + 1, query.limit());
     }
 
     @Test
@@ -486,6 +490,81 @@ class DocumentRepositoryProxyPageableTest {
         assertNull(personRepository.findByName("name", pagination));
     }
 
+    @Test
+    void shouldFindPageWithNextPageableAndLazyCount() {
+        when(template.select(any(DocumentQuery.class))).thenReturn(Stream.of(Person.builder().withAge(10).build(),
+                Person.builder().withAge(11).build(), Person.builder().withAge(12).build()));
+        when(template.count(any(DocumentQuery.class))).thenReturn(10L);
+
+        Pageable pagination = Pageable.ofPage(1).size(2);
+        Page<Person> page = personRepository.findByNameOrderByAge("name", pagination);
+
+        assertThat(page.content()).hasSize(2);
+        assertEquals(pagination.next(), page.nextPageable());
+        verify(template, never()).count(any(DocumentQuery.class));
+        assertEquals(10L, page.totalElements());
+        assertEquals(5L, page.totalPages());
+        verify(template).count(any(DocumentQuery.class));
+    }
+
+    @Test
+    void shouldFindPageAfterKeyset() {
+        when(template.select(any(DocumentQuery.class))).thenReturn(Stream.of(Person.builder().withAge(11).build()));
+
+        Pageable pagination = Pageable.ofSize(2).afterKeyset(10);
+        Page<Person> page = personRepository.findByNameOrderByAge("name", pagination);
+
+        assertThat(page.content()).hasSize(1);
+        assertNull(page.nextPageable());
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertEquals(0, query.skip());
+        assertEquals(3, query.limit());
+        DocumentCondition condition = query.condition().orElseThrow();
+        assertEquals(AND, condition.condition());
+        assertThat(condition.toString()).contains("age").contains("10");
+    }
+
+    @Test
+    void shouldConvertKeysetToDatabaseFormat() {
+        Money salary = new Money("USD", BigDecimal.TEN);
+        DocumentRepositoryProxy.DocumentRepository<Worker, String> repository = DocumentRepositoryProxy.DocumentRepository
+                .of(template, entities.get(Worker.class), converters);
+
+        repository.findAll(Pageable.ofSize(2).sortBy(Sort.asc("salary")).afterKeyset(salary));
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        DocumentCondition condition = captor.getValue().condition().orElseThrow();
+        assertEquals(GREATER_THAN, condition.condition());
+        assertEquals(Document.of("money", salary.toString()), condition.document());
+    }
+
+    @Test
+    void shouldConvertKeysetToDatabaseFormatWithDatabaseName() {
+        Money salary = new Money("USD", BigDecimal.TEN);
+        DocumentRepositoryProxy.DocumentRepository<Worker, String> repository = DocumentRepositoryProxy.DocumentRepository
+                .of(template, entities.get(Worker.class));
+
+        repository.findAll(Pageable.ofSize(2).sortBy(Sort.desc("money")).afterKeyset(salary));
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        DocumentCondition condition = captor.getValue().condition().orElseThrow();
+        assertEquals(LESSER_THAN, condition.condition());
+        assertEquals(Document.of("money", salary.toString()), condition.document());
+    }
+
+    @Test
+    void shouldReturnErrorWhenKeysetHasNullValue() {
+        DocumentRepositoryProxy.DocumentRepository<Worker, String> repository = DocumentRepositoryProxy.DocumentRepository
+                .of(template, entities.get(Worker.class), converters);
+        Pageable pageable = Pageable.ofSize(2).sortBy(Sort.asc("salary")).afterKeyset(new Object[]{null});
+
+        assertThrows(IllegalArgumentException.class, () -> repository.findAll(pageable));
+    }
+
     @Test
     void shouldFindByNameOrderName2() {
 
@@ -503,8 +582,8 @@ class DocumentRepositoryProxyPageableTest {
         DocumentCondition condition = query.condition().get();
         assertEquals("Person", query.name());
         assertEquals(EQUALS, condition.condition());
-        assertEquals(NoSQLPage.skip(pagination), query.limit());
-        assertEquals(pagination.size(), query.limit());
+        assertEquals(NoSQLPage.skip(pagination), query.skip());
+        assertEquals(pagination.size() + 1, query.limit());
         assertThat(query.sorts()).hasSize(2)
                 .containsExactly(Sort.asc("age"), Sort.asc("name"));
 
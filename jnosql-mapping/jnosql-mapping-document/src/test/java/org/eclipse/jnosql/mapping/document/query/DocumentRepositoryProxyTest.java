@@ -49,6 +49,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.math.BigDecimal;
 import java.time.Duration;
@@ -58,6 +59,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -726,6 +728,52 @@ class DocumentRepositoryProxyTest {
         });
     }
 
+    @Test
+    void shouldTranslateMethodQueryOnce() throws NoSuchMethodException {
+        AtomicInteger translations = new AtomicInteger();
+        DocumentRepositoryProxy<Person, Long> handler = new DocumentRepositoryProxy<>(template,
+                entities, PersonRepository.class, converters) {
+            @Override
+            protected Converters converters() {
+                translations.incrementAndGet();
+                return super.converters();
+            }
+        };
+        Method method = PersonRepository.class.getMethod("findByNameAndAge", String.class, Integer.class);
+
+        DocumentQuery ada = handler.query(method, new Object[]{"Ada", 20});
+        int calls = translations.get();
+        DocumentQuery poliana = handler.query(method, new Object[]{"Poliana", 30});
+
+        assertThat(calls).isPositive();
+        assertThat(translations).hasValue(calls);
+        assertThat(ada.condition().orElseThrow().toString()).contains("Ada", "20").doesNotContain("Poliana");
+        assertThat(poliana.condition().orElseThrow().toString()).contains("Poliana", "30").doesNotContain("Ada");
+    }
+
+    @Test
+    void shouldTranslateDeleteMethodQueryOnce() throws NoSuchMethodException {
+        AtomicInteger translations = new AtomicInteger();
+        DocumentRepositoryProxy<Person, Long> handler = new DocumentRepositoryProxy<>(template,
+                entities, PersonRepository.class, converters) {
+            @Override
+            protected Converters converters() {
+                translations.incrementAndGet();
+                return super.converters();
+            }
+        };
+        Method method = PersonRepository.class.getMethod("deleteByName", String.class);
+
+        DocumentDeleteQuery ada = handler.deleteQuery(method, new Object[]{"Ada"});
+        int calls = translations.get();
+        DocumentDeleteQuery poliana = handler.deleteQuery(method, new Object[]{"Poliana"});
+
+        assertThat(calls).isPositive();
+        assertThat(translations).hasValue(calls);
+        assertThat(ada.condition().orElseThrow().document()).isEqualTo(Document.of("name", "Ada"));
+        assertThat(poliana.condition().orElseThrow().document()).isEqualTo(Document.of("name", "Poliana"));
+    }
+
     interface PersonRepository extends PageableRepository<Person, Long>, PersonStatisticRepository {
 
 
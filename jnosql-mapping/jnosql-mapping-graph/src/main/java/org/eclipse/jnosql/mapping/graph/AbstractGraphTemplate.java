@@ -31,6 +31,8 @@ import org.eclipse.jnosql.mapping.IdNotFoundException;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.core.util.ConverterUtil;
 
 import java.time.Duration;
@@ -41,19 +43,25 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.function.Supplier;
 import java.util.function.Consumer;
+import java.util.logging.Logger;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
 import static org.apache.tinkerpop.gremlin.structure.T.id;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.GRAPH_TRANSACTION_BATCH_SIZE;
 
 public abstract class AbstractGraphTemplate implements GraphTemplate {
+    private static final Logger LOGGER = Logger.getLogger(AbstractGraphTemplate.class.getName());
+
     private static final Function<GraphTraversal<?, ?>, GraphTraversal<Vertex, Vertex>> INITIAL_VERTEX =
             g -> (GraphTraversal<Vertex, Vertex>) g;
 
@@ -73,6 +81,8 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
 
     private GremlinExecutor gremlinExecutor;
 
+    private volatile Boolean automatic;
+
     private GremlinExecutor getExecutor() {
         if (Objects.isNull(gremlinExecutor)) {
             this.gremlinExecutor = new GremlinExecutor(getConverter());
@@ -80,16 +90,22 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         return gremlinExecutor;
     }
 
+    private boolean isAutomatic() {
+        Boolean value = automatic;
+        if (Objects.isNull(value)) {
+            value = GraphTransactionUtil.isAutomatic();
+            this.automatic = value;
+        }
+        return value;
+    }
+
     @Override
     public <T> T insert(T entity) {
-        requireNonNull(entity, "entity is required");
-        checkId(entity);
         UnaryOperator<Vertex> save = v -> {
-            GraphTransactionUtil.transaction(getGraph());
+            GraphTransactionUtil.transaction(getGraph(), isAutomatic());
             return v;
         };
-
-        return persist(entity, save);
+        return insert(entity, save);
     }
 
     @Override
@@ -104,20 +120,11 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
 
     @Override
     public <T> T update(T entity) {
-        requireNonNull(entity, "entity is required");
-        checkId(entity);
-        if (isIdNull(entity)) {
-            throw new IllegalStateException("to update a graph id cannot be null");
-        }
-        vertex(entity).orElseThrow(() -> new EmptyResultException("Entity does not find in the update"));
-
-        UnaryOperator<Vertex> update = e -> {
-            final Vertex vertex = getConverter().toVertex(entity);
-            GraphTransactionUtil.transaction(getGraph());
-            return vertex;
+        UnaryOperator<Vertex> save = v -> {
+            GraphTransactionUtil.transaction(getGraph(), isAutomatic());
+            return v;
         };
-
-        return persist(entity, update);
+        return update(entity, save);
     }
 
     @Override
@@ -152,8 +159,10 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         requireNonNull(type, "type is required");
         requireNonNull(id, "id is required");
         EntityMetadata mapping = getEntities().get(type);
+        FieldMetadata idField = mapping.id().orElseThrow(() -> IdNotFoundException.newInstance(type));
+        Object value = ConverterUtil.getValue(id, mapping, idField.fieldName(), getConverters());
         traversal()
-                .V(id)
+                .V(value)
                 .hasLabel(mapping.name())
                 .toStream()
                 .forEach(Vertex::remove);
@@ -175,15 +184,13 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).toList();
+        return persistAll(entities, this::insert);
     }
 
     @Override
     public <T> Iterable<T> update(Iterable<T> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).toList();
+        return persistAll(entities, this::update);
     }
 
     @Override
@@ -357,8 +364,8 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
     public <T> Stream<T> findAll(Class<T> type) {
         Objects.requireNonNull(type, "type is required");
         EntityMetadata metadata = getEntities().get(type);
-        return traversal().V().hasLabel(metadata.name())
-                .toStream().map(getConverter()::toEntity);
+        return GraphTraversalUtil.stream(traversal().V().hasLabel(metadata.name()))
+                .map(getConverter()::toEntity);
     }
 
     @Override
@@ -378,7 +385,7 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
 
     private Edge getEdge(String label, Vertex outVertex, Vertex inVertex) {
         final Edge edge = outVertex.addEdge(label, inVertex);
-        GraphTransactionUtil.transaction(getGraph());
+        GraphTransactionUtil.transaction(getGraph(), isAutomatic());
         return edge;
     }
 
@@ -391,33 +398,26 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         if (vertices.hasNext()) {
             List<Edge> edges = new ArrayList<>();
             vertices.next().edges(direction, labels).forEachRemaining(edges::add);
-            return edges.stream().map(getConverter()::toEdgeEntity).toList();
+            return edges.stream().map(getConverter().edgeEntityConverter()).toList();
         }
         return Collections.emptyList();
     }
 
     private <T> Optional<Vertex> vertex(T entity) {
-        EntityMetadata entityMetadata = getEntities().get(entity.getClass());
-        FieldMetadata field = entityMetadata.id().orElseThrow(() -> IdNotFoundException.newInstance(entity.getClass()));
-        Object id = field.read(entity);
-        Iterator<Vertex> vertices = vertices(id);
-        if (vertices.hasNext()) {
-            return Optional.of(vertices.next());
-        }
-        return Optional.empty();
+        return getConverter().toVertexId(entity).flatMap(id -> {
+            Iterator<Vertex> vertices = vertices(id);
+            if (vertices.hasNext()) {
+                return Optional.of(vertices.next());
+            }
+            return Optional.empty();
+        });
     }
 
     private <T> Collection<EdgeEntity> edgesImpl(T entity, Direction direction, String... labels) {
         requireNonNull(entity, "entity is required");
 
-        if (isIdNull(entity)) {
-            throw new IllegalStateException("Entity id is required");
-        }
-
-        if (vertex(entity).isEmpty()) {
-            return Collections.emptyList();
-        }
-        Object id = getConverter().toVertex(entity).id();
+        Object id = getConverter().toVertexId(entity)
+                .orElseThrow(() -> new IllegalStateException("Entity id is required"));
         return edgesByIdImpl(id, direction, labels);
     }
 
@@ -439,6 +439,71 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         entityMetadata.id().orElseThrow(() -> IdNotFoundException.newInstance(entity.getClass()));
     }
 
+    private <T> T insert(T entity, UnaryOperator<Vertex> persistAction) {
+        requireNonNull(entity, "entity is required");
+        checkId(entity);
+        return persist(entity, persistAction);
+    }
+
+    private <T> T update(T entity, UnaryOperator<Vertex> persistAction) {
+        requireNonNull(entity, "entity is required");
+        checkId(entity);
+        if (isIdNull(entity)) {
+            throw new IllegalStateException("to update a graph id cannot be null");
+        }
+        vertex(entity).orElseThrow(() -> new EmptyResultException("Entity does not find in the update"));
+
+        UnaryOperator<Vertex> update = e -> persistAction.apply(getConverter().toVertex(entity));
+        return persist(entity, update);
+    }
+
+    /**
+     * Writes the entities without a commit per vertex: when the automatic transaction is enabled, it commits once
+     * every {@link #batchSize()} entities and once at the end, logging the time spent on each batch.
+     *
+     * @param entities      the entities
+     * @param persistAction the single write, that receives the action applied to the vertex
+     * @param <T>           the entity type
+     * @return the written entities
+     */
+    private <T> Iterable<T> persistAll(Iterable<T> entities,
+                                       BiFunction<T, UnaryOperator<Vertex>, T> persistAction) {
+        int batchSize = batchSize();
+        List<T> result = new ArrayList<>();
+        int batch = 0;
+        long start = System.nanoTime();
+        for (T entity : entities) {
+            result.add(persistAction.apply(entity, UnaryOperator.identity()));
+            if (++batch == batchSize) {
+                commit(batch, start);
+                batch = 0;
+                start = System.nanoTime();
+            }
+        }
+        if (batch > 0) {
+            commit(batch, start);
+        }
+        return result;
+    }
+
+    private void commit(int batch, long start) {
+        GraphTransactionUtil.transaction(getGraph(), isAutomatic());
+        LOGGER.fine(() -> "Graph bulk write of " + batch + " entities took "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+    }
+
+    /**
+     * The number of vertices committed at once at the bulk insert and update operations,
+     * it uses the {@link MappingConfigurations#GRAPH_TRANSACTION_BATCH_SIZE} property, by default, all the entities.
+     *
+     * @return the batch size
+     */
+    protected int batchSize() {
+        return MicroProfileSettings.INSTANCE.get(GRAPH_TRANSACTION_BATCH_SIZE, Integer.class)
+                .filter(size -> size > 0)
+                .orElse(Integer.MAX_VALUE);
+    }
+
     protected <T> T persist(T entity, UnaryOperator<Vertex> persistAction) {
         return Stream.of(entity)
                 .map(toUnary(getEventManager()::firePreEntity))
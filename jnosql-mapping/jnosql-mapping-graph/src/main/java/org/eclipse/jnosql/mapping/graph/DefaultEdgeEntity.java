@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.collectingAndThen;
@@ -29,13 +30,17 @@ import static java.util.stream.Collectors.toList;
 
 class DefaultEdgeEntity<O, I> implements EdgeEntity {
 
-    private final O outgoing;
+    private final Supplier<O> outgoing;
 
     private final Edge edge;
 
-    private final I incoming;
+    private final Supplier<I> incoming;
 
     DefaultEdgeEntity(Edge edge, I incoming, O outgoing) {
+        this(edge, () -> incoming, () -> outgoing);
+    }
+
+    private DefaultEdgeEntity(Edge edge, Supplier<I> incoming, Supplier<O> outgoing) {
         this.edge = edge;
         this.incoming = incoming;
         this.outgoing = outgoing;
@@ -59,12 +64,12 @@ class DefaultEdgeEntity<O, I> implements EdgeEntity {
 
     @Override
     public I incoming() {
-        return incoming;
+        return incoming.get();
     }
 
     @Override
     public O outgoing() {
-        return outgoing;
+        return outgoing.get();
     }
 
     @Override
@@ -131,21 +136,50 @@ class DefaultEdgeEntity<O, I> implements EdgeEntity {
             return false;
         }
         DefaultEdgeEntity<?, ?> that = (DefaultEdgeEntity<?, ?>) o;
-        return Objects.equals(edge, that.edge) &&
-                Objects.equals(incoming, that.incoming) &&
-                Objects.equals(outgoing, that.outgoing);
+        return Objects.equals(edge, that.edge);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(edge, incoming, outgoing);
+        return Objects.hashCode(edge);
     }
 
     @Override
     public String toString() {
-        return outgoing +
+        return edge.outVertex().id() +
                 "---" + edge.label() +
-                " --->" + incoming;
+                " --->" + edge.inVertex().id();
+    }
+
+    /**
+     * Creates an edge that loads the incoming and outgoing entities on the first access of each one.
+     *
+     * @param edge     the edge
+     * @param incoming the incoming entity supplier, it is called once
+     * @param outgoing the outgoing entity supplier, it is called once
+     * @param <O>      the outgoing type
+     * @param <I>      the incoming type
+     * @return a {@link DefaultEdgeEntity} instance
+     */
+    static <O, I> DefaultEdgeEntity<O, I> lazy(Edge edge, Supplier<I> incoming, Supplier<O> outgoing) {
+        return new DefaultEdgeEntity<>(edge, memoize(incoming), memoize(outgoing));
+    }
+
+    private static <T> Supplier<T> memoize(Supplier<T> supplier) {
+        return new Supplier<>() {
+            private boolean loaded;
+
+            private T value;
+
+            @Override
+            public synchronized T get() {
+                if (!loaded) {
+                    value = supplier.get();
+                    loaded = true;
+                }
+                return value;
+            }
+        };
     }
 
 }
@@ -140,17 +140,18 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
 
     @Override
     public Optional<EdgeEntity> singleResult() {
-        Stream<EdgeEntity> result = result();
-        final Iterator<EdgeEntity> iterator = result.iterator();
-
-        if (!iterator.hasNext()) {
-            return Optional.empty();
-        }
-        final EdgeEntity entity = iterator.next();
-        if (!iterator.hasNext()) {
-            return Optional.of(entity);
+        try (Stream<EdgeEntity> result = result()) {
+            final Iterator<EdgeEntity> iterator = result.iterator();
+
+            if (!iterator.hasNext()) {
+                return Optional.empty();
+            }
+            final EdgeEntity entity = iterator.next();
+            if (!iterator.hasNext()) {
+                return Optional.of(entity);
+            }
+            throw new NonUniqueResultException("The Edge traversal query returns more than one result");
         }
-        throw new NonUniqueResultException("The Edge traversal query returns more than one result");
     }
 
     @Override
@@ -160,12 +161,12 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
 
     @Override
     public Stream<EdgeEntity> stream() {
-        return flow.apply(supplier.get()).toList().stream().map(converter::toEdgeEntity);
+        return GraphTraversalUtil.stream(flow.apply(supplier.get())).map(converter.edgeEntityConverter());
     }
 
     @Override
     public Stream<EdgeEntity> next(int limit) {
-        return flow.apply(supplier.get()).next(limit).stream().map(converter::toEdgeEntity);
+        return flow.apply(supplier.get()).next(limit).stream().map(converter.edgeEntityConverter());
     }
 
     @Override
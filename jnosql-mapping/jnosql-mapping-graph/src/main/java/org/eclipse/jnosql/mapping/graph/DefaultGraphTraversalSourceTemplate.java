@@ -95,7 +95,7 @@ class DefaultGraphTraversalSourceTemplate extends AbstractGraphTemplate {
 
     @Override
     protected Iterator<Vertex> vertices(Object id) {
-        return traversal().V(id).toList().iterator();
+        return traversal().V(id);
     }
 
 }
@@ -18,6 +18,7 @@ import jakarta.data.exceptions.NonUniqueResultException;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -46,7 +47,7 @@ class DefaultValueMapTraversal implements ValueMapTraversal {
 
     @Override
     public Stream<Map<String, Object>> stream() {
-        return flow.apply(supplier.get()).toList().stream().map(toMap());
+        return GraphTraversalUtil.stream(flow.apply(supplier.get())).map(toMap());
     }
 
 
@@ -62,19 +63,24 @@ class DefaultValueMapTraversal implements ValueMapTraversal {
 
     @Override
     public Optional<Map<String, Object>> singleResult() {
-        List<Map<String, Object>> result = resultList();
-        if (result.isEmpty()) {
-            return Optional.empty();
+        try (Stream<Map<String, Object>> result = stream()) {
+            Iterator<Map<String, Object>> iterator = result.iterator();
+            if (!iterator.hasNext()) {
+                return Optional.empty();
+            }
+            Map<String, Object> map = iterator.next();
+            if (!iterator.hasNext()) {
+                return Optional.of(map);
+            }
+            throw new NonUniqueResultException("The Edge traversal query returns more than one result");
         }
-        if (result.size() == 1) {
-            return Optional.of(result.get(0));
-        }
-        throw new NonUniqueResultException("The Edge traversal query returns more than one result");
     }
 
     @Override
     public List<Map<String, Object>> resultList() {
-        return stream().collect(toList());
+        try (Stream<Map<String, Object>> result = stream()) {
+            return result.collect(toList());
+        }
     }
 
     @Override
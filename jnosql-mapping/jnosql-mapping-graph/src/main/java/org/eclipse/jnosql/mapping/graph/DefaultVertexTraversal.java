@@ -194,24 +194,24 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
 
     @Override
     public <T> Stream<T> result() {
-        return flow.apply(supplier.get())
-                .toStream()
+        return GraphTraversalUtil.stream(flow.apply(supplier.get()))
                 .map(converter::toEntity);
     }
 
     @Override
     public <T> Optional<T> singleResult() {
-        final Stream<T> stream = result();
-        final Iterator<T> iterator = stream.iterator();
-
-        if (!iterator.hasNext()) {
-            return Optional.empty();
-        }
-        final T entity = iterator.next();
-        if (!iterator.hasNext()) {
-            return Optional.of(entity);
+        try (Stream<T> stream = result()) {
+            final Iterator<T> iterator = stream.iterator();
+
+            if (!iterator.hasNext()) {
+                return Optional.empty();
+            }
+            final T entity = iterator.next();
+            if (!iterator.hasNext()) {
+                return Optional.of(entity);
+            }
+            throw new NonUniqueResultException("The Vertex traversal query returns more than one result");
         }
-        throw new NonUniqueResultException("The Vertex traversal query returns more than one result");
     }
 
     @Override
@@ -27,6 +27,9 @@ import java.util.Optional;
  * {@link GraphTemplate#update(Object)}
  *
  * <pre>outVertex ---label---&#62; inVertex.</pre>
+ * The incoming and outgoing entities load from the graph on the first access, which also fires the entity events,
+ * thus read them inside the operation or the transaction that returned the edge. The equality and the text of an edge
+ * rely only on the edge and the ids of its vertices, so they do not load the entities.
  */
 public interface EdgeEntity {
 
@@ -54,7 +57,8 @@ public interface EdgeEntity {
     String label();
 
     /**
-     * Gets the incoming entity
+     * Gets the incoming entity, it loads on the first access, so it must be read inside the operation or transaction
+     * that returned this edge
      *
      * @param <T> the type
      * @return the incoming entity
@@ -62,7 +66,8 @@ public interface EdgeEntity {
     <T> T incoming();
 
     /**
-     * Gets the outgoing entity
+     * Gets the outgoing entity, it loads on the first access, so it must be read inside the operation or transaction
+     * that returned this edge
      *
      * @param <T> the type
      * @return the outgoing entity
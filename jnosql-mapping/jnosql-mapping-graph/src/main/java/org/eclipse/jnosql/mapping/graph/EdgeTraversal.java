@@ -16,6 +16,7 @@ package org.eclipse.jnosql.mapping.graph;
 
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DedupGlobalStep;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -118,6 +119,19 @@ public interface EdgeTraversal extends EdgeConditionTraversal {
      */
      Stream<EdgeEntity> stream();
 
+    /**
+     * Get all the result in the traversal as Stream of chunks. The traversal is read lazily,
+     * thus only one chunk of entities is in memory at a time.
+     *
+     * @param size the number of entities in each chunk
+     * @return the entity result in chunks as {@link Stream}
+     * @throws IllegalArgumentException when the size is not greater than zero
+     */
+    default Stream<List<EdgeEntity>> chunks(int size) {
+        GraphTraversalUtil.requireChunkSize(size);
+        return GraphTraversalUtil.chunks(stream(), size);
+    }
+
     /**
      * Get the next n elements result as next, the number of elements is limit based
      *
@@ -20,6 +20,7 @@ import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.mapping.IdNotFoundException;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.metadata.ConstructorMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
@@ -28,6 +29,7 @@ import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -41,6 +43,10 @@ import static java.util.stream.Collectors.toList;
 
 public abstract class GraphConverter {
 
+    /**
+     * The number of the last converted vertices that the edges of a same operation share.
+     */
+    static final int ENTITIES_WINDOW = 1_000;
 
     protected abstract EntitiesMetadata getEntities();
 
@@ -91,6 +97,25 @@ public abstract class GraphConverter {
     }
 
 
+    /**
+     * Reads the vertex id from the entity id field, applying its {@link org.eclipse.jnosql.mapping.Convert}
+     * when there is one. Unlike {@link GraphConverter#toVertex(Object)}, it neither reads the other fields
+     * nor writes in the graph.
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return the vertex id otherwise {@link Optional#empty()} when the id is null
+     * @throws NullPointerException when entity is null
+     * @throws IdNotFoundException  when the entity does not have an id field
+     */
+    public <T> Optional<Object> toVertexId(T entity) {
+        requireNonNull(entity, "entity is required");
+        EntityMetadata mapping = getEntities().get(entity.getClass());
+        FieldMetadata field = mapping.id().orElseThrow(() -> IdNotFoundException.newInstance(entity.getClass()));
+        return Optional.ofNullable(field.read(entity))
+                .map(value -> FieldGraph.of(value, field).toElement(getConverters()).value());
+    }
+
     /**
      * List the fields in the entity as property exclude fields annotated with {@link jakarta.nosql.Id}
      *
@@ -195,9 +220,23 @@ public abstract class GraphConverter {
      */
     public EdgeEntity toEdgeEntity(Edge edge) {
         requireNonNull(edge, "vertex is required");
-        Object out = toEntity(edge.outVertex());
-        Object in = toEntity(edge.inVertex());
-        return new DefaultEdgeEntity<>(edge, in, out);
+        return toEdgeEntity(edge, entities());
+    }
+
+    /**
+     * Creates a function to convert the {@link Edge} instances of a same operation to {@link EdgeEntity}.
+     * The incoming and outgoing entities load on the first access, and the edges that share a vertex
+     * share its entity while it is among the last vertices converted, a bounded window, thus a long stream
+     * of edges does not keep every vertex it converted.
+     *
+     * @return the function that converts {@link Edge} to {@link EdgeEntity}
+     */
+    public Function<Edge, EdgeEntity> edgeEntityConverter() {
+        Map<Object, Object> entities = entities();
+        return edge -> {
+            requireNonNull(edge, "vertex is required");
+            return toEdgeEntity(edge, entities);
+        };
     }
 
     /**
@@ -217,6 +256,35 @@ public abstract class GraphConverter {
         throw new EmptyResultException("Edge does not found in the database with id: " + id);
     }
 
+    private EdgeEntity toEdgeEntity(Edge edge, Map<Object, Object> entities) {
+        return DefaultEdgeEntity.lazy(edge, () -> toEntity(edge.inVertex(), entities),
+                () -> toEntity(edge.outVertex(), entities));
+    }
+
+    private Object toEntity(Vertex vertex, Map<Object, Object> entities) {
+        Object id = vertex.id();
+        synchronized (entities) {
+            Object entity = entities.get(id);
+            if (entity != null) {
+                return entity;
+            }
+        }
+        Object entity = toEntity(vertex);
+        synchronized (entities) {
+            Object current = entities.putIfAbsent(id, entity);
+            return current == null ? entity : current;
+        }
+    }
+
+    private static Map<Object, Object> entities() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+                return size() > ENTITIES_WINDOW;
+            }
+        };
+    }
+
     private <T> T convert(Class<T> type, List<Property<?>> properties, Vertex vertex) {
         EntityMetadata mapping = getEntities().get(type);
         ConstructorMetadata constructor = mapping.constructor();
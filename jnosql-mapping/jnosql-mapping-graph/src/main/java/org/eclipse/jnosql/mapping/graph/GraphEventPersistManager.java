@@ -14,12 +14,9 @@
  */
 package org.eclipse.jnosql.mapping.graph;
 
+
 import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.enterprise.event.Event;
-import jakarta.inject.Inject;
-import org.apache.tinkerpop.gremlin.structure.Vertex;
-import org.eclipse.jnosql.mapping.EntityPostPersist;
-import org.eclipse.jnosql.mapping.EntityPrePersist;
+import org.eclipse.jnosql.mapping.core.AbstractEventPersistManager;
 
 /**
  * This interface represent the manager of events. When an entity be either saved or updated an event will be fired. This order gonna be:
@@ -31,35 +28,8 @@ import org.eclipse.jnosql.mapping.EntityPrePersist;
  * 6) firePostGraphEntity
  *
  * @see AbstractGraphTemplate
+ * @see AbstractEventPersistManager
  */
 @ApplicationScoped
-class GraphEventPersistManager {
-
-
-    @Inject
-    private Event<EntityPrePersist> entityPrePersistEvent;
-
-    @Inject
-    private Event<EntityPostPersist> entityPostPersistEvent;
-
-    /**
-     * Fire an event once the method is called
-     *
-     * @param entity the entity
-     * @param <T>    the entity type
-     */
-    public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
-    }
-
-    /**
-     * Fire an event after convert the {@link Vertex},
-     * from database response, to Entity.
-     *
-     * @param entity the entity
-     * @param <T>    the entity kind
-     */
-    public <T> void firePostEntity(T entity) {
-        entityPostPersistEvent.fire(EntityPostPersist.of(entity));
-    }
+class GraphEventPersistManager extends AbstractEventPersistManager {
 }
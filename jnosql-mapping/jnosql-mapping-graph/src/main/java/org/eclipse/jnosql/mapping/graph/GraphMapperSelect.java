@@ -157,8 +157,9 @@ final class GraphMapperSelect extends AbstractMapperQuery
 
     @Override
     public <T> List<T> result() {
-        Stream<T> stream = stream();
-        return stream.toList();
+        try (Stream<T> stream = stream()) {
+            return stream.toList();
+        }
     }
 
     @Override
@@ -166,7 +167,7 @@ final class GraphMapperSelect extends AbstractMapperQuery
         if (condition != null) {
             traversal.filter(condition);
         }
-        return traversal.toStream().map(converter::toEntity);
+        return GraphTraversalUtil.stream(traversal).map(converter::toEntity);
     }
 
     @Override
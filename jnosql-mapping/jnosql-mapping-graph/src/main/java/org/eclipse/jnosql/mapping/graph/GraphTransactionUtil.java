@@ -51,13 +51,14 @@ final class GraphTransactionUtil {
     }
 
     /**
-     * Checks if possible to {@link Transaction#commit()},
-     * if checks it the {@link Transaction} holds and if it is defined as an automatic transaction.
+     * Checks if possible to {@link Transaction#commit()} with the automatic transaction setting already read by the
+     * caller, so the configuration is not looked up at each commit.
      *
-     * @param graph the graph
+     * @param graph     the graph
+     * @param automatic if the automatic transaction is enabled
      */
-    static void transaction(Graph graph) {
-        if (isAutomatic() && isNotLock() && Objects.nonNull(graph)) {
+    static void transaction(Graph graph, boolean automatic) {
+        if (automatic && isNotLock() && Objects.nonNull(graph)) {
             try {
                 Transaction transaction = graph.tx();
                 if (transaction != null) {
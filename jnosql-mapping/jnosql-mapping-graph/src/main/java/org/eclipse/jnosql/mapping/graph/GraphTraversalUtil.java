@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Utilitarian to consume a {@link Traversal} lazily as {@link Stream}
+ */
+final class GraphTraversalUtil {
+
+    private static final Logger LOGGER = Logger.getLogger(GraphTraversalUtil.class.getName());
+
+    private GraphTraversalUtil() {
+    }
+
+    /**
+     * Streams the traversal from its iterator, thus it reads the elements on demand, and closing the
+     * {@link Stream} closes the {@link Traversal}.
+     *
+     * @param traversal the traversal
+     * @param <T>       the element type
+     * @return the lazy {@link Stream}
+     */
+    static <T> Stream<T> stream(Traversal<?, T> traversal) {
+        return traversal.toStream().onClose(() -> close(traversal));
+    }
+
+    /**
+     * Groups the stream elements in chunks of the given size, where the last one might be smaller.
+     * It reads a single chunk at a time from the source, and closing the result closes the source.
+     *
+     * @param stream the source stream
+     * @param size   the chunk size
+     * @param <T>    the element type
+     * @return the chunks as {@link Stream}
+     * @throws IllegalArgumentException when the size is not positive
+     */
+    static <T> Stream<List<T>> chunks(Stream<T> stream, int size) {
+        if (size <= 0) {
+            stream.close();
+        }
+        requireChunkSize(size);
+        Iterator<T> iterator = stream.iterator();
+        Iterator<List<T>> chunks = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public List<T> next() {
+                if (!iterator.hasNext()) {
+                    throw new NoSuchElementException("There is no more chunks in the traversal");
+                }
+                List<T> chunk = new ArrayList<>(size);
+                while (chunk.size() < size && iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                }
+                return chunk;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED), false)
+                .onClose(stream::close);
+    }
+
+    /**
+     * Checks the chunk size before the traversal opens, thus an invalid size does not leave it open.
+     *
+     * @param size the chunk size
+     * @throws IllegalArgumentException when the size is not positive
+     */
+    static void requireChunkSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The chunk size must be greater than zero: " + size);
+        }
+    }
+
+    private static void close(Traversal<?, ?> traversal) {
+        try {
+            traversal.close();
+        } catch (Exception exception) {
+            LOGGER.log(Level.WARNING, "Unable to close the graph traversal", exception);
+        }
+    }
+}
@@ -14,27 +14,29 @@
  */
 package org.eclipse.jnosql.mapping.graph;
 
-import org.apache.tinkerpop.gremlin.jsr223.GremlinLangScriptEngine;
-import org.apache.tinkerpop.gremlin.jsr223.GremlinScriptEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
-import javax.script.Bindings;
-import javax.script.ScriptException;
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 final class GremlinExecutor {
     private final GraphConverter converter;
 
-    private static final GremlinScriptEngine ENGINE = new GremlinLangScriptEngine();
+    private final GremlinScriptCache cache;
 
     GremlinExecutor(GraphConverter converter) {
+        this(converter, GremlinScriptCache.shared());
+    }
+
+    GremlinExecutor(GraphConverter converter, GremlinScriptCache cache) {
         this.converter = converter;
+        this.cache = cache;
     }
 
     <T> Stream<T> executeGremlin(GraphTraversalSource traversalSource, String gremlin) {
@@ -42,39 +44,31 @@ final class GremlinExecutor {
     }
 
     <T> Stream<T> executeGremlin(GraphTraversalSource traversalSource, String gremlin, Map<String, Object> params) {
-        try {
-            Bindings bindings = ENGINE.createBindings();
-            bindings.put("g", traversalSource);
-
-
-            String query = GremlinParamParser.INSTANCE.apply(gremlin, params);
-            Object eval = ENGINE.eval(query, bindings);
-            if (eval instanceof GraphTraversal graphTraversal) {
-                return convertToStream(graphTraversal.toStream());
-            }
-            if (eval instanceof Iterable iterable) {
-                return convertToStream(StreamSupport.stream(iterable.spliterator(), false));
-            }
-            if (eval instanceof Stream stream) {
-                return convertToStream(stream);
-            }
-            return Stream.of((T) eval);
-        } catch (ScriptException e) {
-            throw new GremlinQueryException("There is an error when executed the gremlin query: " + gremlin, e);
+        Object eval = cache.get(gremlin).eval(traversalSource, params);
+        if (eval instanceof GraphTraversal graphTraversal) {
+            return convertToStream(graphTraversal.toStream());
+        }
+        if (eval instanceof Iterable iterable) {
+            return convertToStream(StreamSupport.stream(iterable.spliterator(), false));
+        }
+        if (eval instanceof Stream stream) {
+            return convertToStream(stream);
         }
+        return Stream.of((T) eval);
     }
 
     private <T> Stream<T> convertToStream(Stream<?> stream) {
-        return stream.map(this::getElement).map(e -> (T) e);
+        Function<Edge, EdgeEntity> edgeConverter = converter.edgeEntityConverter();
+        return stream.map(e -> getElement(e, edgeConverter)).map(e -> (T) e);
     }
 
-    private Object getElement(Object entity) {
+    private Object getElement(Object entity, Function<Edge, EdgeEntity> edgeConverter) {
         if (entity instanceof Vertex vertex) {
             return converter.toEntity(vertex);
         }
 
         if (entity instanceof Edge edge) {
-            return converter.toEdgeEntity(edge);
+            return edgeConverter.apply(edge);
         }
         return entity;
     }
@@ -0,0 +1,203 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.apache.tinkerpop.gremlin.language.grammar.GremlinAntlrToJava;
+import org.apache.tinkerpop.gremlin.language.grammar.GremlinLexer;
+import org.apache.tinkerpop.gremlin.language.grammar.GremlinParser;
+import org.apache.tinkerpop.gremlin.language.grammar.VariableResolver;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A Gremlin query parsed once into the Gremlin language tree, so it runs several times, with different
+ * {@link GraphTraversalSource} and params, without parsing the query again.
+ * The params, such as "g.V().hasLabel(@param)", become variables of the Gremlin language, thus the values are
+ * bindings resolved at each execution instead of text written into the query.
+ * It should check the Gremlin query options:
+ * <a href="https://github.com/apache/tinkerpop/blob/e1396223ea9e1d6240c1f051036cbb5507f47f8d/gremlin-language/src/main/antlr4/Gremlin.g4">Gremlin.g4</a>
+ */
+final class GremlinScript {
+
+    private static final String VARIABLE_PREFIX = "jnosql_";
+
+    private final String gremlin;
+
+    private final GremlinParser.QueryListContext tree;
+
+    private final Set<String> params;
+
+    private GremlinScript(String gremlin, GremlinParser.QueryListContext tree, Set<String> params) {
+        this.gremlin = gremlin;
+        this.tree = tree;
+        this.params = params;
+    }
+
+    /**
+     * @return the params that the query requires
+     */
+    Set<String> params() {
+        return params;
+    }
+
+    /**
+     * Creates the traversal, or the value, of the query with the given source and params.
+     *
+     * @param traversalSource the traversal source
+     * @param params          the params values
+     * @return the result of the query
+     * @throws NullPointerException  when there is null parameter
+     * @throws GremlinQueryException when a param is missing or is not in the query, or the query cannot execute
+     */
+    Object eval(GraphTraversalSource traversalSource, Map<String, Object> params) {
+        Objects.requireNonNull(traversalSource, "traversalSource is required");
+        Objects.requireNonNull(params, "params is required");
+        Map<String, Object> variables = new HashMap<>();
+        for (String param : this.params) {
+            Object value = params.get(param);
+            if (value == null) {
+                throw new GremlinQueryException("The param is " + param + " is required on the query " + gremlin);
+            }
+            variables.put(VARIABLE_PREFIX + param, value);
+        }
+        if (params.size() > this.params.size()) {
+            List<String> leftParams = new ArrayList<>(params.keySet());
+            leftParams.removeAll(this.params);
+            throw new GremlinQueryException("There are params missing on the parser: " + leftParams
+                    + " on the query" + gremlin);
+        }
+        try {
+            return new GremlinAntlrToJava(traversalSource, new VariableResolver.DefaultVariableResolver(variables))
+                    .visit(tree);
+        } catch (RuntimeException exception) {
+            throw new GremlinQueryException("There is an error when executed the gremlin query: " + gremlin,
+                    exception);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GremlinScript{" +
+                "gremlin='" + gremlin + '\'' +
+                ", params=" + params +
+                '}';
+    }
+
+    /**
+     * Parses the Gremlin query, the params out of the string literals become variables.
+     *
+     * @param gremlin the query
+     * @return the parsed query
+     * @throws NullPointerException  when the query is null
+     * @throws GremlinQueryException when there is error in the syntax
+     */
+    static GremlinScript compile(String gremlin) {
+        Objects.requireNonNull(gremlin, "gremlin is required");
+        Set<String> params = new LinkedHashSet<>();
+        String query = toVariables(gremlin, params);
+        return new GremlinScript(gremlin, parse(query, gremlin), Collections.unmodifiableSet(params));
+    }
+
+    private static String toVariables(String gremlin, Set<String> params) {
+        StringBuilder query = new StringBuilder(gremlin.length());
+        char quote = 0;
+        int index = 0;
+        while (index < gremlin.length()) {
+            char current = gremlin.charAt(index);
+            if (quote != 0) {
+                query.append(current);
+                if (current == '\\' && index + 1 < gremlin.length()) {
+                    query.append(gremlin.charAt(++index));
+                } else if (current == quote) {
+                    quote = 0;
+                }
+                index++;
+            } else if (current == '\'' || current == '"') {
+                quote = current;
+                query.append(current);
+                index++;
+            } else if (current == '@' && index + 1 < gremlin.length()
+                    && isParamPart(gremlin.charAt(index + 1))) {
+                int end = index + 1;
+                while (end < gremlin.length() && isParamPart(gremlin.charAt(end))) {
+                    end++;
+                }
+                String param = gremlin.substring(index + 1, end);
+                params.add(param);
+                query.append(VARIABLE_PREFIX).append(param);
+                index = end;
+            } else {
+                query.append(current);
+                index++;
+            }
+        }
+        return query.toString();
+    }
+
+    private static boolean isParamPart(char character) {
+        return character == '_' || Character.isLetterOrDigit(character);
+    }
+
+    private static GremlinParser.QueryListContext parse(String query, String gremlin) {
+        SyntaxErrorListener listener = new SyntaxErrorListener(gremlin);
+        GremlinLexer lexer = new GremlinLexer(CharStreams.fromString(query));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(listener);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        GremlinParser parser = new GremlinParser(tokens);
+        parser.removeErrorListeners();
+        parser.addErrorListener(listener);
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            return parser.queryList();
+        } catch (GremlinQueryException exception) {
+            tokens.seek(0);
+            lexer.reset();
+            parser.reset();
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            return parser.queryList();
+        }
+    }
+
+    private static final class SyntaxErrorListener extends BaseErrorListener {
+
+        private final String gremlin;
+
+        private SyntaxErrorListener(String gremlin) {
+            this.gremlin = gremlin;
+        }
+
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                                int charPositionInLine, String message, RecognitionException exception) {
+            throw new GremlinQueryException("There is an error when executed the gremlin query: " + gremlin
+                    + ", at line " + line + ':' + charPositionInLine + ' ' + message, exception);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.GRAPH_GREMLIN_CACHE_SIZE;
+
+/**
+ * A bounded and thread-safe cache of the parsed Gremlin queries, it maps the query text, with the params
+ * placeholders, to the parsed query, so the queries from {@link GraphTemplate#query(String)},
+ * {@link GraphTemplate#prepare(String)} and the repositories run the Gremlin parser once.
+ * When the cache reaches the maximum size, it evicts the least recently used query first.
+ */
+public final class GremlinScriptCache {
+
+    /**
+     * The default maximum size of the shared cache.
+     */
+    public static final int DEFAULT_SIZE = 1_000;
+
+    private static final GremlinScriptCache INSTANCE = new GremlinScriptCache(
+            MicroProfileSettings.INSTANCE.get(GRAPH_GREMLIN_CACHE_SIZE, Integer.class)
+                    .filter(size -> size >= 0)
+                    .orElse(DEFAULT_SIZE));
+
+    private final int maxSize;
+
+    private final Map<String, GremlinScript> scripts;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    GremlinScriptCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The maxSize cannot be negative: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.scripts = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, GremlinScript> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the shared cache, it uses the
+     * {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#GRAPH_GREMLIN_CACHE_SIZE} property
+     * as the maximum size.
+     *
+     * @return the shared cache
+     */
+    public static GremlinScriptCache shared() {
+        return INSTANCE;
+    }
+
+    GremlinScript get(String gremlin) {
+        Objects.requireNonNull(gremlin, "gremlin is required");
+        synchronized (scripts) {
+            GremlinScript cached = scripts.get(gremlin);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+        GremlinScript script = GremlinScript.compile(gremlin);
+        if (maxSize > 0) {
+            synchronized (scripts) {
+                scripts.putIfAbsent(gremlin, script);
+            }
+        }
+        return script;
+    }
+
+    /**
+     * @return the number of queries served from the cache
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of queries that were parsed
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of queries in the cache
+     */
+    public int size() {
+        synchronized (scripts) {
+            return scripts.size();
+        }
+    }
+
+    /**
+     * @return the maximum of queries in the cache
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes all the queries and resets the counters
+     */
+    public void clear() {
+        synchronized (scripts) {
+            scripts.clear();
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "GremlinScriptCache{" +
+                "size=" + size() +
+                ", maxSize=" + maxSize +
+                ", hits=" + hits.sum() +
+                ", misses=" + misses.sum() +
+                '}';
+    }
+}
@@ -33,6 +33,19 @@ public interface ValueMapTraversal {
      */
     Stream<Map<String, Object>> stream();
 
+    /**
+     * Get all the result in the traversal as Stream of chunks. The traversal is read lazily,
+     * thus only one chunk of maps is in memory at a time.
+     *
+     * @param size the number of maps in each chunk
+     * @return the maps result in chunks as {@link Stream}
+     * @throws IllegalArgumentException when the size is not greater than zero
+     */
+    default Stream<List<Map<String, Object>>> chunks(int size) {
+        GraphTraversalUtil.requireChunkSize(size);
+        return GraphTraversalUtil.chunks(stream(), size);
+    }
+
     /**
      * Get the next n-number of results from the traversal.
      *
@@ -16,6 +16,7 @@ package org.eclipse.jnosql.mapping.graph;
 
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DedupGlobalStep;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -167,6 +168,20 @@ public interface VertexTraversal extends VertexConditionTraversal {
      */
     <T> Stream<T> result();
 
+    /**
+     * Get all the result in the traversal as Stream of chunks. The traversal is read lazily,
+     * thus only one chunk of entities is in memory at a time.
+     *
+     * @param <T>  the entity type
+     * @param size the number of entities in each chunk
+     * @return the entity result in chunks as {@link Stream}
+     * @throws IllegalArgumentException when the size is not greater than zero
+     */
+    default <T> Stream<List<T>> chunks(int size) {
+        GraphTraversalUtil.requireChunkSize(size);
+        return GraphTraversalUtil.chunks(this.<T>result(), size);
+    }
+
     /**
      * Concludes the traversal that returns a single result
      *
@@ -14,10 +14,16 @@
  */
 package org.eclipse.jnosql.mapping.graph.query;
 
+import jakarta.data.Sort;
 import jakarta.data.page.Page;
 import jakarta.data.page.Pageable;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepository;
+import org.eclipse.jnosql.mapping.graph.GraphConverter;
 import org.eclipse.jnosql.mapping.graph.GraphTemplate;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 
@@ -25,10 +31,19 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
+import static org.apache.tinkerpop.gremlin.process.traversal.Order.asc;
+import static org.apache.tinkerpop.gremlin.process.traversal.Order.desc;
+
 abstract class AbstractGraphRepository<T, K> extends AbstractRepository<T, K> {
 
     protected abstract GraphTemplate template();
 
+    protected abstract Graph graph();
+
+    protected abstract GraphConverter converter();
+
+    protected abstract Converters converters();
+
 
     @Override
     public long count() {
@@ -40,14 +55,24 @@ abstract class AbstractGraphRepository<T, K> extends AbstractRepository<T, K> {
         Objects.requireNonNull(pageable, "pageable is required");
         EntityMetadata metadata = entityMetadata();
 
-        List<T> entities = template().traversalVertex()
-                .hasLabel(metadata.type())
-                .skip(NoSQLPage.skip(pageable))
-                .limit(pageable.size())
-                .<T>result()
+        List<Sort> sorts = NoSQLPage.sorts(pageable, pageable.sorts());
+        GraphTraversal<Vertex, Vertex> traversal = graph().traversal().V().hasLabel(metadata.name());
+        if (NoSQLPage.isCursor(pageable)) {
+            traversal.filter(SelectQueryConverter.keyset(sorts, pageable.cursor().orElseThrow(), metadata,
+                    converters()));
+        }
+        for (Sort sort : sorts) {
+            traversal.order().by(metadata.columnField(sort.property()), sort.isAscending() ? asc : desc);
+        }
+        if (!NoSQLPage.isCursor(pageable)) {
+            traversal.skip(NoSQLPage.skip(pageable));
+        }
+        List<T> entities = traversal.limit(NoSQLPage.limit(pageable))
+                .toStream()
+                .<T>map(converter()::toEntity)
                 .toList();
 
-        return NoSQLPage.of(entities, pageable);
+        return NoSQLPage.of(entities, pageable, this::count, NoSQLPage.keyset(metadata, pageable.sorts()));
     }
 
     @Override
@@ -101,16 +101,13 @@ abstract class AbstractGraphRepositoryProxy<T, K> extends AbstractRepositoryProx
         var methodName = "findBy" + parameters.keySet().stream()
                 .map(s -> s.substring(0, 1).toUpperCase() + s.substring(1))
                 .collect(Collectors.joining("And"));
-        Supplier<Stream<?>> querySupplier = () -> {
-            GraphQueryMethod queryMethod = new GraphQueryMethod(entityMetadata(),
-                    graph().traversal().V(),
-                    converters(), null, methodName, params);
-
-            return SelectQueryConverter.INSTANCE.apply(queryMethod, params)
-                    .map(converter()::toEntity);
-        };
+        Supplier<GraphQueryMethod> queryMethod = () -> new GraphQueryMethod(entityMetadata(),
+                graph().traversal().V(),
+                converters(), null, methodName, params);
+        Supplier<Stream<?>> querySupplier = () -> SelectQueryConverter.INSTANCE.apply(queryMethod.get(), params)
+                .map(converter()::toEntity);
 
-        return converter(method, type, querySupplier, params);
+        return converter(method, type, querySupplier, page(queryMethod, params), params);
     }
 
 
@@ -125,7 +122,16 @@ abstract class AbstractGraphRepositoryProxy<T, K> extends AbstractRepositoryProx
                     .map(converter()::toEntity);
         };
 
-        return converter(method, typeClass, querySupplier, args);
+        Function<Pageable, Page<?>> pageFunction = p -> {
+            GraphTraversal<Vertex, Vertex> traversal = graph().traversal().V().hasLabel(entityMetadata().name());
+            SelectQueryConverter.updatePage(args, traversal, entityMetadata(), converters());
+            List<Object> entities = traversal.toStream().map(this::toEntity).toList();
+            return NoSQLPage.of(entities, p,
+                    () -> graph().traversal().V().hasLabel(entityMetadata().name()).count().next(),
+                    NoSQLPage.keyset(entityMetadata(), DynamicReturn.findSpecialParameters(args).sorts()));
+        };
+
+        return converter(method, typeClass, querySupplier, pageFunction, args);
     }
 
     private Object existsBy(Method method, Object[] args) {
@@ -147,30 +153,36 @@ abstract class AbstractGraphRepositoryProxy<T, K> extends AbstractRepositoryProx
 
     private Object findBy(Method method, Object[] args, Class<?> typeClass) {
 
-        Supplier<Stream<?>> querySupplier = () -> {
-            GraphQueryMethod queryMethod = new GraphQueryMethod(entityMetadata(),
-                    graph().traversal().V(),
-                    converters(), method, args);
+        Supplier<GraphQueryMethod> queryMethod = () -> new GraphQueryMethod(entityMetadata(),
+                graph().traversal().V(),
+                converters(), method, args);
+        Supplier<Stream<?>> querySupplier = () -> SelectQueryConverter.INSTANCE.apply(queryMethod.get(), args)
+                .map(converter()::toEntity);
 
-            return SelectQueryConverter.INSTANCE.apply(queryMethod, args)
-                    .map(converter()::toEntity);
+        return converter(method, typeClass, querySupplier, page(queryMethod, args), args);
+    }
+
+    private Function<Pageable, Page<?>> page(Supplier<GraphQueryMethod> queryMethod, Object[] args) {
+        return p -> {
+            List<Object> entities = SelectQueryConverter.INSTANCE.page(queryMethod.get(), args)
+                    .map(this::toEntity).toList();
+            return NoSQLPage.of(entities, p, () -> CountQueryConverter.INSTANCE.apply(queryMethod.get(), args),
+                    NoSQLPage.keyset(entityMetadata(), SelectQueryConverter.INSTANCE.sorts(queryMethod.get(), args)));
         };
+    }
 
-        return converter(method, typeClass, querySupplier, args);
+    private Object toEntity(Vertex vertex) {
+        return converter().toEntity(vertex);
     }
 
     private Object converter(Method method, Class<?> typeClass,
                              Supplier<Stream<?>> querySupplier,
+                             Function<Pageable, Page<?>> pageFunction,
                              Object[] args) {
 
         Supplier<Optional<?>> singleSupplier =
                 DynamicReturn.toSingleResult(method).apply(querySupplier);
 
-        Function<Pageable, Page<?>> pageFunction = p -> {
-            List<?> entities = querySupplier.get().toList();
-            return NoSQLPage.of(entities, p);
-        };
-
         DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
                 .withClassSource(typeClass)
                 .withMethodSource(method)
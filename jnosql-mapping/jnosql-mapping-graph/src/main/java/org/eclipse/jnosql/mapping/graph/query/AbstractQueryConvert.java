@@ -22,7 +22,10 @@ import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.query.ConditionQueryValue;
 import org.eclipse.jnosql.communication.query.QueryCondition;
 import org.eclipse.jnosql.communication.query.QueryValue;
+import org.eclipse.jnosql.communication.query.SelectQuery;
 import org.eclipse.jnosql.communication.query.Where;
+import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
+import org.eclipse.jnosql.communication.query.method.SelectMethodQueryProvider;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.core.repository.RepositoryObserverParser;
 
@@ -31,6 +34,14 @@ import java.util.function.Supplier;
 
 abstract class AbstractQueryConvert {
 
+    protected SelectQuery selectQuery(GraphQueryMethod graphQuery) {
+        if(graphQuery.method() != null) {
+            return SelectMethodProvider.INSTANCE.apply(graphQuery.method(), graphQuery.entityName());
+        }
+        SelectMethodQueryProvider supplier = new SelectMethodQueryProvider();
+        return supplier.apply(graphQuery.methodName(), graphQuery.entityName());
+    }
+
 
     protected GraphTraversal<Vertex, Vertex> getPredicate(GraphQueryMethod graphQuery, QueryCondition condition,
                                                           RepositoryObserverParser parser) {
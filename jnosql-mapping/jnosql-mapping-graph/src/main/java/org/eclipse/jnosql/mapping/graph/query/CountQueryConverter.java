@@ -17,7 +17,6 @@ package org.eclipse.jnosql.mapping.graph.query;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.eclipse.jnosql.communication.query.SelectQuery;
-import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 
 import java.util.function.BiFunction;
@@ -32,7 +31,7 @@ final class CountQueryConverter extends AbstractQueryConvert implements BiFuncti
     @Override
     public Long apply(GraphQueryMethod graphQuery, Object[] params) {
 
-        SelectQuery query = SelectMethodProvider.INSTANCE.apply(graphQuery.method(), graphQuery.entityName());
+        SelectQuery query = selectQuery(graphQuery);
         EntityMetadata mapping = graphQuery.mapping();
         GraphTraversal<Vertex, Vertex> traversal = getGraphTraversal(graphQuery, query::where, mapping);
         traversal.hasLabel(mapping.name());
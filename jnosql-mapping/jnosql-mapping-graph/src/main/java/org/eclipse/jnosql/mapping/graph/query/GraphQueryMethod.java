@@ -86,6 +86,10 @@ final class GraphQueryMethod {
         return traversal;
     }
 
+    public Converters converters() {
+        return converters;
+    }
+
     public Object getValue(String name, QueryValue<?> value) {
         if (value instanceof BooleanQueryValue) {
             return BooleanQueryValue.class.cast(value).get();
@@ -60,7 +60,7 @@ class GraphRepositoryProxy<T, K> extends AbstractGraphRepositoryProxy<T, K> {
         this.graph = graph;
         this.converter = converter;
         this.entityMetadata = entities.get(typeClass);
-        this.repository = new GraphRepository(template, entityMetadata);
+        this.repository = new GraphRepository(template, entityMetadata, graph, converter, converters);
         this.template = template;
         this.converters = converters;
         this.repositoryType = repositoryType;
@@ -109,9 +109,19 @@ class GraphRepositoryProxy<T, K> extends AbstractGraphRepositoryProxy<T, K> {
 
         private final EntityMetadata entityMetadata;
 
-        GraphRepository(GraphTemplate template, EntityMetadata entityMetadata) {
+        private final Graph graph;
+
+        private final GraphConverter converter;
+
+        private final Converters converters;
+
+        GraphRepository(GraphTemplate template, EntityMetadata entityMetadata, Graph graph,
+                        GraphConverter converter, Converters converters) {
             this.template = template;
             this.entityMetadata = entityMetadata;
+            this.graph = graph;
+            this.converter = converter;
+            this.converters = converters;
         }
 
         @Override
@@ -124,5 +134,20 @@ class GraphRepositoryProxy<T, K> extends AbstractGraphRepositoryProxy<T, K> {
             return entityMetadata;
         }
 
+        @Override
+        protected Graph graph() {
+            return graph;
+        }
+
+        @Override
+        protected GraphConverter converter() {
+            return converter;
+        }
+
+        @Override
+        protected Converters converters() {
+            return converters;
+        }
+
     }
 }
@@ -15,17 +15,22 @@
 package org.eclipse.jnosql.mapping.graph.query;
 
 import jakarta.data.Sort;
+import jakarta.data.page.Pageable;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.eclipse.jnosql.communication.query.SelectQuery;
-import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
-import org.eclipse.jnosql.communication.query.method.SelectMethodQueryProvider;
+import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
+import org.eclipse.jnosql.mapping.core.util.ConverterUtil;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.core.repository.DynamicReturn;
 import org.eclipse.jnosql.mapping.core.repository.RepositoryObserverParser;
 import org.eclipse.jnosql.mapping.core.repository.SpecialParameters;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -53,12 +58,90 @@ final class SelectQueryConverter extends AbstractQueryConvert implements BiFunct
         return traversal.toStream();
     }
 
-    private SelectQuery selectQuery(GraphQueryMethod graphQuery) {
-        if(graphQuery.method() != null) {
-            return SelectMethodProvider.INSTANCE.apply(graphQuery.method(), graphQuery.entityName());
+    /**
+     * Returns the vertices of the page at the params: one vertex more than the page size to know if there is a next
+     * page, and on the cursor-based pagination the vertices after the keyset instead of skipping them.
+     */
+    Stream<Vertex> page(GraphQueryMethod graphQuery, Object[] params) {
+        SelectQuery query = selectQuery(graphQuery);
+        EntityMetadata mapping = graphQuery.mapping();
+        RepositoryObserverParser parser = RepositoryObserverParser.of(mapping);
+        GraphTraversal<Vertex, Vertex> traversal = getGraphTraversal(graphQuery, query::where, mapping);
+        traversal.hasLabel(mapping.name());
+        List<Sort> sorts = new ArrayList<>(query.orderBy());
+        updatePage(params, traversal, sorts, mapping, parser, graphQuery.converters());
+        return traversal.toStream();
+    }
+
+    /**
+     * Returns the sorts of the query method followed by the sorts at the params.
+     */
+    List<Sort> sorts(GraphQueryMethod graphQuery, Object[] params) {
+        List<Sort> sorts = new ArrayList<>(selectQuery(graphQuery).orderBy());
+        sorts.addAll(DynamicReturn.findSpecialParameters(params).sorts());
+        return sorts;
+    }
+
+    static void updatePage(Object[] args, GraphTraversal<Vertex, Vertex> traversal, EntityMetadata mapping,
+                           Converters converters) {
+        updatePage(args, traversal, new ArrayList<>(), mapping, RepositoryObserverParser.of(mapping), converters);
+    }
+
+    private static void updatePage(Object[] args, GraphTraversal<Vertex, Vertex> traversal, List<Sort> sorts,
+                                   EntityMetadata mapping, RepositoryObserverParser parser, Converters converters) {
+        SpecialParameters special = DynamicReturn.findSpecialParameters(args);
+        Pageable pageable = special.pageable().orElseThrow(() ->
+                new IllegalArgumentException("The page requires a Pageable parameter"));
+        sorts.addAll(special.sorts());
+        List<Sort> pageSorts = NoSQLPage.sorts(pageable, sorts);
+        boolean cursor = NoSQLPage.isCursor(pageable);
+        if (cursor) {
+            traversal.filter(keyset(pageSorts, pageable.cursor().orElseThrow(), mapping, parser, converters));
+        }
+        pageSorts.forEach(getSort(traversal, parser));
+        if (!cursor) {
+            traversal.skip(NoSQLPage.skip(pageable));
+        }
+        traversal.limit(NoSQLPage.limit(pageable));
+    }
+
+    /**
+     * Returns the keyset condition of the cursor, (a > ?) or (a = ? and b > ?), over the sorts, where the cursor
+     * values are converted to the database format of the fields.
+     */
+    static GraphTraversal<Vertex, Vertex> keyset(List<Sort> sorts, Pageable.Cursor cursor, EntityMetadata mapping,
+                                                 Converters converters) {
+        return keyset(sorts, cursor, mapping, RepositoryObserverParser.of(mapping), converters);
+    }
+
+    private static GraphTraversal<Vertex, Vertex> keyset(List<Sort> sorts, Pageable.Cursor cursor,
+                                                         EntityMetadata mapping, RepositoryObserverParser parser,
+                                                         Converters converters) {
+        if (sorts.isEmpty() || sorts.size() != cursor.size()) {
+            throw new IllegalArgumentException("The keyset cursor " + cursor + " must have one value per sort: "
+                    + sorts);
+        }
+        Object[] values = new Object[sorts.size()];
+        for (int index = 0; index < sorts.size(); index++) {
+            Object value = cursor.getKeysetElement(index);
+            if (value == null) {
+                throw new IllegalArgumentException("The keyset cursor " + cursor + " has a null value to the sort: "
+                        + sorts.get(index));
+            }
+            values[index] = ConverterUtil.getValue(value, mapping, sorts.get(index).property(), converters);
+        }
+        List<GraphTraversal<Vertex, Vertex>> conditions = new ArrayList<>(sorts.size());
+        for (int index = 0; index < sorts.size(); index++) {
+            GraphTraversal<Vertex, Vertex> condition = __.start();
+            for (int previous = 0; previous < index; previous++) {
+                condition.has(parser.field(sorts.get(previous).property()), P.eq(values[previous]));
+            }
+            Sort sort = sorts.get(index);
+            Object value = values[index];
+            condition.has(parser.field(sort.property()), sort.isAscending() ? P.gt(value) : P.lt(value));
+            conditions.add(condition);
         }
-        SelectMethodQueryProvider supplier = new SelectMethodQueryProvider();
-        return supplier.apply(graphQuery.methodName(), graphQuery.entityName());
+        return __.or(conditions.toArray(GraphTraversal[]::new));
     }
 
 
@@ -400,6 +400,21 @@ public abstract class AbstractGraphTemplateTest {
 
     }
 
+    @Test
+    void shouldNotWriteEntityWhenReturnEdges() {
+        Person otavio = getGraphTemplate().insert(Person.builder().withAge()
+                .withName("Otavio").build());
+        Book cleanCode = getGraphTemplate().insert(Book.builder().withName("Clean code").build());
+        EdgeEntity reads = getGraphTemplate().edge(otavio, "reads", cleanCode);
+
+        otavio.setName("Changed");
+        Collection<EdgeEntity> edges = getGraphTemplate().edges(otavio, Direction.OUT);
+
+        assertThat(edges).containsExactly(reads);
+        Optional<Person> person = getGraphTemplate().find(Person.class, otavio.getId());
+        assertThat(person).map(Person::getName).contains("Otavio");
+    }
+
     @Test
     void shouldGetTransaction() {
         Transaction transaction = getGraphTemplate().transaction();
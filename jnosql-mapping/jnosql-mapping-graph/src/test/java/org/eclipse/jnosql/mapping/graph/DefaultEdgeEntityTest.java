@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DefaultEdgeEntityTest {
+
+    private Edge edge;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        this.edge = mock(Edge.class);
+        Vertex outVertex = mock(Vertex.class);
+        Vertex inVertex = mock(Vertex.class);
+        when(outVertex.id()).thenReturn(1L);
+        when(inVertex.id()).thenReturn(2L);
+        when(edge.outVertex()).thenReturn(outVertex);
+        when(edge.inVertex()).thenReturn(inVertex);
+        when(edge.label()).thenReturn("reads");
+        this.loads = new AtomicInteger();
+    }
+
+    @Test
+    void shouldNotLoadEntitiesOnEqualsHashCodeAndToString() {
+        DefaultEdgeEntity<Object, Object> first = DefaultEdgeEntity.lazy(edge, load("book"), load("person"));
+        DefaultEdgeEntity<Object, Object> second = DefaultEdgeEntity.lazy(edge, load("book"), load("person"));
+
+        Set<EdgeEntity> edges = new HashSet<>();
+        edges.add(first);
+        edges.add(second);
+
+        assertThat(edges).hasSize(1);
+        assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+        assertThat(first.toString()).isEqualTo("1---reads --->2");
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void shouldLoadEntityOnce() {
+        DefaultEdgeEntity<Object, Object> entity = DefaultEdgeEntity.lazy(edge, load("book"), load("person"));
+
+        assertThat((Object) entity.incoming()).isEqualTo("book");
+        assertThat((Object) entity.incoming()).isEqualTo("book");
+        assertThat((Object) entity.outgoing()).isEqualTo("person");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldLoadNullEntityOnce() {
+        DefaultEdgeEntity<Object, Object> entity = DefaultEdgeEntity.lazy(edge, load(null), load("person"));
+
+        assertThat((Object) entity.incoming()).isNull();
+        assertThat((Object) entity.incoming()).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    private Supplier<Object> load(Object entity) {
+        return () -> {
+            loads.incrementAndGet();
+            return entity;
+        };
+    }
+}
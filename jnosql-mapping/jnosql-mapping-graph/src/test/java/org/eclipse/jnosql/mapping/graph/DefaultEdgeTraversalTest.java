@@ -527,4 +527,10 @@ class DefaultEdgeTraversalTest extends AbstractTraversalTest {
 
         assertEquals(6, edges.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnChunks() {
+        List<List<EdgeEntity>> chunks = graphTemplate.traversalEdge().chunks(2).toList();
+        assertThat(chunks).map(List::size).containsExactly(2, 1);
+    }
+}
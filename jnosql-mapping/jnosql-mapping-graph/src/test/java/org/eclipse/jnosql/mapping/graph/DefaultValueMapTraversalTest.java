@@ -100,4 +100,12 @@ class DefaultValueMapTraversalTest extends AbstractTraversalTest {
                 has("name", name).valueMap("name").singleResult();
         assertEquals(name, poliana.map(m -> ((List) m.get("name")).get(0)).orElse(""));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnChunks() {
+        List<List<Map<String, Object>>> chunks = graphTemplate.traversalVertex()
+                .hasLabel(Person.class).valueMap("name")
+                .chunks(2).toList();
+        assertThat(chunks).map(List::size).containsExactly(2, 1);
+    }
+}
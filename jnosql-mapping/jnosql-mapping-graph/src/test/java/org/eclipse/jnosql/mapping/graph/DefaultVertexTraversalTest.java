@@ -529,4 +529,14 @@ class DefaultVertexTraversalTest extends AbstractTraversalTest {
         assertNotNull(tree);
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldReturnChunks() {
+        List<List<Object>> chunks = graphTemplate.traversalVertex().chunks(4).toList();
+        assertThat(chunks).map(List::size).containsExactly(4, 2);
+    }
+
+    @Test
+    void shouldReturnErrorWhenChunkSizeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> graphTemplate.traversalVertex().chunks(0));
+    }
+}
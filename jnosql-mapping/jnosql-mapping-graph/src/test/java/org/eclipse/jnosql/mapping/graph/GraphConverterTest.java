@@ -34,6 +34,8 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.time.Year;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 import static java.util.Comparator.comparing;
 import static org.junit.jupiter.api.Assertions.*;
@@ -207,6 +209,75 @@ abstract class GraphConverterTest {
         assertEquals(1999L, matrix.getYear());
     }
 
+    @Test
+    public void shouldLoadEdgeEntityVerticesOnDemand() {
+        Vertex matrixVertex = getGraph().addVertex(T.label, "movie", "title", "Matrix", "movie_year", "1999");
+        Vertex adaVertex = getGraph().addVertex(T.label, "Person", "age", 22, "name", "Ada");
+        Edge edge = adaVertex.addEdge("watch", matrixVertex);
+
+        EdgeEntity edgeEntity = getConverter().toEdgeEntity(edge);
+        adaVertex.property("name", "Ada Lovelace");
+        Person ada = edgeEntity.outgoing();
+
+        assertEquals("Ada Lovelace", ada.getName());
+        assertSame(ada, edgeEntity.outgoing());
+    }
+
+    @Test
+    public void shouldShareEdgeEntityVerticesOnTheSameConverter() {
+        Vertex matrixVertex = getGraph().addVertex(T.label, "movie", "title", "Matrix", "movie_year", "1999");
+        Vertex alienVertex = getGraph().addVertex(T.label, "movie", "title", "Alien", "movie_year", "1979");
+        Vertex adaVertex = getGraph().addVertex(T.label, "Person", "age", 22, "name", "Ada");
+        Edge matrix = adaVertex.addEdge("watch", matrixVertex);
+        Edge alien = adaVertex.addEdge("watch", alienVertex);
+
+        Function<Edge, EdgeEntity> converter = getConverter().edgeEntityConverter();
+        EdgeEntity watchMatrix = converter.apply(matrix);
+        EdgeEntity watchAlien = converter.apply(alien);
+
+        assertSame(watchMatrix.outgoing(), watchAlien.outgoing());
+        assertEquals("Matrix", watchMatrix.<Movie>incoming().getTitle());
+        assertEquals("Alien", watchAlien.<Movie>incoming().getTitle());
+        assertThrows(NullPointerException.class, () -> converter.apply(null));
+    }
+
+    @Test
+    public void shouldKeepOnlyTheLastEdgeEntityVerticesOnTheSameConverter() {
+        Vertex adaVertex = getGraph().addVertex(T.label, "Person", "age", 22, "name", "Ada");
+        Function<Edge, EdgeEntity> converter = getConverter().edgeEntityConverter();
+        Edge first = adaVertex.addEdge("watch", getGraph().addVertex(T.label, "movie", "title", "Matrix"));
+        Person ada = converter.apply(first).outgoing();
+
+        for (int index = 0; index < GraphConverter.ENTITIES_WINDOW; index++) {
+            Edge edge = adaVertex.addEdge("watch", getGraph().addVertex(T.label, "movie", "title", "Movie " + index));
+            converter.apply(edge).incoming();
+        }
+
+        assertNotSame(ada, converter.apply(first).outgoing());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenToVertexIdIsNull() {
+        assertThrows(NullPointerException.class, () -> getConverter().toVertexId(null));
+    }
+
+    @Test
+    public void shouldReturnVertexIdWithoutWritingTheVertex() {
+        Vertex adaVertex = getGraph().addVertex(T.label, "Person", "age", 22, "name", "Ada");
+        Person person = Person.builder().withName("Lovelace").withAge(22).withId((Long) adaVertex.id()).build();
+
+        Optional<Object> id = getConverter().toVertexId(person);
+
+        assertEquals(Optional.of(adaVertex.id()), id);
+        assertEquals("Ada", adaVertex.value("name"));
+    }
+
+    @Test
+    public void shouldReturnEmptyVertexIdWhenIdIsNull() {
+        Person person = Person.builder().withName("Ada").withAge(22).build();
+        assertTrue(getConverter().toVertexId(person).isEmpty());
+    }
+
     @Test
     public void shouldReturnToEdgeErrorWhenIsNull() {
         assertThrows(NullPointerException.class, () -> getConverter().toEdge(null));
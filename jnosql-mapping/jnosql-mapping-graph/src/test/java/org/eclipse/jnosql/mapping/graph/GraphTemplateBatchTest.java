@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.graph.entities.Person;
+import org.eclipse.jnosql.mapping.graph.spi.GraphExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.GRAPH_TRANSACTION_AUTOMATIC;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.GRAPH_TRANSACTION_BATCH_SIZE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, Transactional.class})
+@AddPackages(BookRepository.class)
+@AddPackages(Reflections.class)
+@AddExtensions({EntityMetadataExtension.class, GraphExtension.class})
+class GraphTemplateBatchTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private GraphConverter converter;
+
+    @Inject
+    private GraphEventPersistManager persistManager;
+
+    @Inject
+    private Converters converters;
+
+    @Inject
+    private Graph graph;
+
+    private Transaction transaction;
+
+    private Instance<Graph> instance;
+
+    @BeforeEach
+    void setUp() {
+        Graph transactional = mock(Graph.class);
+        this.transaction = mock(Transaction.class);
+        when(transactional.tx()).thenReturn(transaction);
+        when(transactional.traversal()).thenAnswer(i -> graph.traversal());
+        when(transactional.vertices(any(Object[].class)))
+                .thenAnswer(i -> graph.vertices((Object[]) i.getRawArguments()[0]));
+        this.instance = mock(Instance.class);
+        when(instance.get()).thenReturn(transactional);
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(GRAPH_TRANSACTION_AUTOMATIC.get());
+        System.clearProperty(GRAPH_TRANSACTION_BATCH_SIZE.get());
+    }
+
+    @Test
+    void shouldCommitOnceOnBulkInsert() {
+        Iterable<Person> people = template().insert(people(5));
+
+        assertThat(people).hasSize(5).allMatch(p -> p.getId() != null);
+        verify(transaction, times(1)).commit();
+    }
+
+    @Test
+    void shouldCommitEveryBatchSizeOnBulkInsert() {
+        System.setProperty(GRAPH_TRANSACTION_BATCH_SIZE.get(), "2");
+
+        Iterable<Person> people = template().insert(people(5));
+
+        assertThat(people).hasSize(5);
+        verify(transaction, times(3)).commit();
+    }
+
+    @Test
+    void shouldCommitOnceOnBulkUpdate() {
+        GraphTemplate template = template();
+        List<Person> people = (List<Person>) template.insert(people(3));
+        people.forEach(p -> p.setName("Ada"));
+
+        Iterable<Person> updated = template.update(people);
+
+        assertThat(updated).hasSize(3).allMatch(p -> "Ada".equals(p.getName()));
+        verify(transaction, times(2)).commit();
+    }
+
+    @Test
+    void shouldNotCommitWhenTransactionIsNotAutomatic() {
+        System.setProperty(GRAPH_TRANSACTION_AUTOMATIC.get(), Boolean.FALSE.toString());
+
+        GraphTemplate template = template();
+        template.insert(people(3));
+        template.insert(Person.builder().withAge().withName("Ada").build());
+
+        verify(transaction, never()).commit();
+    }
+
+    private GraphTemplate template() {
+        return new DefaultGraphTemplate(instance, entities, converter, persistManager, converters);
+    }
+
+    private static List<Person> people(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> Person.builder().withAge().withName("Person " + i).build())
+                .toList();
+    }
+}
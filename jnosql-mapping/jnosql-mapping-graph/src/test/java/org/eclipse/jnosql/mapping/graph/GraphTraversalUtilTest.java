@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class GraphTraversalUtilTest {
+
+    @Test
+    void shouldReadTraversalLazily() {
+        Traversal<Object, Integer> traversal = traversal(List.of(1, 2, 3).iterator());
+
+        try (Stream<Integer> stream = GraphTraversalUtil.stream(traversal)) {
+            assertThat(stream.findFirst()).contains(1);
+        }
+        verify(traversal).next();
+    }
+
+    @Test
+    void shouldCloseTraversalWhenStreamCloses() throws Exception {
+        Traversal<Object, Integer> traversal = traversal(List.of(1, 2, 3).iterator());
+
+        Stream<Integer> stream = GraphTraversalUtil.stream(traversal);
+        stream.close();
+
+        verify(traversal).close();
+    }
+
+    @Test
+    void shouldReturnChunks() {
+        AtomicInteger read = new AtomicInteger();
+        Stream<Integer> source = Stream.of(1, 2, 3, 4, 5).peek(i -> read.incrementAndGet());
+
+        Iterator<List<Integer>> chunks = GraphTraversalUtil.chunks(source, 2).iterator();
+
+        assertThat(chunks.next()).containsExactly(1, 2);
+        assertThat(read).hasValue(2);
+        assertThat(chunks.next()).containsExactly(3, 4);
+        assertThat(chunks.next()).containsExactly(5);
+        assertThat(chunks.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldCloseSourceWhenChunksClose() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Integer> source = Stream.of(1, 2, 3).onClose(() -> closed.set(true));
+
+        GraphTraversalUtil.chunks(source, 2).close();
+
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldReturnErrorWhenChunkSizeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> GraphTraversalUtil.chunks(Stream.of(1), 0));
+        assertThrows(IllegalArgumentException.class, () -> GraphTraversalUtil.chunks(Stream.of(1), -1));
+    }
+
+    @Test
+    void shouldCloseSourceWhenChunkSizeIsNotPositive() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Integer> source = Stream.of(1, 2, 3).onClose(() -> closed.set(true));
+
+        assertThrows(IllegalArgumentException.class, () -> GraphTraversalUtil.chunks(source, 0));
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldNotOpenTraversalWhenChunkSizeIsNotPositive() {
+        VertexTraversal vertices = mock(VertexTraversal.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+        EdgeTraversal edges = mock(EdgeTraversal.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+        ValueMapTraversal maps = mock(ValueMapTraversal.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+
+        assertThrows(IllegalArgumentException.class, () -> vertices.chunks(0));
+        assertThrows(IllegalArgumentException.class, () -> edges.chunks(0));
+        assertThrows(IllegalArgumentException.class, () -> maps.chunks(-1));
+        verify(vertices, never()).result();
+        verify(edges, never()).stream();
+        verify(maps, never()).stream();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Traversal<Object, Integer> traversal(Iterator<Integer> iterator) {
+        Traversal<Object, Integer> traversal = mock(Traversal.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+        when(traversal.hasNext()).thenAnswer(i -> iterator.hasNext());
+        when(traversal.next()).thenAnswer(i -> iterator.next());
+        return traversal;
+    }
+}
@@ -209,4 +209,20 @@ class GremlinExecutorTest {
         List<String> names = people.stream().map(Person::getName).collect(toList());
         assertThat(names).contains("Bruce Banner");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldParseTheQueryOnceWithDifferentParams() {
+        GremlinScriptCache cache = new GremlinScriptCache(10);
+        GremlinExecutor cachedExecutor = new GremlinExecutor(converter, cache);
+
+        List<Person> bruce = cachedExecutor.<Person>executeGremlin(graph.traversal(),
+                "g.V().has('name', @name)", singletonMap("name", "Bruce Banner")).toList();
+        List<Person> natasha = cachedExecutor.<Person>executeGremlin(graph.traversal(),
+                "g.V().has('name', @name)", singletonMap("name", "Natasha Romanoff")).toList();
+
+        assertThat(bruce).hasSize(1).map(Person::getName).containsExactly("Bruce Banner");
+        assertThat(natasha).hasSize(1).map(Person::getName).containsExactly("Natasha Romanoff");
+        assertThat(cache.misses()).isEqualTo(1L);
+        assertThat(cache.hits()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GremlinScriptCacheTest {
+
+    @Test
+    void shouldReturnErrorWhenSizeIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new GremlinScriptCache(-1));
+    }
+
+    @Test
+    void shouldReturnErrorWhenQueryIsNull() {
+        GremlinScriptCache cache = new GremlinScriptCache(10);
+        assertThrows(NullPointerException.class, () -> cache.get(null));
+    }
+
+    @Test
+    void shouldCacheScript() {
+        GremlinScriptCache cache = new GremlinScriptCache(10);
+
+        GremlinScript script = cache.get("g.V().hasLabel(@label)");
+
+        assertThat(cache.get("g.V().hasLabel(@label)")).isSameAs(script);
+        assertThat(cache.hits()).isEqualTo(1L);
+        assertThat(cache.misses()).isEqualTo(1L);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        GremlinScriptCache cache = new GremlinScriptCache(2);
+        GremlinScript first = cache.get("g.V()");
+        cache.get("g.E()");
+        cache.get("g.V()");
+
+        cache.get("g.V().count()");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("g.V()")).isSameAs(first);
+        assertThat(cache.misses()).isEqualTo(3L);
+        cache.get("g.E()");
+        assertThat(cache.misses()).isEqualTo(4L);
+    }
+
+    @Test
+    void shouldNotCacheWhenSizeIsZero() {
+        GremlinScriptCache cache = new GremlinScriptCache(0);
+
+        cache.get("g.V()");
+        cache.get("g.V()");
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.hits()).isZero();
+        assertThat(cache.misses()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldClear() {
+        GremlinScriptCache cache = new GremlinScriptCache(10);
+        cache.get("g.V()");
+        cache.get("g.V()");
+
+        cache.clear();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.hits()).isZero();
+        assertThat(cache.misses()).isZero();
+        assertThat(cache.toString()).contains("maxSize=10");
+    }
+
+    @Test
+    void shouldReturnSharedCache() {
+        assertThat(GremlinScriptCache.shared()).isSameAs(GremlinScriptCache.shared());
+        assertThat(GremlinScriptCache.shared().maxSize()).isEqualTo(GremlinScriptCache.DEFAULT_SIZE);
+    }
+}
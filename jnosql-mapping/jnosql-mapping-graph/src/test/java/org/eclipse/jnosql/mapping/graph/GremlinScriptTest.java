@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GremlinScriptTest {
+
+    private final GraphTraversalSource g = EmptyGraph.instance().traversal();
+
+    @Test
+    void shouldReturnErrorWhenNull() {
+        assertThrows(NullPointerException.class, () -> GremlinScript.compile(null));
+        GremlinScript script = GremlinScript.compile("g.V()");
+        assertThrows(NullPointerException.class, () -> script.eval(null, Collections.emptyMap()));
+        assertThrows(NullPointerException.class, () -> script.eval(g, null));
+    }
+
+    @Test
+    void shouldReturnErrorWhenSyntaxIsInvalid() {
+        assertThrows(GremlinQueryException.class, () -> GremlinScript.compile("g.V().hasLabel("));
+    }
+
+    @Test
+    void shouldBindParamString() {
+        GremlinScript script = GremlinScript.compile("g.V().hasLabel(@param)");
+
+        Object traversal = script.eval(g, Map.of("param", "Otavio"));
+
+        assertThat(script.params()).containsExactly("param");
+        assertThat(bytecode(traversal)).isEqualTo(bytecode(g.V().hasLabel("Otavio")));
+    }
+
+    @Test
+    void shouldBindParamWithQuote() {
+        GremlinScript script = GremlinScript.compile("g.V().has('name', @name)");
+
+        Object traversal = script.eval(g, Map.of("name", "O'Neil"));
+
+        assertThat(bytecode(traversal)).isEqualTo(bytecode(g.V().has("name", "O'Neil")));
+    }
+
+    @Test
+    void shouldBindBoolean() {
+        GremlinScript script = GremlinScript.compile("g.V().hasLabel(@label).has('active', @active)");
+
+        Object traversal = script.eval(g, Map.of("label", "Otavio", "active", Boolean.TRUE));
+
+        assertThat(bytecode(traversal)).isEqualTo(bytecode(g.V().hasLabel("Otavio").has("active", true)));
+    }
+
+    @Test
+    void shouldBindNumber() {
+        GremlinScript script = GremlinScript.compile("g.V().hasLabel(@label).has('age', @age)");
+
+        Object traversal = script.eval(g, Map.of("label", "Otavio", "age", -15));
+
+        assertThat(bytecode(traversal)).isEqualTo(bytecode(g.V().hasLabel("Otavio").has("age", -15)));
+    }
+
+    @Test
+    void shouldBindTheSameParamTwice() {
+        GremlinScript script = GremlinScript.compile("g.V().hasLabel(@label).has('name', @label)");
+
+        Object traversal = script.eval(g, Map.of("label", "Otavio"));
+
+        assertThat(script.params()).containsExactly("label");
+        assertThat(bytecode(traversal)).isEqualTo(bytecode(g.V().hasLabel("Otavio").has("name", "Otavio")));
+    }
+
+    @Test
+    void shouldReuseTheScriptWithDifferentParams() {
+        GremlinScript script = GremlinScript.compile("g.V().has('age', @age)");
+
+        assertThat(bytecode(script.eval(g, Map.of("age", 10)))).isEqualTo(bytecode(g.V().has("age", 10)));
+        assertThat(bytecode(script.eval(g, Map.of("age", 20)))).isEqualTo(bytecode(g.V().has("age", 20)));
+    }
+
+    @Test
+    void shouldIgnoreAtInsideStringLiteral() {
+        GremlinScript script = GremlinScript.compile("g.V().has('email', 'otavio@jnosql.org')");
+
+        Object traversal = script.eval(g, Collections.emptyMap());
+
+        assertThat(script.params()).isEmpty();
+        assertThat(bytecode(traversal)).isEqualTo(bytecode(g.V().has("email", "otavio@jnosql.org")));
+    }
+
+    @Test
+    void shouldReturnErrorWhenParamIsMissing() {
+        GremlinScript script = GremlinScript.compile("g.V().hasLabel(@label).has('age', @age)");
+
+        assertThrows(GremlinQueryException.class, () -> script.eval(g, Map.of("label", "Otavio")));
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsMoreParams() {
+        GremlinScript script = GremlinScript.compile("g.V().hasLabel(@label)");
+
+        assertThrows(GremlinQueryException.class, () -> script.eval(g, Map.of("label", "Otavio", "age", 15)));
+    }
+
+    private static Bytecode bytecode(Object traversal) {
+        return ((GraphTraversal<?, ?>) traversal).asAdmin().getBytecode();
+    }
+}
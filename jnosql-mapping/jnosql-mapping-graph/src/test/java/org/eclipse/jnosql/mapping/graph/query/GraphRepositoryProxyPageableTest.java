@@ -186,6 +186,85 @@ class GraphRepositoryProxyPageableTest {
                 .contains(30);
     }
 
+    @Test
+    void shouldFindLastPageWithTotal() {
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 20);
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 40);
+        Page<Person> page = personRepository.findByNameOrderByAge("Otavio", Pageable.ofPage(2).size(2));
+
+        assertThat(page.content()).hasSize(1).map(Person::getAge).contains(40);
+        assertNull(page.nextPageable());
+        assertEquals(3L, page.totalElements());
+        assertEquals(2L, page.totalPages());
+    }
+
+    @Test
+    void shouldFindPageAfterKeyset() {
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 20);
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 40);
+        Page<Person> page = personRepository.findByNameOrderByAge("Otavio", Pageable.ofSize(1).afterKeyset(20));
+
+        assertThat(page.content()).hasSize(1).map(Person::getAge).contains(30);
+        assertEquals(Pageable.ofSize(1).afterKeyset(30), page.nextPageable());
+
+        page = personRepository.findByNameOrderByAge("Otavio", page.nextPageable());
+        assertThat(page.content()).hasSize(1).map(Person::getAge).contains(40);
+        assertNull(page.nextPageable());
+    }
+
+    @Test
+    void shouldFindAllAfterKeyset() {
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Poliana", "age", 20);
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 40);
+        when(template.count("Person")).thenReturn(3L);
+        Page<Person> page = personRepository.findAll(Pageable.ofSize(1).sortBy(Sort.asc("age")).afterKeyset(20));
+
+        assertThat(page.content()).hasSize(1).map(Person::getAge).contains(30);
+        assertNotNull(page.nextPageable());
+        assertEquals(3L, page.totalElements());
+    }
+
+    @Test
+    void shouldFindAllAfterKeysetOfAnotherType() {
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Poliana", "age", 20);
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 40);
+        Page<Person> page = personRepository.findAll(Pageable.ofSize(2).sortBy(Sort.asc("age")).afterKeyset(20L));
+
+        assertThat(page.content()).map(Person::getAge).containsExactly(30, 40);
+    }
+
+    @Test
+    void shouldFindAllAfterKeysetDescending() {
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Poliana", "age", 20);
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 40);
+        Page<Person> page = personRepository.findAll(Pageable.ofSize(2).sortBy(Sort.desc("age")).afterKeyset(40));
+
+        assertThat(page.content()).map(Person::getAge).containsExactly(30, 20);
+    }
+
+    @Test
+    void shouldFindPageAfterKeysetOfAnotherType() {
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 20);
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 40);
+        Page<Person> page = personRepository.findByNameOrderByAge("Otavio", Pageable.ofSize(1).afterKeyset("30"));
+
+        assertThat(page.content()).hasSize(1).map(Person::getAge).contains(40);
+    }
+
+    @Test
+    void shouldReturnErrorWhenKeysetHasNull() {
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+        Pageable pageable = Pageable.ofSize(1).sortBy(Sort.asc("age")).afterKeyset(new Object[]{null});
+
+        assertThrows(IllegalArgumentException.class, () -> personRepository.findAll(pageable));
+    }
+
     @Test
     void shouldFindByAgeOrderByName() {
         graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
@@ -22,18 +22,25 @@ import jakarta.nosql.keyvalue.KeyValueTemplate;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.mapping.core.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_BATCH_SIZE;
 
 /**
  * This class provides a skeletal implementation of the {@link KeyValueTemplate} interface,
@@ -107,14 +114,75 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
     public <K, T> Iterable<T> get(Iterable<K> keys, Class<T> type) {
         requireNonNull(keys, "keys is required");
         requireNonNull(type, "type class is required");
-        return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> getManager().get(k)
-                        .map(v -> KeyValueEntity.of(k, v)))
-                .filter(Optional::isPresent)
-                .map(e -> getConverter().toEntity(type, e.get()))
-                .collect(Collectors.toList());
+        List<K> batch = new ArrayList<>();
+        List<T> entities = new ArrayList<>();
+        int batchSize = batchSize();
+        for (K key : keys) {
+            batch.add(key);
+            if (batch.size() == batchSize) {
+                get(batch, type, entities);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            get(batch, type, entities);
+        }
+        return entities;
+    }
+
+    /**
+     * The number of keys sent at once to the {@link BucketManager} at {@link #get(Iterable, Class)},
+     * it uses the {@link MappingConfigurations#KEY_VALUE_BATCH_SIZE} property, by default, all the keys.
+     *
+     * @return the batch size
+     */
+    protected int batchSize() {
+        return MicroProfileSettings.INSTANCE.get(KEY_VALUE_BATCH_SIZE, Integer.class)
+                .filter(size -> size > 0)
+                .orElse(Integer.MAX_VALUE);
     }
 
+    /**
+     * Gets the entities of the keys in a single call to the {@link BucketManager} and matches each one back to its key
+     * by the id field. A value whose id does not match any key, e.g., an entity that does not store its id, leaves
+     * its key unknown, so the keys without a value are got one by one until as many values as the unmatched ones
+     * are found, then the remaining keys are the ones not found.
+     */
+    private <K, T> void get(List<K> keys, Class<T> type, List<T> entities) {
+        Set<Object> requested = new HashSet<>();
+        for (K key : keys) {
+            requested.add(getConverter().toKey(type, key));
+        }
+        Map<Object, T> entitiesByKey = new HashMap<>();
+        int unmatched = 0;
+        for (Value value : getManager().get(keys)) {
+            T entity = value == null ? null : value.get(type);
+            Optional<Object> key = entity == null ? Optional.empty() : getConverter().toKey(entity);
+            if (key.isPresent() && requested.contains(key.get())) {
+                entitiesByKey.putIfAbsent(key.get(), entity);
+            } else if (entity != null) {
+                unmatched++;
+            }
+        }
+        Set<Object> notFound = new HashSet<>();
+        List<T> found = new ArrayList<>();
+        for (K key : keys) {
+            Object databaseKey = getConverter().toKey(type, key);
+            T entity = entitiesByKey.get(databaseKey);
+            if (entity == null && unmatched > 0 && notFound.add(databaseKey)) {
+                entity = getManager().get(key).map(v -> v.get(type)).orElse(null);
+                if (entity != null) {
+                    entitiesByKey.put(databaseKey, entity);
+                    unmatched--;
+                }
+            }
+            if (entity != null) {
+                found.add(getConverter().toEntity(type, KeyValueEntity.of(key, entity)));
+            }
+        }
+        getEventManager().firePostEntities(found);
+        entities.addAll(found);
+    }
 
     @Override
     public <K> void delete(K key) {
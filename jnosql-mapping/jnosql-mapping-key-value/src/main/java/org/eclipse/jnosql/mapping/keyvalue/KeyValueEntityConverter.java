@@ -24,6 +24,7 @@ import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
 
@@ -77,6 +78,35 @@ public abstract class KeyValueEntityConverter {
         return bean;
     }
 
+    /**
+     * Reads the key of the entity in the same format that {@link #toKeyValue(Object)} sends to the database.
+     *
+     * @param entity the instance
+     * @return the key or {@link Optional#empty()} when the key field is null
+     * @throws NullPointerException when the entity is null
+     */
+    public Optional<Object> toKey(Object entity) {
+        requireNonNull(entity, "entity is required");
+        Class<?> type = entity.getClass();
+        Object value = getId(type).read(entity);
+        return Optional.ofNullable(value).map(v -> getKey(v, type, false));
+    }
+
+    /**
+     * Converts a key sent to the database to the same format of {@link #toKey(Object)}, thus a key given
+     * in another type, e.g., a String to a Long id, matches the key read from the entity.
+     *
+     * @param type the entity class
+     * @param key  the key
+     * @return the key in the format of {@link #toKeyValue(Object)}
+     * @throws NullPointerException when there is null parameter
+     */
+    public Object toKey(Class<?> type, Object key) {
+        requireNonNull(type, "type is required");
+        requireNonNull(key, "key is required");
+        return getKey(getKey(key, type, true), type, false);
+    }
+
     private <T> Object getKey(Object key, Class<T> type, boolean toEntity) {
         FieldMetadata id = getId(type);
         if (id.converter().isPresent()) {
@@ -15,41 +15,14 @@
 package org.eclipse.jnosql.mapping.keyvalue;
 
 
-import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
-
 import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.enterprise.event.Event;
-import jakarta.inject.Inject;
-import org.eclipse.jnosql.mapping.EntityPostPersist;
-import org.eclipse.jnosql.mapping.EntityPrePersist;
+import org.eclipse.jnosql.mapping.core.AbstractEventPersistManager;
 
+/**
+ * The manager of events of the {@link AbstractKeyValueTemplate}.
+ *
+ * @see AbstractEventPersistManager
+ */
 @ApplicationScoped
-public class KeyValueEventPersistManager {
-
-    @Inject
-    private Event<EntityPrePersist> entityPrePersistEvent;
-
-    @Inject
-    private Event<EntityPostPersist> entityPostPersistEvent;
-
-    /**
-     * Fire an event once the method is called
-     *
-     * @param entity the entity
-     * @param <T>    the entity type
-     */
-    public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
-    }
-
-    /**
-     * Fire an event after convert the {@link KeyValueEntity},
-     * from database response, to Entity.
-     *
-     * @param entity the entity
-     * @param <T>    the entity kind
-     */
-    public <T> void firePostEntity(T entity) {
-        entityPostPersistEvent.fire(EntityPostPersist.of(entity));
-    }
+public class KeyValueEventPersistManager extends AbstractEventPersistManager {
 }
@@ -52,6 +52,7 @@ import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.KEY_VALUE_BATCH_SIZE;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
 
@@ -232,19 +233,123 @@ class DefaultKeyValueTemplateTest {
     void shouldGetIterable() {
         User user = new User(KEY, "otavio", 27);
 
-        when(manager.get(KEY)).thenReturn(Optional.of(Value.of(user)));
+        when(manager.get(Mockito.<Iterable<String>>any())).thenReturn(List.of(Value.of(user)));
         List<User> userOptional = stream(template.get(singletonList(KEY), User.class).spliterator(), false)
                 .toList();
 
         assertFalse(userOptional.isEmpty());
         assertEquals(user, userOptional.get(0));
+        Mockito.verify(manager, Mockito.never()).get(KEY);
+    }
+
+    @Test
+    void shouldGetIterableInTheKeysOrder() {
+        User ada = new User("ada", "Ada", 30);
+        User poliana = new User("poliana", "Poliana", 25);
+        User otavio = new User(KEY, "otavio", 27);
+
+        when(manager.get(Mockito.<Iterable<String>>any()))
+                .thenReturn(List.of(Value.of(otavio), Value.of(ada), Value.of(poliana)));
+        List<User> users = stream(template.get(List.of("poliana", "ada", "unknown", KEY), User.class)
+                .spliterator(), false).toList();
+
+        assertThat(users).containsExactly(poliana, ada, otavio);
+    }
+
+    @Test
+    void shouldGetIterableInBatches() {
+        User ada = new User("ada", "Ada", 30);
+        User poliana = new User("poliana", "Poliana", 25);
+        User otavio = new User(KEY, "otavio", 27);
+
+        when(manager.get(Mockito.<Iterable<String>>any()))
+                .thenReturn(List.of(Value.of(poliana), Value.of(ada)))
+                .thenReturn(List.of(Value.of(otavio)));
+        System.setProperty(KEY_VALUE_BATCH_SIZE.get(), "2");
+        try {
+            List<User> users = stream(template.get(List.of("ada", "poliana", KEY), User.class)
+                    .spliterator(), false).toList();
+
+            assertThat(users).containsExactly(ada, poliana, otavio);
+            Mockito.verify(manager, Mockito.times(2)).get(Mockito.<Iterable<String>>any());
+        } finally {
+            System.clearProperty(KEY_VALUE_BATCH_SIZE.get());
+        }
+    }
+
+    @Test
+    void shouldGetIterableWithKeysOfAnotherType() {
+        Person ada = Person.builder().withId(1L).withName("Ada").build();
+        Person poliana = Person.builder().withId(2L).withName("Poliana").build();
+
+        when(manager.get(Mockito.<Iterable<String>>any())).thenReturn(List.of(Value.of(poliana), Value.of(ada)));
+        List<Person> people = stream(template.get(List.of("1", "2"), Person.class).spliterator(), false)
+                .toList();
+
+        assertThat(people).containsExactly(ada, poliana);
+    }
+
+    @Test
+    void shouldGetOneEntityPerKey() {
+        User otavio = new User(KEY, "otavio", 27);
+
+        when(manager.get(Mockito.<Iterable<String>>any())).thenReturn(List.of(Value.of(otavio)));
+        List<User> users = stream(template.get(List.of(KEY, KEY), User.class).spliterator(), false)
+                .toList();
+
+        assertThat(users).containsExactly(otavio, otavio);
+    }
+
+    @Test
+    void shouldWriteTheKeyOnGetIterable() {
+        User withoutKey = new User(null, "otavio", 27);
+
+        when(manager.get(Mockito.<Iterable<String>>any())).thenReturn(List.of(Value.of(withoutKey)));
+        when(manager.get(KEY)).thenReturn(Optional.of(Value.of(withoutKey)));
+        when(manager.get("unknown")).thenReturn(Optional.empty());
+        List<User> users = stream(template.get(List.of("unknown", KEY), User.class).spliterator(), false)
+                .toList();
+
+        assertThat(users).containsExactly(new User(KEY, "otavio", 27));
+    }
+
+    @Test
+    void shouldReadEachValueOnceOnGetIterable() {
+        User otavio = new User(KEY, "otavio", 27);
+        Value value = Mockito.mock(Value.class);
+        when(value.get(User.class)).thenReturn(otavio);
+
+        when(manager.get(Mockito.<Iterable<String>>any())).thenReturn(List.of(value));
+        List<User> users = stream(template.get(List.of(KEY), User.class).spliterator(), false)
+                .toList();
+
+        assertThat(users).containsExactly(otavio);
+        Mockito.verify(value).get(User.class);
+    }
+
+    @Test
+    void shouldGetOnlyTheUnmatchedKeysOneByOne() {
+        User withoutKey = new User(null, "otavio", 27);
+        User ada = new User("ada", "Ada", 30);
+
+        when(manager.get(Mockito.<Iterable<String>>any()))
+                .thenReturn(List.of(Value.of(withoutKey), Value.of(ada)));
+        when(manager.get(KEY)).thenReturn(Optional.of(Value.of(new User(null, "otavio", 27))));
+        List<User> users = stream(template.get(List.of("ada", KEY, "unknown", "other"), User.class)
+                .spliterator(), false).toList();
+
+        assertThat(users).containsExactly(ada, new User(KEY, "otavio", 27));
+        Mockito.verify(manager, Mockito.never()).get("ada");
+        Mockito.verify(manager).get(KEY);
+        Mockito.verify(manager, Mockito.never()).get("unknown");
+        Mockito.verify(manager, Mockito.never()).get("other");
     }
 
     @Test
     void shouldReturnEmptyIterable() {
         User user = new User(KEY, "otavio", 27);
 
-        when(manager.get(KEY)).thenReturn(Optional.empty());
+        when(manager.get(Mockito.<Iterable<String>>any())).thenReturn(List.of());
         List<User> userOptional = stream(template.get(singletonList(KEY), User.class).spliterator(), false)
                 .toList();
 
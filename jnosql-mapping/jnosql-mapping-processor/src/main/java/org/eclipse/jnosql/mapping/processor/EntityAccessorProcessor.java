@@ -0,0 +1,278 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The annotation processor that generates, for each type annotated with {@code jakarta.nosql.Entity},
+ * {@code org.eclipse.jnosql.mapping.Embeddable} or {@code org.eclipse.jnosql.mapping.MappedSuperclass},
+ * the implementation of {@code org.eclipse.jnosql.mapping.reflection.EntityAccessors} at the same package,
+ * e.g., {@code org.acme.Person_JNoSQLAccessors}, where a nested class keeps the '$' of its binary name, e.g.,
+ * {@code org.acme.Person$Address_JNoSQLAccessors}, so it never clashes with another class. The generated class reads and writes the fields annotated with
+ * {@code jakarta.nosql.Id} or {@code jakarta.nosql.Column} and calls the constructors directly:
+ * <ul>
+ *     <li>A non-private field is read and written at the field</li>
+ *     <li>Every non-private constructor of a concrete class creates a new instance</li>
+ * </ul>
+ * The mapping accesses the fields, not the getters and setters, thus a private field is not generated,
+ * and the mapping uses the runtime accessors for it.
+ */
+@SupportedAnnotationTypes({EntityIndexProcessor.ENTITY, EntityIndexProcessor.EMBEDDABLE,
+        EntityAccessorProcessor.MAPPED_SUPERCLASS})
+public final class EntityAccessorProcessor extends AbstractProcessor {
+
+    /**
+     * The suffix of the generated class name
+     */
+    public static final String SUFFIX = "_JNoSQLAccessors";
+
+    static final String MAPPED_SUPERCLASS = "org.eclipse.jnosql.mapping.MappedSuperclass";
+
+    private static final Set<String> FIELDS = Set.of("jakarta.nosql.Id", "jakarta.nosql.Column");
+
+    private static final String ACCESSORS = "org.eclipse.jnosql.mapping.reflection.EntityAccessors";
+
+    private static final String READER = "org.eclipse.jnosql.mapping.reflection.FieldReader";
+
+    private static final String WRITER = "org.eclipse.jnosql.mapping.reflection.FieldWriter";
+
+    private static final String SUPPLIER = "org.eclipse.jnosql.mapping.reflection.InstanceSupplier";
+
+    private static final String FACTORY = "org.eclipse.jnosql.mapping.reflection.InstanceFactory";
+
+    private static final Map<TypeKind, String> DESCRIPTORS = Map.of(TypeKind.BOOLEAN, "Z", TypeKind.BYTE, "B",
+            TypeKind.CHAR, "C", TypeKind.SHORT, "S", TypeKind.INT, "I", TypeKind.LONG, "J", TypeKind.FLOAT, "F",
+            TypeKind.DOUBLE, "D");
+
+    private final Set<String> generated = new HashSet<>();
+
+    private Elements elements;
+
+    private Types types;
+
+    private Filer filer;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement type && isAccessible(type)
+                        && generated.add(type.getQualifiedName().toString())) {
+                    write(type);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void write(TypeElement type) {
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        String simpleName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1) + SUFFIX;
+        String name = packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+        try (Writer writer = filer.createSourceFile(name, type).openWriter()) {
+            writer.write(source(type, packageName, simpleName));
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "It is not possible to write the accessors " + name + ": " + exception.getMessage(), type);
+        }
+    }
+
+    private String source(TypeElement type, String packageName, String simpleName) {
+        String entity = type.getQualifiedName().toString();
+        List<VariableElement> fields = ElementFilter.fieldsIn(type.getEnclosedElements()).stream()
+                .filter(field -> !field.getModifiers().contains(Modifier.STATIC))
+                .filter(field -> !field.getModifiers().contains(Modifier.PRIVATE))
+                .filter(this::isMapped)
+                .toList();
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * The accessors of {@link ").append(entity)
+                .append("} generated by the ").append(getClass().getName()).append(".\n */\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(simpleName).append(" implements ").append(ACCESSORS)
+                .append(" {\n\n");
+
+        source.append("    @Override\n    public java.util.Optional<").append(READER)
+                .append("> reader(java.lang.String field) {\n        return switch (field) {\n");
+        for (VariableElement field : fields) {
+            source.append("            case \"").append(field.getSimpleName()).append("\" -> java.util.Optional.<")
+                    .append(READER).append(">of(bean -> ((").append(entity).append(") bean).")
+                    .append(field.getSimpleName()).append(");\n");
+        }
+        source.append("            default -> java.util.Optional.empty();\n        };\n    }\n\n");
+
+        source.append("    @Override\n    public java.util.Optional<").append(WRITER)
+                .append("> writer(java.lang.String field) {\n        return switch (field) {\n");
+        for (VariableElement field : fields) {
+            if (!field.getModifiers().contains(Modifier.FINAL)) {
+                source.append("            case \"").append(field.getSimpleName()).append("\" -> java.util.Optional.<")
+                        .append(WRITER).append(">of((bean, value) -> ((").append(entity).append(") bean).")
+                        .append(field.getSimpleName()).append(" = (").append(typeName(field.asType()))
+                        .append(") value);\n");
+            }
+        }
+        source.append("            default -> java.util.Optional.empty();\n        };\n    }\n\n");
+
+        List<ExecutableElement> constructors = type.getModifiers().contains(Modifier.ABSTRACT) ? List.of()
+                : ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .filter(constructor -> !constructor.getModifiers().contains(Modifier.PRIVATE))
+                .toList();
+
+        source.append("    @Override\n    public java.util.Optional<").append(SUPPLIER)
+                .append("> instanceSupplier() {\n");
+        if (constructors.stream().anyMatch(constructor -> constructor.getParameters().isEmpty())) {
+            source.append("        return java.util.Optional.<").append(SUPPLIER).append(">of(() -> new ")
+                    .append(entity).append("());\n");
+        } else {
+            source.append("        return java.util.Optional.empty();\n");
+        }
+        source.append("    }\n\n");
+
+        source.append("    @Override\n    public java.util.Optional<").append(FACTORY)
+                .append("> instanceFactory(java.lang.String parameters) {\n        return switch (parameters) {\n");
+        for (ExecutableElement constructor : constructors) {
+            List<? extends VariableElement> parameters = constructor.getParameters();
+            String key = parameters.stream().map(parameter -> className(parameter.asType()))
+                    .collect(Collectors.joining(","));
+            StringBuilder arguments = new StringBuilder();
+            for (int index = 0; index < parameters.size(); index++) {
+                arguments.append(index == 0 ? "" : ", ").append('(')
+                        .append(typeName(parameters.get(index).asType())).append(") params[").append(index)
+                        .append(']');
+            }
+            source.append("            case \"").append(key).append("\" -> java.util.Optional.<").append(FACTORY)
+                    .append(">of(params -> new ").append(entity).append('(').append(arguments).append("));\n");
+        }
+        source.append("            default -> java.util.Optional.empty();\n        };\n    }\n}\n");
+        return source.toString();
+    }
+
+    private boolean isMapped(VariableElement field) {
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            if (FIELDS.contains(((TypeElement) annotation.getAnnotationType().asElement())
+                    .getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAccessible(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.RECORD) {
+            return false;
+        }
+        Element element = type;
+        while (element instanceof TypeElement current) {
+            NestingKind nesting = current.getNestingKind();
+            if (current.getModifiers().contains(Modifier.PRIVATE) || nesting == NestingKind.LOCAL
+                    || nesting == NestingKind.ANONYMOUS || isInner(current)) {
+                return false;
+            }
+            element = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private boolean isInner(TypeElement type) {
+        return type.getNestingKind() == NestingKind.MEMBER && type.getKind() == ElementKind.CLASS
+                && !type.getModifiers().contains(Modifier.STATIC)
+                && !type.getEnclosingElement().getKind().isInterface();
+    }
+
+    /**
+     * The name of the erased type at the source code, e.g., {@code java.util.List} or {@code int[]}.
+     */
+    private String typeName(TypeMirror type) {
+        TypeMirror erasure = types.erasure(type);
+        if (erasure instanceof ArrayType array) {
+            return typeName(array.getComponentType()) + "[]";
+        }
+        if (erasure instanceof DeclaredType declared) {
+            return ((TypeElement) declared.asElement()).getQualifiedName().toString();
+        }
+        return erasure.getKind().name().toLowerCase(Locale.US);
+    }
+
+    /**
+     * The name of the erased type as {@link Class#getName()}, e.g., {@code java.util.List} or {@code [I}.
+     */
+    private String className(TypeMirror type) {
+        TypeMirror erasure = types.erasure(type);
+        if (erasure instanceof ArrayType array) {
+            return "[" + descriptor(array.getComponentType());
+        }
+        if (erasure instanceof DeclaredType declared) {
+            return elements.getBinaryName((TypeElement) declared.asElement()).toString();
+        }
+        return erasure.getKind().name().toLowerCase(Locale.US);
+    }
+
+    private String descriptor(TypeMirror type) {
+        TypeMirror erasure = types.erasure(type);
+        if (erasure instanceof ArrayType array) {
+            return "[" + descriptor(array.getComponentType());
+        }
+        if (erasure instanceof DeclaredType declared) {
+            return "L" + elements.getBinaryName((TypeElement) declared.asElement()) + ";";
+        }
+        return DESCRIPTORS.get(erasure.getKind());
+    }
+}
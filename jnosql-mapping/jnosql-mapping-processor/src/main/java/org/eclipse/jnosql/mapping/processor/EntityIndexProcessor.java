@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The annotation processor that writes the {@link #INDEX} file with the types annotated with
+ * {@code jakarta.nosql.Entity}, {@code org.eclipse.jnosql.mapping.Embeddable} and
+ * {@code jakarta.data.repository.Repository}. Each line has the kind and the binary name of the type, e.g.:
+ * <pre>entity org.acme.Person</pre>
+ * On an incremental compilation, it keeps the types of the previous index that still exist with the annotation.
+ * When an application uses the index, every module with entities or repositories should use this processor,
+ * because the scanner reads only the index instead of the classpath.
+ */
+@SupportedAnnotationTypes({EntityIndexProcessor.ENTITY, EntityIndexProcessor.EMBEDDABLE,
+        EntityIndexProcessor.REPOSITORY})
+public final class EntityIndexProcessor extends AbstractProcessor {
+
+    /**
+     * The location of the index at the classpath
+     */
+    public static final String INDEX = "META-INF/jnosql/entity.index";
+
+    static final String ENTITY = "jakarta.nosql.Entity";
+
+    static final String EMBEDDABLE = "org.eclipse.jnosql.mapping.Embeddable";
+
+    static final String REPOSITORY = "jakarta.data.repository.Repository";
+
+    private static final Map<String, String> KINDS = Map.of(ENTITY, "entity", EMBEDDABLE, "embeddable",
+            REPOSITORY, "repository");
+
+    private final Map<String, String> types = new TreeMap<>();
+
+    private Elements elements;
+
+    private Filer filer;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.filer = processingEnv.getFiler();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            String kind = KINDS.get(annotation.getQualifiedName().toString());
+            if (kind == null) {
+                continue;
+            }
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement type) {
+                    types.put(elements.getBinaryName(type).toString(), kind);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !types.isEmpty()) {
+            write();
+        }
+        return false;
+    }
+
+    private void write() {
+        Map<String, String> index = new TreeMap<>(previous());
+        index.putAll(types);
+        try {
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, String> entry : index.entrySet()) {
+                    writer.write(entry.getValue() + ' ' + entry.getKey() + '\n');
+                }
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "It is not possible to write the " + INDEX + ": " + exception.getMessage());
+        }
+    }
+
+    private Map<String, String> previous() {
+        Map<String, String> index = new TreeMap<>();
+        try {
+            FileObject resource = filer.getResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+            try (Reader reader = new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8);
+                 BufferedReader lines = new BufferedReader(reader)) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    String[] values = line.trim().split(" ");
+                    if (values.length == 2 && isAnnotated(values[1], values[0])) {
+                        index.put(values[1], values[0]);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException exception) {
+            //there is no previous index
+        }
+        return index;
+    }
+
+    private boolean isAnnotated(String name, String kind) {
+        TypeElement type = elements.getTypeElement(name.replace('$', '.'));
+        if (type == null) {
+            return false;
+        }
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            String annotationName = ((TypeElement) annotation.getAnnotationType().asElement())
+                    .getQualifiedName().toString();
+            if (kind.equals(KINDS.get(annotationName))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
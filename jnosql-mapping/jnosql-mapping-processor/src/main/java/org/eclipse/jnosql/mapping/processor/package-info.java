@@ -0,0 +1,24 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+/**
+ * The annotation processor that records, at compile time, the entities, embeddables and repositories
+ * into an index, thus the mapping does not need to scan the classpath at the start, and that generates
+ * the accessors of the entities, thus the mapping does not need reflection to read and write them.
+ *
+ * @see org.eclipse.jnosql.mapping.processor.EntityIndexProcessor
+ * @see org.eclipse.jnosql.mapping.processor.EntityAccessorProcessor
+ */
+package org.eclipse.jnosql.mapping.processor;
@@ -0,0 +1,190 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import org.eclipse.jnosql.mapping.reflection.EntityAccessors;
+import org.eclipse.jnosql.mapping.reflection.FieldWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EntityAccessorProcessorTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldReadAndWriteFields() throws Exception {
+        Path sources = Files.createDirectories(directory.resolve("src/org/acme"));
+        Files.writeString(sources.resolve("Person.java"), """
+                package org.acme;
+                @jakarta.nosql.Entity
+                public class Person {
+                    @jakarta.nosql.Id
+                    String id;
+                    @jakarta.nosql.Column
+                    int age;
+                    @jakarta.nosql.Column
+                    final java.util.List<String> phones = new java.util.ArrayList<>();
+                    @jakarta.nosql.Column
+                    private String name;
+                    public String getName() {
+                        return name;
+                    }
+                    public void setName(String name) {
+                        this.name = name.trim();
+                    }
+                }
+                """);
+
+        try (URLClassLoader loader = compile(sources.resolve("Person.java"))) {
+            EntityAccessors accessors = accessors(loader, "org.acme.Person");
+            Object person = accessors.instanceSupplier().orElseThrow().get();
+            FieldWriter id = accessors.writer("id").orElseThrow();
+            FieldWriter age = accessors.writer("age").orElseThrow();
+
+            id.write(person, "Ada");
+            age.write(person, 10);
+
+            assertThat(accessors.reader("id").orElseThrow().read(person)).isEqualTo("Ada");
+            assertThat(accessors.reader("age").orElseThrow().read(person)).isEqualTo(10);
+            assertThatThrownBy(() -> age.write(person, "invalid")).isInstanceOf(ClassCastException.class);
+            assertThatThrownBy(() -> accessors.reader("age").orElseThrow().read("invalid"))
+                    .isInstanceOf(ClassCastException.class);
+            assertThat(accessors.reader("phones")).isPresent();
+            assertThat(accessors.writer("phones")).isEmpty();
+            assertThat(accessors.reader("name")).isEmpty();
+            assertThat(accessors.writer("name")).isEmpty();
+            assertThat(accessors.reader("unknown")).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldCreateRecord() throws Exception {
+        Path sources = Files.createDirectories(directory.resolve("src/org/acme"));
+        Files.writeString(sources.resolve("Book.java"), """
+                package org.acme;
+                @jakarta.nosql.Entity
+                public record Book(@jakarta.nosql.Id String isbn, @jakarta.nosql.Column int edition,
+                                   @jakarta.nosql.Column String[] authors) {
+                }
+                """);
+
+        try (URLClassLoader loader = compile(sources.resolve("Book.java"))) {
+            EntityAccessors accessors = accessors(loader, "org.acme.Book");
+            Object book = accessors.instanceFactory("java.lang.String,int,[Ljava.lang.String;").orElseThrow()
+                    .apply(new Object[]{"123", 2, new String[]{"Ada"}});
+
+            assertThat(book.toString()).contains("123");
+            assertThat(accessors.reader("edition")).isEmpty();
+            assertThat(accessors.reader("isbn")).isEmpty();
+            assertThat(accessors.writer("edition")).isEmpty();
+            assertThat(accessors.instanceSupplier()).isEmpty();
+            assertThat(accessors.instanceFactory("java.lang.String")).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldGenerateNestedClass() throws Exception {
+        Path sources = Files.createDirectories(directory.resolve("src/org/acme"));
+        Files.writeString(sources.resolve("Person.java"), """
+                package org.acme;
+                public class Person {
+                    @org.eclipse.jnosql.mapping.Embeddable
+                    public static class Address {
+                        @jakarta.nosql.Column
+                        String city;
+                    }
+                    @org.eclipse.jnosql.mapping.Embeddable
+                    private static class Hidden {
+                    }
+                }
+                """);
+
+        try (URLClassLoader loader = compile(sources.resolve("Person.java"))) {
+            EntityAccessors accessors = accessors(loader, "org.acme.Person$Address");
+            Object address = accessors.instanceSupplier().orElseThrow().get();
+            accessors.writer("city").orElseThrow().write(address, "Salvador");
+
+            assertThat(accessors.reader("city").orElseThrow().read(address)).isEqualTo("Salvador");
+            assertThat(directory.resolve("classes/org/acme/Person$Hidden" + EntityAccessorProcessor.SUFFIX
+                    + ".class")).doesNotExist();
+        }
+    }
+
+    @Test
+    void shouldNotClashNestedClassWithTopLevelClass() throws Exception {
+        Path sources = Files.createDirectories(directory.resolve("src/org/acme"));
+        Files.writeString(sources.resolve("Outer.java"), """
+                package org.acme;
+                public class Outer {
+                    @jakarta.nosql.Entity
+                    public static class Inner {
+                        @jakarta.nosql.Column
+                        String name;
+                    }
+                }
+                """);
+        Files.writeString(sources.resolve("Outer_Inner.java"), """
+                package org.acme;
+                @jakarta.nosql.Entity
+                public class Outer_Inner {
+                    @jakarta.nosql.Column
+                    Integer age;
+                }
+                """);
+
+        try (URLClassLoader loader = compile(sources.resolve("Outer.java"), sources.resolve("Outer_Inner.java"))) {
+            EntityAccessors nested = accessors(loader, "org.acme.Outer$Inner");
+            EntityAccessors topLevel = accessors(loader, "org.acme.Outer_Inner");
+
+            assertThat(nested.reader("name")).isPresent();
+            assertThat(nested.reader("age")).isEmpty();
+            assertThat(topLevel.reader("age")).isPresent();
+            assertThat(topLevel.reader("name")).isEmpty();
+        }
+    }
+
+    private URLClassLoader compile(Path... sources) throws IOException {
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        String classpath = classes + System.getProperty("path.separator") + System.getProperty("java.class.path");
+        List<String> arguments = new ArrayList<>(List.of("-d", classes.toString(), "-classpath", classpath,
+                "-processor", EntityAccessorProcessor.class.getName(), "-implicit:none"));
+        for (Path source : sources) {
+            arguments.add(source.toString());
+        }
+        int result = compiler.run(null, null, null, arguments.toArray(String[]::new));
+        assertThat(result).isZero();
+        return new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private EntityAccessors accessors(ClassLoader loader, String name) throws ReflectiveOperationException {
+        return (EntityAccessors) loader.loadClass(name + EntityAccessorProcessor.SUFFIX).getConstructor()
+                .newInstance();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityIndexProcessorTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldWriteIndex() throws IOException {
+        Path sources = Files.createDirectories(directory.resolve("src/org/acme"));
+        Files.writeString(sources.resolve("Person.java"), """
+                package org.acme;
+                @jakarta.nosql.Entity
+                public class Person {
+                    @org.eclipse.jnosql.mapping.Embeddable
+                    public static class Address {
+                    }
+                }
+                """);
+        Files.writeString(sources.resolve("People.java"), """
+                package org.acme;
+                @jakarta.data.repository.Repository
+                public interface People extends jakarta.data.repository.CrudRepository<Person, String> {
+                }
+                """);
+        Files.writeString(sources.resolve("Other.java"), """
+                package org.acme;
+                public class Other {
+                }
+                """);
+
+        compile(sources.resolve("Person.java"), sources.resolve("People.java"), sources.resolve("Other.java"));
+
+        assertThat(index()).containsExactly("repository org.acme.People", "entity org.acme.Person",
+                "embeddable org.acme.Person$Address");
+    }
+
+    @Test
+    void shouldKeepPreviousIndexOnIncrementalCompilation() throws IOException {
+        Path sources = Files.createDirectories(directory.resolve("src/org/acme"));
+        Files.writeString(sources.resolve("Person.java"), """
+                package org.acme;
+                @jakarta.nosql.Entity
+                public class Person {
+                }
+                """);
+        Files.writeString(sources.resolve("Book.java"), """
+                package org.acme;
+                @jakarta.nosql.Entity
+                public class Book {
+                }
+                """);
+        compile(sources.resolve("Person.java"), sources.resolve("Book.java"));
+
+        Files.writeString(sources.resolve("Book.java"), """
+                package org.acme;
+                public class Book {
+                }
+                """);
+        Files.writeString(sources.resolve("Animal.java"), """
+                package org.acme;
+                @jakarta.nosql.Entity
+                public class Animal {
+                }
+                """);
+        compile(sources.resolve("Book.java"), sources.resolve("Animal.java"));
+
+        assertThat(index()).containsExactly("entity org.acme.Animal", "entity org.acme.Person");
+    }
+
+    @Test
+    void shouldNotWriteIndexWhenThereIsNoType() throws IOException {
+        Path sources = Files.createDirectories(directory.resolve("src/org/acme"));
+        Files.writeString(sources.resolve("Other.java"), """
+                package org.acme;
+                public class Other {
+                }
+                """);
+
+        compile(sources.resolve("Other.java"));
+
+        assertThat(directory.resolve("classes").resolve(EntityIndexProcessor.INDEX)).doesNotExist();
+    }
+
+    private void compile(Path... sources) throws IOException {
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        String classpath = classes + System.getProperty("path.separator") + System.getProperty("java.class.path");
+        List<String> arguments = new ArrayList<>(List.of("-d", classes.toString(), "-classpath", classpath,
+                "-processor", EntityIndexProcessor.class.getName(), "-implicit:none"));
+        for (Path source : sources) {
+            arguments.add(source.toString());
+        }
+        int result = compiler.run(null, null, null, arguments.toArray(String[]::new));
+        assertThat(result).isZero();
+    }
+
+    private List<String> index() throws IOException {
+        return Files.readAllLines(directory.resolve("classes").resolve(EntityIndexProcessor.INDEX));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ServiceLoader;
+
+/**
+ * The strategy that creates the operations to read and write the fields of an entity and to create a new instance.
+ * The default implementation uses the {@link EntityAccessors} generated at compile time, and for the classes
+ * without them it uses {@link java.lang.invoke.MethodHandle}, falling back to reflection
+ * when the field or constructor cannot be unreflected.
+ * A different implementation might be provided through the {@link ServiceLoader} mechanism.
+ */
+public interface AccessorStrategy {
+
+    /**
+     * Creates the reader of the field, the field is accessible already.
+     *
+     * @param field the field
+     * @return the {@link FieldReader} instance
+     */
+    FieldReader reader(Field field);
+
+    /**
+     * Creates the writer of the field, the field is accessible already.
+     *
+     * @param field the field
+     * @return the {@link FieldWriter} instance
+     */
+    FieldWriter writer(Field field);
+
+    /**
+     * Creates the supplier of new instances from the constructor without parameters.
+     *
+     * @param constructor the constructor
+     * @return the {@link InstanceSupplier} instance
+     */
+    InstanceSupplier instanceSupplier(Constructor<?> constructor);
+
+    /**
+     * Creates the factory of new instances from the constructor with parameters, the constructor is accessible already.
+     * By default, it uses {@link Constructor#newInstance(Object...)}.
+     *
+     * @param constructor the constructor
+     * @return the {@link InstanceFactory} instance
+     */
+    default InstanceFactory instanceFactory(Constructor<?> constructor) {
+        return params -> Reflections.newInstance(constructor, params);
+    }
+
+    /**
+     * Loads the {@link AccessorStrategy} implementation using the ServiceLoader mechanism,
+     * when there is no implementation it returns the {@link java.lang.invoke.MethodHandle} one.
+     *
+     * @return An instance of the loaded {@link AccessorStrategy} implementation.
+     */
+    static AccessorStrategy load() {
+        return ServiceLoader.load(AccessorStrategy.class).findFirst()
+                .orElseGet(GeneratedAccessorStrategy::new);
+    }
+}
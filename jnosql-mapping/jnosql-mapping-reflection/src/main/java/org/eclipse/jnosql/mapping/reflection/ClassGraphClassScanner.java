@@ -16,133 +16,93 @@ package org.eclipse.jnosql.mapping.reflection;
 
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
-import jakarta.data.exceptions.MappingException;
-import jakarta.data.repository.BasicRepository;
-import jakarta.data.repository.CrudRepository;
 import jakarta.data.repository.DataRepository;
-import jakarta.data.repository.PageableRepository;
 import jakarta.data.repository.Repository;
 import jakarta.nosql.Entity;
 import org.eclipse.jnosql.mapping.Embeddable;
 import org.eclipse.jnosql.mapping.metadata.ClassScanner;
 
-import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-
-import static java.util.Collections.unmodifiableSet;
-import static java.util.stream.Collectors.toUnmodifiableSet;
 
 /**
  * Scanner classes that will load entities with both Entity and Embeddable
  * annotations and repositories: interfaces that extend DataRepository
  * and has the Repository annotation.
+ * When the {@link ScanSettings#PACKAGES} property is defined, it scans only those packages.
  */
 enum ClassGraphClassScanner implements ClassScanner {
 
     INSTANCE;
 
-    private final Set<Class<?>> entities;
-    private final Set<Class<?>> repositories;
-    private final Set<Class<?>> embeddables;
+    private final ScannedClasses classes;
 
 
     ClassGraphClassScanner() {
-        entities = new HashSet<>();
-        embeddables = new HashSet<>();
-        repositories = new HashSet<>();
-
         Logger logger = Logger.getLogger(ClassGraphClassScanner.class.getName());
         logger.fine("Starting scan class to find entities, embeddable and repositories.");
-        try (ScanResult result = new ClassGraph().enableAllInfo().scan()) {
-            checkInvalidRepositories(loadInvalidRepositories(result));
-            this.entities.addAll(loadEntities(result));
-            this.embeddables.addAll(loadEmbeddable(result));
-            this.repositories.addAll(loadRepositories(result));
+        try (ScanResult result = accept(new ClassGraph().enableAllInfo()).scan()) {
+            this.classes = ScannedClasses.of(loadEntities(result), loadEmbeddable(result), loadRepositories(result));
         }
         logger.fine(String.format("Finished the class scan with entities %d, embeddables %d and repositories: %d"
-                , entities.size(), embeddables.size(), repositories.size()));
+                , classes.entities().size(), classes.embeddables().size(), classes.repositories().size()));
 
     }
 
 
     @Override
     public Set<Class<?>> entities() {
-        return unmodifiableSet(entities);
+        return classes.entities();
     }
 
-  @Override
+    @Override
     public Set<Class<?>> repositories() {
-        return unmodifiableSet(repositories);
+        return classes.repositories();
     }
 
 
-   @Override
+    @Override
     public Set<Class<?>> embeddables() {
-        return unmodifiableSet(embeddables);
+        return classes.embeddables();
     }
 
     @Override
     public <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Class<T> filter) {
-        Objects.requireNonNull(filter, "filter is required");
-        return repositories.stream().filter(filter::isAssignableFrom)
-                .filter(c -> Arrays.asList(c.getInterfaces()).contains(filter))
-                .collect(toUnmodifiableSet());
+        return classes.repositories(filter);
     }
 
 
     @Override
     public Set<Class<?>> repositoriesStandard() {
-        return repositories.stream()
-                .filter(c -> {
-                    List<Class<?>> interfaces = Arrays.asList(c.getInterfaces());
-                    return interfaces.contains(CrudRepository.class)
-                            || interfaces.contains(PageableRepository.class)
-                            || interfaces.contains(BasicRepository.class)
-                            || interfaces.contains(DataRepository.class);
-                }).collect(Collectors.toUnmodifiableSet());
-    }
-
-
-    @SuppressWarnings("rawtypes")
-    private static List<Class<DataRepository>> loadRepositories(ScanResult scan) {
-        return scan.getClassesWithAnnotation(Repository.class)
-                .getInterfaces()
-                .loadClasses(DataRepository.class)
-                .stream().filter(RepositoryFilter.INSTANCE)
-                .toList();
+        return classes.repositoriesStandard();
     }
 
-    @SuppressWarnings("rawtypes")
-    private static void checkInvalidRepositories(List<Class<DataRepository>> classes) {
-        if (!classes.isEmpty()) {
-            String repositories = classes.stream()
-                    .map(Class::getName)
-                    .collect(Collectors.joining(","));
-            throw new MappingException("The following repositories are invalid because the Entities must have the " +
-                    jakarta.nosql.Entity.class.getName() + " annotation: " + repositories);
+    /**
+     * Restricts the scan to the {@link ScanSettings#PACKAGES} property when it is defined.
+     *
+     * @param classGraph the class graph
+     * @return the same class graph
+     */
+    static ClassGraph accept(ClassGraph classGraph) {
+        List<String> packages = ScanSettings.packages();
+        if (!packages.isEmpty()) {
+            classGraph.acceptPackages(packages.toArray(String[]::new));
         }
+        return classGraph;
     }
 
-
-    @SuppressWarnings("rawtypes")
-    private static List<Class<DataRepository>> loadInvalidRepositories(ScanResult scan) {
+    static List<Class<?>> loadRepositories(ScanResult scan) {
         return scan.getClassesWithAnnotation(Repository.class)
                 .getInterfaces()
-                .loadClasses(DataRepository.class)
-                .stream().filter(RepositoryFilter.INSTANCE::isInvalid)
-                .toList();
+                .loadClasses();
     }
 
-    private static List<Class<?>> loadEmbeddable(ScanResult scan) {
+    static List<Class<?>> loadEmbeddable(ScanResult scan) {
         return scan.getClassesWithAnnotation(Embeddable.class).loadClasses();
     }
 
-    private static List<Class<?>> loadEntities(ScanResult scan) {
+    static List<Class<?>> loadEntities(ScanResult scan) {
         return scan.getClassesWithAnnotation(Entity.class).loadClasses();
     }
 }
@@ -26,19 +26,27 @@ final class ConstructorMetadataBuilder {
 
     private final Reflections reflections;
 
+    private final AccessorStrategy accessorStrategy;
+
     ConstructorMetadataBuilder(Reflections reflections) {
+        this(reflections, AccessorStrategy.load());
+    }
+
+    ConstructorMetadataBuilder(Reflections reflections, AccessorStrategy accessorStrategy) {
         this.reflections = reflections;
+        this.accessorStrategy = accessorStrategy;
     }
 
     <T> ConstructorMetadata build(Class<T> entity) {
         Constructor<T> constructor = reflections.getConstructor(entity);
         if (constructor.getParameterCount() == 0) {
-            return new DefaultConstructorMetadata(constructor, Collections.emptyList());
+            return new DefaultConstructorMetadata(constructor, Collections.emptyList(),
+                    accessorStrategy.instanceFactory(constructor));
         }
 
         List<ParameterMetaData> parameters = Stream.of(constructor.getParameters())
                 .map(ParameterMetaDataBuilder::of)
                 .toList();
-        return new DefaultConstructorMetadata(constructor, parameters);
+        return new DefaultConstructorMetadata(constructor, parameters, accessorStrategy.instanceFactory(constructor));
     }
 }
@@ -15,28 +15,25 @@
 package org.eclipse.jnosql.mapping.reflection;
 
 import jakarta.data.exceptions.MappingException;
-import jakarta.enterprise.event.Event;
-import jakarta.enterprise.inject.Instance;
-import jakarta.enterprise.inject.spi.CDI;
-import jakarta.enterprise.util.TypeLiteral;
 import org.eclipse.jnosql.mapping.metadata.ConstructorBuilder;
 import org.eclipse.jnosql.mapping.metadata.ConstructorMetadata;
 import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
 final class DefaultConstructorBuilder implements ConstructorBuilder {
 
-    private final List<Object> values = new ArrayList<>();
+    private final Object[] values;
 
     private final ConstructorMetadata metadata;
 
+    private int size;
+
     private DefaultConstructorBuilder(ConstructorMetadata metadata) {
         this.metadata = metadata;
+        this.values = new Object[metadata.parameters().size()];
     }
 
 
@@ -47,28 +44,21 @@ final class DefaultConstructorBuilder implements ConstructorBuilder {
 
     @Override
     public void add(Object value) {
-        this.values.add(value);
+        if (size == values.length) {
+            throw new MappingException("The constructor " + metadata + " has " + values.length
+                    + " parameters, it is not possible to add the value: " + value);
+        }
+        this.values[size++] = value;
     }
 
     @Override
     public void addEmptyParameter() {
-        this.values.add(null);
+        add(null);
     }
 
     @Override
     public <T> T build() {
-        Constructor<?> constructor = ((DefaultConstructorMetadata) metadata).constructor();
-
-        try {
-            Instance<Event<ConstructorEvent>> instance = CDI.current().select(new TypeLiteral<>() {
-            });
-            Event<ConstructorEvent> event = instance.get();
-            event.fire(ConstructorEvent.of(constructor, values.toArray()));
-            return (T) constructor.newInstance(values.toArray());
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            throw new MappingException("There is an issue to create a new instance of this class" +
-                    " using this constructor: " + constructor, e);
-        }
+        return ((DefaultConstructorMetadata) metadata).newInstance(values);
     }
 
     @Override
@@ -80,18 +70,18 @@ final class DefaultConstructorBuilder implements ConstructorBuilder {
             return false;
         }
         DefaultConstructorBuilder that = (DefaultConstructorBuilder) o;
-        return Objects.equals(values, that.values) && Objects.equals(metadata, that.metadata);
+        return Arrays.equals(values, that.values) && Objects.equals(metadata, that.metadata);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(values, metadata);
+        return 31 * Arrays.hashCode(values) + Objects.hashCode(metadata);
     }
 
     @Override
     public String toString() {
         return "ConstructorBuilder{" +
-                "values=" + values +
+                "values=" + Arrays.toString(values) +
                 ", metadata=" + metadata +
                 '}';
     }
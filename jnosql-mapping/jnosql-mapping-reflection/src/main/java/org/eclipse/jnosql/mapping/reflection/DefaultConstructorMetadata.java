@@ -14,16 +14,112 @@
  */
 package org.eclipse.jnosql.mapping.reflection;
 
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.CDI;
+import jakarta.enterprise.util.TypeLiteral;
 import org.eclipse.jnosql.mapping.metadata.ConstructorMetadata;
 import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
 
 import java.lang.reflect.Constructor;
 import java.util.List;
-record DefaultConstructorMetadata(Constructor<?> constructor,
-                                  List<ParameterMetaData> parameters) implements ConstructorMetadata {
+import java.util.Objects;
 
+/**
+ * The {@link ConstructorMetadata} that keeps the {@link InstanceFactory} of the constructor.
+ * The {@link ConstructorEvent} observers are resolved once, at the first instance created,
+ * thus the event is only fired when there is an observer.
+ */
+final class DefaultConstructorMetadata implements ConstructorMetadata {
+
+    private final Constructor<?> constructor;
+
+    private final List<ParameterMetaData> parameters;
+
+    private final InstanceFactory factory;
+
+    private volatile boolean resolved;
+
+    private volatile Event<ConstructorEvent> event;
+
+    DefaultConstructorMetadata(Constructor<?> constructor, List<ParameterMetaData> parameters,
+                               InstanceFactory factory) {
+        this.constructor = constructor;
+        this.parameters = parameters;
+        this.factory = factory;
+    }
+
+    /**
+     * @return the constructor
+     */
+    Constructor<?> constructor() {
+        return constructor;
+    }
+
+    @Override
+    public List<ParameterMetaData> parameters() {
+        return parameters;
+    }
+
+    @Override
     public boolean isDefault() {
         return parameters.isEmpty();
     }
 
+    /**
+     * Creates a new instance, it fires the {@link ConstructorEvent} when there is an observer.
+     *
+     * @param params the parameters in the constructor order
+     * @param <T>    the entity type
+     * @return the new instance
+     */
+    @SuppressWarnings("unchecked")
+    <T> T newInstance(Object[] params) {
+        if (!resolved) {
+            resolveEvent();
+        }
+        Event<ConstructorEvent> constructorEvent = this.event;
+        if (constructorEvent != null) {
+            constructorEvent.fire(ConstructorEvent.of(constructor, params.clone()));
+        }
+        return (T) factory.apply(params);
+    }
+
+    private synchronized void resolveEvent() {
+        if (resolved) {
+            return;
+        }
+        CDI<Object> cdi = CDI.current();
+        BeanManager beanManager = cdi.getBeanManager();
+        if (!beanManager.resolveObserverMethods(ConstructorEvent.of(constructor, new Object[0])).isEmpty()) {
+            this.event = cdi.select(new TypeLiteral<Event<ConstructorEvent>>() {
+            }).get();
+        }
+        this.resolved = true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DefaultConstructorMetadata that = (DefaultConstructorMetadata) o;
+        return Objects.equals(constructor, that.constructor) && Objects.equals(parameters, that.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(constructor, parameters);
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultConstructorMetadata[" +
+                "constructor=" + constructor +
+                ", parameters=" + parameters +
+                ']';
+    }
 }
@@ -25,6 +25,7 @@ import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.GroupEntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 
+import java.util.Collection;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -48,6 +49,7 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
 
     private final  Map<String, EntityMetadata> findByClassName;
 
+    private volatile Map<Class<?>, Map<String, InheritanceMetadata>> inheritances = Map.of();
 
     private final ClassConverter converter;
 
@@ -70,6 +72,7 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
             findBySimpleName.put(r.simpleName(), r);
             findByClassName.put(r.className(), r);
         });
+        this.inheritances = inheritances(classes.values());
     }
 
     EntityMetadata load(Class<?> type) {
@@ -80,6 +83,11 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
         this.findBySimpleName.put(type.getSimpleName(), metadata);
         this.findByClassName.put(type.getName(), metadata);
         this.classes.put(type, metadata);
+        if (metadata.inheritance().isPresent()) {
+            synchronized (this) {
+                this.inheritances = inheritances(classes.values());
+            }
+        }
         return metadata;
     }
 
@@ -95,10 +103,7 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
     @Override
     public Map<String, InheritanceMetadata> findByParentGroupByDiscriminatorValue(Class<?> parent) {
         Objects.requireNonNull(parent, "parent is required");
-        return this.classes.values().stream()
-                .flatMap(c -> c.inheritance().stream())
-                .filter(p -> p.isParent(parent))
-                .collect(Collectors.toMap(InheritanceMetadata::discriminatorValue, Function.identity()));
+        return this.inheritances.getOrDefault(parent, Map.of());
     }
 
     @Override
@@ -109,6 +114,19 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
 
     }
 
+    @Override
+    public Optional<EntityMetadata> findByAnyName(String name) {
+        Objects.requireNonNull(name, "name is required");
+        EntityMetadata metadata = mappings.get(name.toUpperCase(Locale.US));
+        if (metadata == null) {
+            metadata = findBySimpleName.get(name);
+        }
+        if (metadata == null) {
+            metadata = findByClassName.get(name);
+        }
+        return Optional.ofNullable(metadata);
+    }
+
     @Override
     public Optional<EntityMetadata> findBySimpleName(String name) {
         Objects.requireNonNull(name, "name is required");
@@ -121,6 +139,17 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
         return Optional.ofNullable(findByClassName.get(name));
     }
 
+    /**
+     * Groups the inheritance of the entities by the parent and then by the discriminator value,
+     * thus the lookup at each polymorphic entity is a single hash lookup.
+     */
+    private static Map<Class<?>, Map<String, InheritanceMetadata>> inheritances(Collection<EntityMetadata> entities) {
+        return Map.copyOf(entities.stream()
+                .flatMap(c -> c.inheritance().stream())
+                .collect(Collectors.groupingBy(InheritanceMetadata::parent,
+                        Collectors.toUnmodifiableMap(InheritanceMetadata::discriminatorValue, Function.identity()))));
+    }
+
     @Override
     public String toString() {
         return "DefaultEntitiesMetadata{" + "mappings-size=" + mappings.size() +
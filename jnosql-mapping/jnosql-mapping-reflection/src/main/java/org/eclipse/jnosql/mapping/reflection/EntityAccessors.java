@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.util.Optional;
+
+/**
+ * The accessors of a class generated at compile time by the {@code jnosql-mapping-processor} annotation processor,
+ * where each operation calls the field, the getter, the setter or the constructor directly instead of reflection.
+ * The generated class has the binary name of the class plus the {@link #SUFFIX}, e.g.,
+ * {@code org.acme.Person_JNoSQLAccessors} and {@code org.acme.Person$Address_JNoSQLAccessors} to a nested class.
+ * When an operation is not generated, e.g., a private field without getter, it returns {@link Optional#empty()},
+ * and the mapping falls back to the runtime accessors.
+ *
+ * @see GeneratedAccessorStrategy
+ */
+public interface EntityAccessors {
+
+    /**
+     * The suffix of the generated class name
+     */
+    String SUFFIX = "_JNoSQLAccessors";
+
+    /**
+     * Returns the reader of the field declared at the class.
+     *
+     * @param field the field name
+     * @return the reader or {@link Optional#empty()} when it was not generated
+     */
+    Optional<FieldReader> reader(String field);
+
+    /**
+     * Returns the writer of the field declared at the class.
+     *
+     * @param field the field name
+     * @return the writer or {@link Optional#empty()} when it was not generated
+     */
+    Optional<FieldWriter> writer(String field);
+
+    /**
+     * Returns the supplier of new instances from the constructor without parameters.
+     *
+     * @return the supplier or {@link Optional#empty()} when it was not generated
+     */
+    Optional<InstanceSupplier> instanceSupplier();
+
+    /**
+     * Returns the factory of new instances from the constructor with the parameters.
+     *
+     * @param parameters the {@link Class#getName()} of the constructor parameter types, separated by comma
+     * @return the factory or {@link Optional#empty()} when it was not generated
+     */
+    Optional<InstanceFactory> instanceFactory(String parameters);
+}
@@ -0,0 +1,210 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ScanResult;
+import jakarta.data.repository.DataRepository;
+import jakarta.data.repository.Repository;
+import jakarta.nosql.Entity;
+import org.eclipse.jnosql.mapping.Embeddable;
+import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The {@link ClassScanner} that reads the entity index generated at compile time by the
+ * {@code jnosql-mapping-processor} annotation processor, instead of scanning the whole classpath: only the classpath
+ * roots without an index are scanned.
+ * Each line of the index has the kind, either entity, embeddable or repository, and the binary name of the class.
+ */
+enum EntityIndexClassScanner implements ClassScanner {
+
+    INSTANCE;
+
+    /**
+     * The location of the index at the classpath
+     */
+    static final String INDEX = "META-INF/jnosql/entity.index";
+
+    private static final Logger LOGGER = Logger.getLogger(EntityIndexClassScanner.class.getName());
+
+    private final ScannedClasses classes;
+
+    EntityIndexClassScanner() {
+        ClassLoader loader = Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+                .orElseGet(EntityIndexClassScanner.class::getClassLoader);
+        this.classes = load(loader).orElse(null);
+    }
+
+    /**
+     * @return true when there is at least one index at the classpath
+     */
+    boolean exists() {
+        return classes != null;
+    }
+
+    @Override
+    public Set<Class<?>> entities() {
+        return classes.entities();
+    }
+
+    @Override
+    public Set<Class<?>> repositories() {
+        return classes.repositories();
+    }
+
+    @Override
+    public Set<Class<?>> embeddables() {
+        return classes.embeddables();
+    }
+
+    @Override
+    public <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Class<T> filter) {
+        return classes.repositories(filter);
+    }
+
+    @Override
+    public Set<Class<?>> repositoriesStandard() {
+        return classes.repositoriesStandard();
+    }
+
+    /**
+     * Reads all the indexes at the class loader, and scans with the ClassGraph library the classpath roots
+     * without an index, such as the modules built without the {@code jnosql-mapping-processor}.
+     *
+     * @param loader the class loader
+     * @return the classes of the indexes and of the roots without an index or {@link Optional#empty()}
+     * when there is no index
+     */
+    static Optional<ScannedClasses> load(ClassLoader loader) {
+        try {
+            Enumeration<URL> resources = loader.getResources(INDEX);
+            if (!resources.hasMoreElements()) {
+                return Optional.empty();
+            }
+            List<Class<?>> entities = new ArrayList<>();
+            List<Class<?>> embeddables = new ArrayList<>();
+            List<Class<?>> repositories = new ArrayList<>();
+            Set<String> roots = new HashSet<>();
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                LOGGER.fine(() -> "Reading the entity index " + resource);
+                roots.add(root(resource));
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(),
+                        StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        String[] values = line.trim().split(" ");
+                        if (values.length != 2) {
+                            continue;
+                        }
+                        Optional<Class<?>> type = loadClass(values[1], loader);
+                        if (type.isEmpty()) {
+                            continue;
+                        }
+                        switch (values[0]) {
+                            case "entity" -> entities.add(type.get());
+                            case "embeddable" -> embeddables.add(type.get());
+                            case "repository" -> repositories.add(type.get());
+                            default -> LOGGER.fine(() -> "Ignoring the unknown kind at the entity index: " + values[0]);
+                        }
+                    }
+                }
+            }
+            scan(roots, entities, embeddables, repositories);
+            return Optional.of(ScannedClasses.of(entities, embeddables, repositories));
+        } catch (IOException exception) {
+            throw new UncheckedIOException("It is not possible to read the entity index " + INDEX, exception);
+        }
+    }
+
+    private static void scan(Set<String> roots, List<Class<?>> entities, List<Class<?>> embeddables,
+                             List<Class<?>> repositories) {
+        ClassGraph classGraph = ClassGraphClassScanner.accept(new ClassGraph()
+                .enableClassInfo()
+                .enableAnnotationInfo()
+                .ignoreClassVisibility()
+                .filterClasspathElementsByURL(url -> !roots.contains(root(url))));
+        try (ScanResult result = classGraph.scan()) {
+            Set<String> scanned = Stream.of(Entity.class, Embeddable.class, Repository.class)
+                    .flatMap(annotation -> result.getClassesWithAnnotation(annotation).stream())
+                    .map(ClassInfo::getClasspathElementURL)
+                    .map(EntityIndexClassScanner::root)
+                    .collect(Collectors.toCollection(TreeSet::new));
+            if (!scanned.isEmpty()) {
+                LOGGER.warning(() -> "The following classpath roots do not have the entity index " + INDEX
+                        + ", thus they were scanned, build them with the jnosql-mapping-processor to skip the scan: "
+                        + String.join(", ", scanned));
+            }
+            entities.addAll(ClassGraphClassScanner.loadEntities(result));
+            embeddables.addAll(ClassGraphClassScanner.loadEmbeddable(result));
+            repositories.addAll(ClassGraphClassScanner.loadRepositories(result));
+        }
+    }
+
+    /**
+     * Returns the classpath root, either a directory or a jar, of either an index or a classpath element
+     *
+     * @param url the location of either the index or the classpath element
+     * @return the root as a path
+     */
+    static String root(URL url) {
+        String location = url.toExternalForm();
+        if (location.endsWith(INDEX)) {
+            location = location.substring(0, location.length() - INDEX.length());
+        }
+        if (location.startsWith("jar:")) {
+            location = location.substring("jar:".length());
+        }
+        while (location.endsWith("/") || location.endsWith("!")) {
+            location = location.substring(0, location.length() - 1);
+        }
+        try {
+            return Path.of(URI.create(location)).toString();
+        } catch (IllegalArgumentException | FileSystemNotFoundException exception) {
+            return location;
+        }
+    }
+
+    private static Optional<Class<?>> loadClass(String name, ClassLoader loader) {
+        try {
+            return Optional.of(Class.forName(name, false, loader));
+        } catch (ClassNotFoundException | LinkageError exception) {
+            LOGGER.log(Level.WARNING, "The class " + name + " at the entity index was not found", exception);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * The {@link AccessorStrategy} that uses the {@link EntityAccessors} generated at compile time,
+ * and for the classes or the members without generated accessors it uses the {@link MethodHandleAccessorStrategy}.
+ */
+final class GeneratedAccessorStrategy implements AccessorStrategy {
+
+    private static final Logger LOGGER = Logger.getLogger(GeneratedAccessorStrategy.class.getName());
+
+    private static final ClassValue<Optional<EntityAccessors>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Optional<EntityAccessors> computeValue(Class<?> type) {
+            return load(type);
+        }
+    };
+
+    private final AccessorStrategy fallback = new MethodHandleAccessorStrategy();
+
+    @Override
+    public FieldReader reader(Field field) {
+        return ACCESSORS.get(field.getDeclaringClass())
+                .flatMap(accessors -> accessors.reader(field.getName()))
+                .<FieldReader>map(reader -> bean -> read(reader, field, bean))
+                .orElseGet(() -> fallback.reader(field));
+    }
+
+    @Override
+    public FieldWriter writer(Field field) {
+        return ACCESSORS.get(field.getDeclaringClass())
+                .flatMap(accessors -> accessors.writer(field.getName()))
+                .<FieldWriter>map(writer -> (bean, value) -> write(writer, field, bean, value))
+                .orElseGet(() -> fallback.writer(field));
+    }
+
+    @Override
+    public InstanceSupplier instanceSupplier(Constructor<?> constructor) {
+        if (constructor.getParameterCount() > 0) {
+            return fallback.instanceSupplier(constructor);
+        }
+        return ACCESSORS.get(constructor.getDeclaringClass())
+                .flatMap(EntityAccessors::instanceSupplier)
+                .orElseGet(() -> fallback.instanceSupplier(constructor));
+    }
+
+    @Override
+    public InstanceFactory instanceFactory(Constructor<?> constructor) {
+        String parameters = Arrays.stream(constructor.getParameterTypes()).map(Class::getName)
+                .collect(Collectors.joining(","));
+        return ACCESSORS.get(constructor.getDeclaringClass())
+                .flatMap(accessors -> accessors.instanceFactory(parameters))
+                .<InstanceFactory>map(factory -> params -> newInstance(factory, constructor, params))
+                .orElseGet(() -> fallback.instanceFactory(constructor));
+    }
+
+    private static Object read(FieldReader reader, Field field, Object bean) {
+        try {
+            return reader.read(bean);
+        } catch (RuntimeException exception) {
+            throw new MappingException("There is an issue to read the field " + field + " from " + bean, exception);
+        }
+    }
+
+    private static void write(FieldWriter writer, Field field, Object bean, Object value) {
+        try {
+            writer.write(bean, value);
+        } catch (RuntimeException exception) {
+            throw new MappingException("There is an issue to write the value " + value + " at the field " + field,
+                    exception);
+        }
+    }
+
+    private static Object newInstance(InstanceFactory factory, Constructor<?> constructor, Object[] params) {
+        try {
+            return factory.apply(params);
+        } catch (RuntimeException exception) {
+            throw new MappingException("There is an issue to create a new instance of this class" +
+                    " using this constructor: " + constructor, exception);
+        }
+    }
+
+    private static Optional<EntityAccessors> load(Class<?> type) {
+        String name = type.getName() + EntityAccessors.SUFFIX;
+        try {
+            Class<?> accessors = Class.forName(name, true, type.getClassLoader());
+            return Optional.of((EntityAccessors) accessors.getConstructor().newInstance());
+        } catch (ClassNotFoundException exception) {
+            return Optional.empty();
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError exception) {
+            LOGGER.log(Level.WARNING, "It is not possible to load the generated accessors " + name, exception);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.util.function.Function;
+
+/**
+ * A piece of operations within a class. This class does the new instance creation from a constructor with
+ * parameters, where the array has one value per parameter in the constructor order.
+ * It throws {@link jakarta.data.exceptions.MappingException} when it is not possible to create the instance.
+ */
+public interface InstanceFactory extends Function<Object[], Object> {
+
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The {@link AccessorStrategy} that unreflects the field and the constructor into a {@link MethodHandle} once,
+ * thus each read or write does not have the access check of the reflection.
+ * When it is not possible to unreflect, e.g., a record field or a constructor without access,
+ * it uses the {@link ReflectionAccessorStrategy}.
+ */
+final class MethodHandleAccessorStrategy implements AccessorStrategy {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleAccessorStrategy.class.getName());
+
+    private static final MethodType READER = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType WRITER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType SUPPLIER = MethodType.methodType(Object.class);
+
+    private static final MethodType FACTORY = MethodType.methodType(Object.class, Object[].class);
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    private final ReflectionAccessorStrategy fallback = new ReflectionAccessorStrategy();
+
+    @Override
+    public FieldReader reader(Field field) {
+        try {
+            MethodHandle getter = lookup.unreflectGetter(field).asType(READER);
+            return bean -> read(getter, bean);
+        } catch (IllegalAccessException exception) {
+            LOGGER.log(Level.FINEST, "It is not possible to unreflect the getter of the field " + field, exception);
+            return fallback.reader(field);
+        }
+    }
+
+    @Override
+    public FieldWriter writer(Field field) {
+        try {
+            MethodHandle setter = lookup.unreflectSetter(field).asType(WRITER);
+            return (bean, value) -> write(setter, bean, value);
+        } catch (IllegalAccessException exception) {
+            LOGGER.log(Level.FINEST, "It is not possible to unreflect the setter of the field " + field, exception);
+            return fallback.writer(field);
+        }
+    }
+
+    @Override
+    public InstanceSupplier instanceSupplier(Constructor<?> constructor) {
+        if (constructor.getParameterCount() > 0) {
+            return fallback.instanceSupplier(constructor);
+        }
+        try {
+            MethodHandle handle = lookup.unreflectConstructor(constructor).asType(SUPPLIER);
+            return () -> newInstance(handle);
+        } catch (IllegalAccessException exception) {
+            LOGGER.log(Level.FINEST, "It is not possible to unreflect the constructor " + constructor, exception);
+            return fallback.instanceSupplier(constructor);
+        }
+    }
+
+    @Override
+    public InstanceFactory instanceFactory(Constructor<?> constructor) {
+        try {
+            MethodHandle handle = lookup.unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(FACTORY);
+            return params -> newInstance(handle, constructor, params);
+        } catch (IllegalAccessException exception) {
+            LOGGER.log(Level.FINEST, "It is not possible to unreflect the constructor " + constructor, exception);
+            return fallback.instanceFactory(constructor);
+        }
+    }
+
+    private static Object read(MethodHandle getter, Object bean) {
+        try {
+            return (Object) getter.invokeExact(bean);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable exception) {
+            LOGGER.log(Level.FINEST, "There is an issue with returning value from this field.", exception);
+            return null;
+        }
+    }
+
+    private static void write(MethodHandle setter, Object bean, Object value) {
+        try {
+            setter.invokeExact(bean, value);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable exception) {
+            LOGGER.log(Level.FINEST, "There is an issue with setting value from this field.", exception);
+        }
+    }
+
+    private static Object newInstance(MethodHandle handle) {
+        try {
+            return (Object) handle.invokeExact();
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable exception) {
+            LOGGER.log(Level.FINEST, "There is an issue to creating an entity from this constructor", exception);
+            return null;
+        }
+    }
+
+    private static Object newInstance(MethodHandle handle, Constructor<?> constructor, Object[] params) {
+        try {
+            return (Object) handle.invokeExact(params);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable exception) {
+            throw new MappingException("There is an issue to create a new instance of this class" +
+                    " using this constructor: " + constructor, exception);
+        }
+    }
+}
@@ -43,10 +43,12 @@ public final class ReflectionClassConverter implements ClassConverter {
 
     private final Reflections reflections;
     private final ConstructorMetadataBuilder constructorMetadataBuilder;
+    private final AccessorStrategy accessorStrategy;
 
     public ReflectionClassConverter() {
         this.reflections = new Reflections();
-        this.constructorMetadataBuilder = new ConstructorMetadataBuilder(reflections);
+        this.accessorStrategy = AccessorStrategy.load();
+        this.constructorMetadataBuilder = new ConstructorMetadataBuilder(reflections, accessorStrategy);
     }
 
 
@@ -71,7 +73,7 @@ public final class ReflectionClassConverter implements ClassConverter {
 
 
         Constructor<?> constructor = reflections.getConstructor(entity);
-        InstanceSupplier instanceSupplier = () -> reflections.newInstance(constructor);
+        InstanceSupplier instanceSupplier = accessorStrategy.instanceSupplier(constructor);
         InheritanceMetadata inheritance = reflections.getInheritance(entity).orElse(null);
         boolean hasInheritanceAnnotation = reflections.hasInheritanceAnnotation(entity);
 
@@ -179,8 +181,8 @@ public final class ReflectionClassConverter implements ClassConverter {
 
         FieldMappingBuilder builder = new FieldMappingBuilder().withName(columnName)
                 .withField(field).withType(mappingType).withId(id)
-                .withReader(bean -> reflections.getValue(bean, field))
-                .withWriter( (bean, value) -> reflections.setValue(bean, field, value));
+                .withReader(accessorStrategy.reader(field))
+                .withWriter(accessorStrategy.writer(field));
 
         if (nonNull(convert)) {
             builder.withConverter(convert.value());
@@ -20,33 +20,43 @@ import org.eclipse.jnosql.mapping.metadata.ClassScanner;
 import java.util.Set;
 
 /**
- * A class that implements the {@link ClassScanner} interface using the ClassGraph library for class scanning.
+ * A class that implements the {@link ClassScanner} interface, it reads the entity index generated at compile time
+ * by the {@code jnosql-mapping-processor} annotation processor and scans with the ClassGraph library only the
+ * classpath roots without an index. When there is no index, or the {@code jnosql.scan.index.ignore} property is true,
+ * it uses the ClassGraph library for the whole class scanning.
  * This class provides methods to scan for different types of classes such as entities, repositories, and embeddables.
  */
 public final class ReflectionClassScanner implements ClassScanner {
 
     @Override
     public Set<Class<?>> entities() {
-        return ClassGraphClassScanner.INSTANCE.entities();
+        return scanner().entities();
     }
 
     @Override
     public Set<Class<?>> repositories() {
-        return ClassGraphClassScanner.INSTANCE.repositories();
+        return scanner().repositories();
     }
 
     @Override
     public Set<Class<?>> embeddables() {
-        return ClassGraphClassScanner.INSTANCE.embeddables();
+        return scanner().embeddables();
     }
 
     @Override
     public <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Class<T> filter) {
-        return ClassGraphClassScanner.INSTANCE.repositories(filter);
+        return scanner().repositories(filter);
     }
 
     @Override
     public Set<Class<?>> repositoriesStandard() {
-        return ClassGraphClassScanner.INSTANCE.repositoriesStandard();
+        return scanner().repositoriesStandard();
+    }
+
+    private static ClassScanner scanner() {
+        if (!ScanSettings.isIndexIgnored() && EntityIndexClassScanner.INSTANCE.exists()) {
+            return EntityIndexClassScanner.INSTANCE;
+        }
+        return ClassGraphClassScanner.INSTANCE;
     }
 }
@@ -15,6 +15,7 @@
  */
 package org.eclipse.jnosql.mapping.reflection;
 
+import jakarta.data.exceptions.MappingException;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.nosql.Column;
 import jakarta.nosql.Entity;
@@ -28,6 +29,7 @@ import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
@@ -92,6 +94,25 @@ public class Reflections {
         return true;
     }
 
+    /**
+     * Create new instance of this class using the constructor with parameters.
+     *
+     * @param constructor the constructor
+     * @param params      the parameters in the constructor order
+     * @param <T>         the instance type
+     * @return the new instance that class
+     * @throws MappingException when there is an issue to create the instance
+     */
+    static <T> T newInstance(Constructor<T> constructor, Object[] params) {
+        try {
+            return constructor.newInstance(params);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException
+                 | IllegalArgumentException exception) {
+            throw new MappingException("There is an issue to create a new instance of this class" +
+                    " using this constructor: " + constructor, exception);
+        }
+    }
+
     /**
      * Create new instance of this class.
      *
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The properties of the class scan, they are read from the MicroProfile Config and, when there is no
+ * implementation, from the system properties.
+ */
+final class ScanSettings {
+
+    /**
+     * The packages, separated by comma, where the classpath scan looks for the entities, embeddables and
+     * repositories when there is no entity index. By default, it scans the whole classpath.
+     */
+    static final String PACKAGES = "jnosql.scan.packages";
+
+    /**
+     * Ignore the entity index generated by the annotation processor and scan the classpath. By default, it is false.
+     */
+    static final String INDEX_IGNORE = "jnosql.scan.index.ignore";
+
+    private ScanSettings() {
+    }
+
+    static List<String> packages() {
+        return get(PACKAGES).map(value -> Arrays.stream(value.split(","))
+                        .map(String::trim)
+                        .filter(p -> !p.isEmpty())
+                        .toList())
+                .orElseGet(List::of);
+    }
+
+    static boolean isIndexIgnored() {
+        return get(INDEX_IGNORE).map(Boolean::parseBoolean).orElse(false);
+    }
+
+    private static Optional<String> get(String key) {
+        try {
+            return ConfigProvider.getConfig().getOptionalValue(key, String.class);
+        } catch (IllegalStateException exception) {
+            return Optional.ofNullable(System.getProperty(key));
+        }
+    }
+}
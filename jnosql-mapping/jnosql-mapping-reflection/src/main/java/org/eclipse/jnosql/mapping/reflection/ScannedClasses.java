@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.data.repository.BasicRepository;
+import jakarta.data.repository.CrudRepository;
+import jakarta.data.repository.DataRepository;
+import jakarta.data.repository.PageableRepository;
+import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+/**
+ * The {@link ClassScanner} of the classes found either by the classpath scan or by the entity index,
+ * where the repositories are the interfaces that extend {@link DataRepository} and whose entity
+ * has the {@link jakarta.nosql.Entity} annotation.
+ */
+final class ScannedClasses implements ClassScanner {
+
+    private final Set<Class<?>> entities;
+    private final Set<Class<?>> repositories;
+    private final Set<Class<?>> embeddables;
+
+    private ScannedClasses(Set<Class<?>> entities, Set<Class<?>> repositories, Set<Class<?>> embeddables) {
+        this.entities = entities;
+        this.repositories = repositories;
+        this.embeddables = embeddables;
+    }
+
+    @Override
+    public Set<Class<?>> entities() {
+        return entities;
+    }
+
+    @Override
+    public Set<Class<?>> repositories() {
+        return repositories;
+    }
+
+    @Override
+    public Set<Class<?>> embeddables() {
+        return embeddables;
+    }
+
+    @Override
+    public <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Class<T> filter) {
+        Objects.requireNonNull(filter, "filter is required");
+        return repositories.stream().filter(filter::isAssignableFrom)
+                .filter(c -> Arrays.asList(c.getInterfaces()).contains(filter))
+                .collect(toUnmodifiableSet());
+    }
+
+    @Override
+    public Set<Class<?>> repositoriesStandard() {
+        return repositories.stream()
+                .filter(c -> {
+                    List<Class<?>> interfaces = Arrays.asList(c.getInterfaces());
+                    return interfaces.contains(CrudRepository.class)
+                            || interfaces.contains(PageableRepository.class)
+                            || interfaces.contains(BasicRepository.class)
+                            || interfaces.contains(DataRepository.class);
+                }).collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Creates the scanned classes, the repositories are the interfaces annotated with
+     * {@link jakarta.data.repository.Repository}, and only the ones that extend {@link DataRepository} are kept.
+     *
+     * @param entities     the classes with the {@link jakarta.nosql.Entity} annotation
+     * @param embeddables  the classes with the {@link org.eclipse.jnosql.mapping.Embeddable} annotation
+     * @param repositories the interfaces with the {@link jakarta.data.repository.Repository} annotation
+     * @return the scanned classes
+     * @throws MappingException when there is a repository whose entity does not have the
+     *                          {@link jakarta.nosql.Entity} annotation
+     */
+    static ScannedClasses of(Collection<Class<?>> entities, Collection<Class<?>> embeddables,
+                             Collection<Class<?>> repositories) {
+        List<Class<?>> dataRepositories = repositories.stream()
+                .filter(Class::isInterface)
+                .filter(DataRepository.class::isAssignableFrom)
+                .toList();
+        checkInvalidRepositories(dataRepositories.stream().filter(RepositoryFilter.INSTANCE::isInvalid).toList());
+        return new ScannedClasses(Set.copyOf(entities),
+                dataRepositories.stream().filter(RepositoryFilter.INSTANCE).collect(toUnmodifiableSet()),
+                Set.copyOf(embeddables));
+    }
+
+    private static void checkInvalidRepositories(List<Class<?>> classes) {
+        if (!classes.isEmpty()) {
+            String repositories = classes.stream()
+                    .map(Class::getName)
+                    .collect(Collectors.joining(","));
+            throw new MappingException("The following repositories are invalid because the Entities must have the " +
+                    jakarta.nosql.Entity.class.getName() + " annotation: " + repositories);
+        }
+    }
+}
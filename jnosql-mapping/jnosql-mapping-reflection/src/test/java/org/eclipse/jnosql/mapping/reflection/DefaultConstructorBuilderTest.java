@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.mapping.reflection;
 
+import jakarta.data.exceptions.MappingException;
 import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.mapping.Convert;
 import org.eclipse.jnosql.mapping.metadata.ClassConverter;
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @EnableAutoWeld
 @AddPackages(value = Convert.class)
@@ -97,4 +99,14 @@ class DefaultConstructorBuilderTest {
         assertThat(builder).isEqualTo(other);
         assertThat(builder).hasSameHashCodeAs(other);
     }
+
+    @Test
+    void shouldReturnErrorWhenThereAreMoreValuesThanParameters(){
+        ConstructorBuilder builder = DefaultConstructorBuilder.of(constructor);
+        builder.add("id");
+        builder.add("name");
+        builder.addEmptyParameter();
+
+        assertThatThrownBy(() -> builder.add("other")).isInstanceOf(MappingException.class);
+    }
 }
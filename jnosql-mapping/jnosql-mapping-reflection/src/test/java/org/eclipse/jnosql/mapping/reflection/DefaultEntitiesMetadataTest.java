@@ -90,6 +90,19 @@ class DefaultEntitiesMetadataTest {
         Assertions.assertEquals(Person.class, mapping.type());
     }
 
+    @Test
+    void shouldFindByAnyName() {
+        this.mappings.load(Person.class);
+        this.mappings.load(Vendor.class);
+
+        assertThat(this.mappings.findByAnyName("VENDORS")).map(EntityMetadata::type).contains(Vendor.class);
+        assertThat(this.mappings.findByAnyName(Person.class.getSimpleName())).map(EntityMetadata::type)
+                .contains(Person.class);
+        assertThat(this.mappings.findByAnyName(Person.class.getName())).map(EntityMetadata::type)
+                .contains(Person.class);
+        assertThat(this.mappings.findByAnyName("unknown")).isEmpty();
+    }
+
     @Test
     void shouldLoadGetPriorityOnParent() {
         this.mappings.load(Notification.class);
@@ -133,6 +146,20 @@ class DefaultEntitiesMetadataTest {
         Assertions.assertNotNull(group.get("Project"));
     }
 
+    @Test
+    void shouldUpdateInheritanceGroupOnLoad() {
+        DefaultEntitiesMetadata entities = new DefaultEntitiesMetadata();
+        assertThat(entities.findByParentGroupByDiscriminatorValue(Project.class)).isEmpty();
+
+        entities.load(SmallProject.class);
+        entities.load(LargeProject.class);
+
+        Map<String, InheritanceMetadata> group = entities.findByParentGroupByDiscriminatorValue(Project.class);
+        assertThat(group).containsOnlyKeys("Small", "Large");
+        assertThat(entities.findByParentGroupByDiscriminatorValue(Project.class)).isSameAs(group);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> group.remove("Small"));
+    }
+
     @Test
     void shouldLoadUsingGet(){
         this.mappings.load(Movie.class);
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.data.repository.PageableRepository;
+import org.eclipse.jnosql.mapping.reflection.entities.Animal;
+import org.eclipse.jnosql.mapping.reflection.entities.AnimalRepository;
+import org.eclipse.jnosql.mapping.reflection.entities.Job;
+import org.eclipse.jnosql.mapping.reflection.entities.Person;
+import org.eclipse.jnosql.mapping.reflection.entities.PersonRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EntityIndexClassScannerTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldReturnEmptyWhenThereIsNoIndex() throws IOException {
+        try (URLClassLoader loader = loader()) {
+            assertThat(EntityIndexClassScanner.load(loader)).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldLoadIndex() throws IOException {
+        index("""
+                entity org.eclipse.jnosql.mapping.reflection.entities.Person
+                embeddable org.eclipse.jnosql.mapping.reflection.entities.Job
+                repository org.eclipse.jnosql.mapping.reflection.entities.PersonRepository
+                entity org.eclipse.jnosql.mapping.reflection.entities.NotFound
+                unknown org.eclipse.jnosql.mapping.reflection.entities.Person
+                """);
+        System.setProperty(ScanSettings.PACKAGES, "org.eclipse.jnosql.mapping.reflection.notfound");
+        try (URLClassLoader loader = loader()) {
+            Optional<ScannedClasses> classes = EntityIndexClassScanner.load(loader);
+            assertThat(classes).isPresent();
+            assertThat(classes.get().entities()).containsExactly(Person.class);
+            assertThat(classes.get().embeddables()).containsExactly(Job.class);
+            assertThat(classes.get().repositories()).containsExactly(PersonRepository.class);
+            assertThat(classes.get().repositories(PageableRepository.class)).containsExactly(PersonRepository.class);
+            assertThat(classes.get().repositoriesStandard()).containsExactly(PersonRepository.class);
+        } finally {
+            System.clearProperty(ScanSettings.PACKAGES);
+        }
+    }
+
+    @Test
+    void shouldScanRootsWithoutIndex() throws IOException {
+        index("entity " + Person.class.getName());
+        System.setProperty(ScanSettings.PACKAGES, Animal.class.getPackageName());
+        try (URLClassLoader loader = loader()) {
+            Optional<ScannedClasses> classes = EntityIndexClassScanner.load(loader);
+            assertThat(classes).isPresent();
+            assertThat(classes.get().entities()).contains(Person.class, Animal.class);
+            assertThat(classes.get().embeddables()).contains(Job.class);
+            assertThat(classes.get().repositories()).contains(PersonRepository.class, AnimalRepository.class);
+        } finally {
+            System.clearProperty(ScanSettings.PACKAGES);
+        }
+    }
+
+    @Test
+    void shouldReturnSameRootToIndexAndClasspathElement() throws IOException {
+        URL directoryIndex = directory.resolve(EntityIndexClassScanner.INDEX).toUri().toURL();
+        assertThat(EntityIndexClassScanner.root(directoryIndex))
+                .isEqualTo(EntityIndexClassScanner.root(directory.toUri().toURL()));
+
+        Path jar = directory.resolve("entities.jar");
+        URL jarIndex = new URL("jar:" + jar.toUri() + "!/" + EntityIndexClassScanner.INDEX);
+        assertThat(EntityIndexClassScanner.root(jarIndex))
+                .isEqualTo(EntityIndexClassScanner.root(jar.toUri().toURL()))
+                .isNotEqualTo(EntityIndexClassScanner.root(directoryIndex));
+    }
+
+    @Test
+    void shouldReturnErrorWhenRepositoryEntityIsInvalid() throws IOException {
+        index("repository " + InvalidRepository.class.getName());
+        try (URLClassLoader loader = loader()) {
+            assertThatThrownBy(() -> EntityIndexClassScanner.load(loader))
+                    .isInstanceOf(MappingException.class);
+        }
+    }
+
+    private void index(String content) throws IOException {
+        Path index = directory.resolve(EntityIndexClassScanner.INDEX);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, content);
+    }
+
+    private URLClassLoader loader() throws IOException {
+        return new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    interface InvalidRepository extends PageableRepository<String, String> {
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+/**
+ * The accessors of {@link GeneratedAccessorStrategyTest.Vehicle} in the format of the
+ * jnosql-mapping-processor, where the values have a prefix to show that this class was used.
+ */
+public final class GeneratedAccessorStrategyTest$Vehicle_JNoSQLAccessors implements EntityAccessors {
+
+    @Override
+    public java.util.Optional<FieldReader> reader(String field) {
+        return switch (field) {
+            case "model" -> java.util.Optional.<FieldReader>of(bean ->
+                    ((GeneratedAccessorStrategyTest.Vehicle) bean).model);
+            default -> java.util.Optional.empty();
+        };
+    }
+
+    @Override
+    public java.util.Optional<FieldWriter> writer(String field) {
+        return switch (field) {
+            case "model" -> java.util.Optional.<FieldWriter>of((bean, value) ->
+                    ((GeneratedAccessorStrategyTest.Vehicle) bean).model = "generated " + (String) value);
+            default -> java.util.Optional.empty();
+        };
+    }
+
+    @Override
+    public java.util.Optional<InstanceSupplier> instanceSupplier() {
+        return java.util.Optional.<InstanceSupplier>of(GeneratedAccessorStrategyTest.Vehicle::new);
+    }
+
+    @Override
+    public java.util.Optional<InstanceFactory> instanceFactory(String parameters) {
+        return switch (parameters) {
+            case "java.lang.String,int" -> java.util.Optional.<InstanceFactory>of(params ->
+                    new GeneratedAccessorStrategyTest.Vehicle("generated " + params[0], (int) params[1]));
+            default -> java.util.Optional.empty();
+        };
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeneratedAccessorStrategyTest {
+
+    private final GeneratedAccessorStrategy strategy = new GeneratedAccessorStrategy();
+
+    private final Reflections reflections = new Reflections();
+
+    @Test
+    void shouldLoadDefaultStrategy() {
+        assertThat(AccessorStrategy.load()).isInstanceOf(GeneratedAccessorStrategy.class);
+    }
+
+    @Test
+    void shouldUseGeneratedAccessors() {
+        Field field = field(Vehicle.class, "model");
+        Vehicle vehicle = new Vehicle();
+
+        strategy.writer(field).write(vehicle, "Ford");
+
+        assertThat(vehicle.model).isEqualTo("generated Ford");
+        assertThat(strategy.reader(field).read(vehicle)).isEqualTo("generated Ford");
+    }
+
+    @Test
+    void shouldReturnErrorWhenGeneratedAccessorsFail() {
+        Field field = field(Vehicle.class, "model");
+        Vehicle vehicle = new Vehicle();
+
+        assertThatThrownBy(() -> strategy.writer(field).write(vehicle, 10))
+                .isInstanceOf(MappingException.class)
+                .hasCauseInstanceOf(ClassCastException.class);
+        assertThatThrownBy(() -> strategy.reader(field).read(new Bike()))
+                .isInstanceOf(MappingException.class);
+        assertThat(vehicle.model).isEqualTo("generated");
+    }
+
+    @Test
+    void shouldFallbackWhenFieldIsNotGenerated() {
+        Field field = field(Vehicle.class, "year");
+        Vehicle vehicle = new Vehicle();
+
+        strategy.writer(field).write(vehicle, 2023);
+
+        assertThat(strategy.reader(field).read(vehicle)).isEqualTo(2023);
+    }
+
+    @Test
+    void shouldFallbackWhenClassIsNotGenerated() {
+        Field field = field(Bike.class, "model");
+        Bike bike = new Bike();
+
+        strategy.writer(field).write(bike, "BMX");
+
+        assertThat(strategy.reader(field).read(bike)).isEqualTo("BMX");
+    }
+
+    @Test
+    void shouldCreateInstance() throws NoSuchMethodException {
+        Constructor<Vehicle> constructor = Vehicle.class.getDeclaredConstructor();
+        Vehicle vehicle = (Vehicle) strategy.instanceSupplier(constructor).get();
+        assertThat(vehicle.model).isEqualTo("generated");
+    }
+
+    @Test
+    void shouldCreateInstanceWithParameters() throws NoSuchMethodException {
+        Constructor<Vehicle> constructor = Vehicle.class.getDeclaredConstructor(String.class, int.class);
+        Vehicle vehicle = (Vehicle) strategy.instanceFactory(constructor).apply(new Object[]{"Ford", 2023});
+        assertThat(vehicle.model).isEqualTo("generated Ford");
+        assertThat(vehicle.year).isEqualTo(2023);
+    }
+
+    @Test
+    void shouldReturnErrorWhenInstanceFactoryFails() throws NoSuchMethodException {
+        Constructor<Vehicle> constructor = Vehicle.class.getDeclaredConstructor(String.class, int.class);
+        InstanceFactory factory = strategy.instanceFactory(constructor);
+        assertThatThrownBy(() -> factory.apply(new Object[]{"Ford", null}))
+                .isInstanceOf(MappingException.class);
+    }
+
+    private Field field(Class<?> type, String name) {
+        try {
+            Field field = type.getDeclaredField(name);
+            reflections.makeAccessible(field);
+            return field;
+        } catch (NoSuchFieldException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    public static class Vehicle {
+
+        String model;
+
+        private int year;
+
+        public Vehicle() {
+            this.model = "generated";
+        }
+
+        public Vehicle(String model, int year) {
+            this.model = model;
+            this.year = year;
+        }
+    }
+
+    public static class Bike {
+
+        private String model;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MethodHandleAccessorStrategyTest {
+
+    private final MethodHandleAccessorStrategy strategy = new MethodHandleAccessorStrategy();
+
+    private final Reflections reflections = new Reflections();
+
+    @Test
+    void shouldReadAndWriteField() {
+        Field field = field("name");
+        Animal animal = new Animal();
+
+        strategy.writer(field).write(animal, "Ada");
+
+        assertThat(animal.name).isEqualTo("Ada");
+        assertThat(strategy.reader(field).read(animal)).isEqualTo("Ada");
+    }
+
+    @Test
+    void shouldReadAndWritePrimitiveField() {
+        Field field = field("age");
+        Animal animal = new Animal();
+
+        strategy.writer(field).write(animal, 10);
+
+        assertThat(animal.age).isEqualTo(10);
+        assertThat(strategy.reader(field).read(animal)).isEqualTo(10);
+    }
+
+    @Test
+    void shouldIgnoreInvalidValue() {
+        Field field = field("age");
+        Animal animal = new Animal();
+
+        strategy.writer(field).write(animal, "invalid");
+        strategy.writer(field).write(animal, null);
+
+        assertThat(animal.age).isZero();
+    }
+
+    @Test
+    void shouldReturnNullWhenBeanIsInvalid() {
+        FieldReader reader = strategy.reader(field("name"));
+        assertThat(reader.read("invalid")).isNull();
+    }
+
+    @Test
+    void shouldWriteFinalField() {
+        Field field = field("id");
+        Animal animal = new Animal();
+
+        strategy.writer(field).write(animal, "id");
+
+        assertThat(strategy.reader(field).read(animal)).isEqualTo("id");
+    }
+
+    @Test
+    void shouldCreateInstance() {
+        Constructor<Animal> constructor = Reflections.getConstructor(Animal.class);
+        Object instance = strategy.instanceSupplier(constructor).get();
+        assertThat(instance).isInstanceOf(Animal.class);
+    }
+
+    @Test
+    void shouldCreateInstanceWithParameters() throws NoSuchMethodException {
+        Constructor<Car> constructor = Car.class.getDeclaredConstructor(String.class, int.class);
+        Car car = (Car) strategy.instanceFactory(constructor).apply(new Object[]{"Ford", 2023});
+        assertThat(car.model).isEqualTo("Ford");
+        assertThat(car.year).isEqualTo(2023);
+    }
+
+    @Test
+    void shouldReturnErrorWhenInstanceFactoryFails() throws NoSuchMethodException {
+        Constructor<Car> constructor = Car.class.getDeclaredConstructor(String.class, int.class);
+        InstanceFactory factory = strategy.instanceFactory(constructor);
+        assertThatThrownBy(() -> factory.apply(new Object[]{"Ford", null}))
+                .isInstanceOf(MappingException.class);
+    }
+
+    private Field field(String name) {
+        try {
+            Field field = Animal.class.getDeclaredField(name);
+            reflections.makeAccessible(field);
+            return field;
+        } catch (NoSuchFieldException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    public static class Car {
+
+        private final String model;
+
+        private final int year;
+
+        public Car(String model, int year) {
+            this.model = model;
+            this.year = year;
+        }
+    }
+
+    public static class Animal {
+
+        private final String id = null;
+
+        private String name;
+
+        private int age;
+    }
+}